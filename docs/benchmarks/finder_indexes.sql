@@ -0,0 +1,118 @@
+-- Seeds about 1M interviewer slots, 1M candidate slots, 100k limits and 200k bookings,
+-- and shows the plans of the repository finders on them. Everything is rolled back.
+-- Run against a database created from docs/schema.sql (e.g. the docker-compose one):
+--   psql -v ON_ERROR_STOP=1 -f docs/benchmarks/finder_indexes.sql
+-- Each plan should scan the index named in the comment above it.
+
+BEGIN;
+
+-- 1000 interviewers
+INSERT INTO users (email, "role")
+SELECT 'bench_interviewer_' || i || '@bench.test', 'INTERVIEWER'
+FROM generate_series(1, 1000) i;
+
+-- 1000 interviewers x 100 weeks x 5 days x 2 slots = 1M interviewer slots
+INSERT INTO interviewer_time_slots (interviewer_id, week_number, day_of_week, start_time, end_time)
+SELECT u.id, (2020 + w / 52)::text || (w % 52 + 1)::text, d,
+       time '08:00' + s * interval '3 hours', time '09:30' + s * interval '3 hours'
+FROM users u, generate_series(0, 99) w, generate_series(1, 5) d, generate_series(0, 1) s
+WHERE u.email LIKE 'bench_interviewer_%';
+
+-- 1000 interviewers x 100 weeks = 100k limits
+INSERT INTO interviewer_booking_limits (interviewer_id, week_number, week_booking_limit)
+SELECT u.id, (2020 + w / 52)::text || (w % 52 + 1)::text, 10
+FROM users u, generate_series(0, 99) w
+WHERE u.email LIKE 'bench_interviewer_%';
+
+-- 100k candidates x 10 days = 1M candidate slots
+INSERT INTO candidate_time_slots (email, "name", interview_date, start_time, end_time)
+SELECT 'bench_candidate_' || c || '@bench.test', 'Candidate ' || c,
+       date '2026-01-05' + k, time '08:00', time '09:30'
+FROM generate_series(1, 100000) c, generate_series(0, 9) k;
+
+-- 200k bookings, one per slot on both sides
+INSERT INTO bookings (subject, description, candidate_time_slot_id, interviewer_time_slot_id,
+                      start_time, end_time)
+SELECT 'Interview', 'Benchmark booking', cts.id, its.id, its.start_time, its.end_time
+FROM (SELECT id, start_time, end_time, row_number() OVER () rn
+      FROM interviewer_time_slots LIMIT 200000) its
+JOIN (SELECT id, row_number() OVER () rn FROM candidate_time_slots LIMIT 200000) cts
+  ON cts.rn = its.rn;
+
+ANALYZE users, interviewer_time_slots, interviewer_booking_limits, candidate_time_slots, bookings;
+
+SELECT id AS interviewer_id FROM users WHERE email = 'bench_interviewer_500@bench.test' \gset
+SELECT b.interviewer_time_slot_id AS slot_id FROM bookings b LIMIT 1 \gset
+
+-- InterviewerTimeSlotRepository.findByInterviewerIdAndWeekNum
+-- interviewer_time_slots_interviewer_week_day_idx
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM interviewer_time_slots
+WHERE interviewer_id = :'interviewer_id' AND week_number = '202610';
+
+-- InterviewerTimeSlotRepository.findByDayOfWeekAndInterviewerIdAndWeekNum
+-- interviewer_time_slots_interviewer_week_day_idx
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM interviewer_time_slots
+WHERE day_of_week = 3 AND interviewer_id = :'interviewer_id' AND week_number = '202610';
+
+-- InterviewerTimeSlotRepository.copySlotsToWeek, the overlap check is an index only scan of
+-- interviewer_time_slots_interviewer_week_day_idx
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT 1 FROM interviewer_time_slots s
+WHERE s.interviewer_id = :'interviewer_id' AND s.week_number = '202610'
+AND NOT EXISTS (SELECT 1 FROM interviewer_time_slots t
+                WHERE t.interviewer_id = s.interviewer_id AND t.week_number = '202611'
+                AND t.day_of_week = s.day_of_week
+                AND t.start_time < s.end_time AND t.end_time > s.start_time);
+
+-- InterviewerTimeSlotRepository.findWithBookingsByWeekNum
+-- interviewer_time_slots_week_number_idx, bookings_interviewer_time_slot_id_idx
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT s.*, b.* FROM interviewer_time_slots s
+LEFT JOIN bookings b ON b.interviewer_time_slot_id = s.id
+WHERE s.week_number = '202610';
+
+-- InterviewerBookingLimitRepository.findByInterviewerIdAndWeekNum and the limit updates
+-- interviewer_booking_limits_interviewer_week_key
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM interviewer_booking_limits
+WHERE interviewer_id = :'interviewer_id' AND week_number = '202610';
+
+-- InterviewerBookingLimitRepository.findByInterviewerId
+-- interviewer_booking_limits_interviewer_week_key
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM interviewer_booking_limits WHERE interviewer_id = :'interviewer_id';
+
+-- CandidateTimeSlotRepository.findByEmailAndDate
+-- candidate_time_slots_email_date_idx
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM candidate_time_slots
+WHERE email = 'bench_candidate_500@bench.test' AND interview_date = date '2026-01-07';
+
+-- CandidateTimeSlotRepository.findByEmail
+-- candidate_time_slots_email_date_idx
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM candidate_time_slots WHERE email = 'bench_candidate_500@bench.test';
+
+-- CandidateTimeSlotRepository.findWithBookingsByDateBetween
+-- candidate_time_slots_interview_date_idx, bookings_candidate_time_slot_key
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT s.*, b.* FROM candidate_time_slots s
+LEFT JOIN bookings b ON b.candidate_time_slot_id = s.id
+WHERE s.interview_date BETWEEN date '2026-01-05' AND date '2026-01-05';
+
+-- BookingRepository.findValidationView, the overlap count is an index only scan of
+-- bookings_interviewer_time_slot_id_idx
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM bookings
+WHERE interviewer_time_slot_id = :'slot_id' AND start_time < time '12:00' AND end_time > time '10:30';
+
+-- BookingRepository.countByInterviewerIdAndWeekNum
+-- interviewer_time_slots_interviewer_week_day_idx, bookings_interviewer_time_slot_id_idx
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(b.id) FROM bookings b, interviewer_time_slots s
+WHERE b.interviewer_time_slot_id = s.id
+AND s.interviewer_id = :'interviewer_id' AND s.week_number = '202610';
+
+ROLLBACK;
@@ -0,0 +1,28 @@
+-- Upgrades a database created from an earlier docs/schema.sql to the indexes of the
+-- repository finders. Run with psql outside of a transaction:
+--   psql -v ON_ERROR_STOP=1 -f docs/migrations/001_finder_indexes.sql
+
+-- Fails if an interviewer already has several limits for a week, list them with
+--   SELECT interviewer_id, week_number, count(*) FROM interviewer_booking_limits
+--   GROUP BY interviewer_id, week_number HAVING count(*) > 1;
+-- and keep one limit of each before running it again.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS interviewer_booking_limits_interviewer_week_key
+ON interviewer_booking_limits (interviewer_id, week_number);
+ALTER TABLE interviewer_booking_limits
+ADD CONSTRAINT interviewer_booking_limits_interviewer_week_key
+UNIQUE USING INDEX interviewer_booking_limits_interviewer_week_key;
+DROP INDEX CONCURRENTLY IF EXISTS interviewer_booking_limits_week_number_idx;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS candidate_time_slots_email_date_idx
+ON candidate_time_slots (email, interview_date);
+DROP INDEX CONCURRENTLY IF EXISTS candidate_time_slots_email_idx;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS interviewer_time_slots_interviewer_week_day_idx
+ON interviewer_time_slots (interviewer_id, week_number, day_of_week) INCLUDE (start_time, end_time);
+DROP INDEX CONCURRENTLY IF EXISTS interviewer_time_slots_interviewer_week_idx;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bookings_interviewer_time_slot_id_covering_idx
+ON bookings (interviewer_time_slot_id) INCLUDE (start_time, end_time);
+DROP INDEX CONCURRENTLY IF EXISTS bookings_interviewer_time_slot_id_idx;
+ALTER INDEX bookings_interviewer_time_slot_id_covering_idx
+RENAME TO bookings_interviewer_time_slot_id_idx;
@@ -0,0 +1,103 @@
+-- Adds the overlap constraints of docs/schema.sql to a database created before them:
+-- the timerange type, the generated period columns, the GiST exclusion constraints and
+-- the unique candidate slot of bookings. Run with psql, then set
+-- overlap.database-constraints=true:
+--   psql -v ON_ERROR_STOP=1 -f docs/migrations/002_overlap_constraints.sql
+-- Everything runs in one transaction, so a failed check leaves the database as it was.
+-- Adding the period columns rewrites the tables under an exclusive lock, so run it when
+-- the application is stopped or idle.
+
+BEGIN;
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Fails, listing the counts, if existing rows break the constraints. Find them with
+--   SELECT a.id, b.id FROM interviewer_time_slots a JOIN interviewer_time_slots b
+--   ON a.id < b.id AND a.interviewer_id = b.interviewer_id AND a.week_number = b.week_number
+--   AND a.day_of_week = b.day_of_week
+--   AND a.start_time < b.end_time AND b.start_time < a.end_time;
+-- and the same self joins of the checks below, then merge or delete them and run it again.
+DO $$
+DECLARE
+	reversed bigint;
+	interviewer_overlaps bigint;
+	candidate_overlaps bigint;
+	booking_overlaps bigint;
+	double_bookings bigint;
+BEGIN
+	SELECT (SELECT count(*) FROM interviewer_time_slots WHERE start_time > end_time)
+		+ (SELECT count(*) FROM candidate_time_slots WHERE start_time > end_time)
+		+ (SELECT count(*) FROM bookings WHERE start_time > end_time)
+	INTO reversed;
+
+	SELECT count(*) INTO interviewer_overlaps
+	FROM interviewer_time_slots a JOIN interviewer_time_slots b
+	ON a.id < b.id AND a.interviewer_id = b.interviewer_id AND a.week_number = b.week_number
+	AND a.day_of_week = b.day_of_week
+	AND a.start_time < b.end_time AND b.start_time < a.end_time;
+
+	SELECT count(*) INTO candidate_overlaps
+	FROM candidate_time_slots a JOIN candidate_time_slots b
+	ON a.id < b.id AND a.email = b.email AND a.interview_date = b.interview_date
+	AND a.start_time < b.end_time AND b.start_time < a.end_time;
+
+	SELECT count(*) INTO booking_overlaps
+	FROM bookings a JOIN bookings b
+	ON a.id < b.id AND a.interviewer_time_slot_id = b.interviewer_time_slot_id
+	AND a.start_time < b.end_time AND b.start_time < a.end_time;
+
+	SELECT count(*) INTO double_bookings FROM (
+		SELECT candidate_time_slot_id FROM bookings
+		GROUP BY candidate_time_slot_id HAVING count(*) > 1) d;
+
+	IF reversed + interviewer_overlaps + candidate_overlaps + booking_overlaps
+		+ double_bookings > 0 THEN
+		RAISE EXCEPTION 'rows break the overlap constraints: % ending before they start, '
+			'% overlapping interviewer slot pairs, % overlapping candidate slot pairs, '
+			'% overlapping booking pairs, % candidate slots booked more than once',
+			reversed, interviewer_overlaps, candidate_overlaps, booking_overlaps,
+			double_bookings;
+	END IF;
+END $$;
+
+-- half-open [start_time, end_time) periods, so adjacent periods don't overlap
+DO $$
+BEGIN
+	CREATE TYPE timerange AS RANGE (subtype = time);
+EXCEPTION
+	WHEN duplicate_object THEN NULL;
+END $$;
+
+ALTER TABLE interviewer_time_slots ADD COLUMN IF NOT EXISTS
+	period timerange GENERATED ALWAYS AS (timerange(start_time, end_time)) STORED;
+ALTER TABLE candidate_time_slots ADD COLUMN IF NOT EXISTS
+	period timerange GENERATED ALWAYS AS (timerange(start_time, end_time)) STORED;
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS
+	period timerange GENERATED ALWAYS AS (timerange(start_time, end_time)) STORED;
+
+DO $$
+BEGIN
+	IF NOT EXISTS (SELECT 1 FROM pg_constraint
+		WHERE conname = 'interviewer_time_slots_no_overlap') THEN
+		ALTER TABLE interviewer_time_slots ADD CONSTRAINT interviewer_time_slots_no_overlap
+			EXCLUDE USING gist (interviewer_id WITH =, week_number WITH =, day_of_week WITH =,
+				period WITH &&);
+	END IF;
+	IF NOT EXISTS (SELECT 1 FROM pg_constraint
+		WHERE conname = 'candidate_time_slots_no_overlap') THEN
+		ALTER TABLE candidate_time_slots ADD CONSTRAINT candidate_time_slots_no_overlap
+			EXCLUDE USING gist (email WITH =, interview_date WITH =, period WITH &&);
+	END IF;
+	IF NOT EXISTS (SELECT 1 FROM pg_constraint
+		WHERE conname = 'bookings_no_overlap') THEN
+		ALTER TABLE bookings ADD CONSTRAINT bookings_no_overlap
+			EXCLUDE USING gist (interviewer_time_slot_id WITH =, period WITH &&);
+	END IF;
+	IF NOT EXISTS (SELECT 1 FROM pg_constraint
+		WHERE conname = 'bookings_candidate_time_slot_key') THEN
+		ALTER TABLE bookings ADD CONSTRAINT bookings_candidate_time_slot_key
+			UNIQUE (candidate_time_slot_id);
+	END IF;
+END $$;
+
+COMMIT;
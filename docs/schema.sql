@@ -1,17 +1,26 @@
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+-- equality on scalar columns inside GiST exclusion constraints
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- half-open [start_time, end_time) periods, so adjacent periods don't overlap
+CREATE TYPE timerange AS RANGE (subtype = time);
 
 CREATE TABLE candidate_time_slots (
 	id uuid NOT NULL DEFAULT uuid_generate_v4(),
-	interview_date date NULL,
-	start_time time NULL,
-	end_time time NULL,
+	interview_date date NOT NULL,
+	start_time time NOT NULL,
+	end_time time NOT NULL,
 	email varchar(255) NULL,
 	"name" varchar(255) NULL,
-	CONSTRAINT candidate_time_slots_pkey PRIMARY KEY (id)
+	period timerange GENERATED ALWAYS AS (timerange(start_time, end_time)) STORED,
+	CONSTRAINT candidate_time_slots_pkey PRIMARY KEY (id),
+	CONSTRAINT candidate_time_slots_no_overlap
+		EXCLUDE USING gist (email WITH =, interview_date WITH =, period WITH &&)
 );
 
-CREATE INDEX candidate_time_slots_email_idx
-ON candidate_time_slots (email);
+-- findByEmailAndDate, and findByEmail by its leading column
+CREATE INDEX candidate_time_slots_email_date_idx
+ON candidate_time_slots (email, interview_date);
 
 CREATE INDEX candidate_time_slots_interview_date_idx
 ON candidate_time_slots (interview_date);
@@ -28,6 +37,13 @@ CREATE TABLE users (
 CREATE INDEX users_role_idx
 ON users (role);
 
+-- role epochs outlive the users, revoking a role deletes the user
+CREATE TABLE user_epochs (
+	email varchar(64) NOT NULL,
+	epoch int8 NOT NULL DEFAULT 0,
+	CONSTRAINT user_epochs_pkey PRIMARY KEY (email)
+);
+
 CREATE TABLE interviewer_booking_limits (
 	id uuid NOT NULL DEFAULT uuid_generate_v4(),
 	week_booking_limit int4 NOT NULL DEFAULT 0,
@@ -35,44 +51,54 @@ CREATE TABLE interviewer_booking_limits (
 	interviewer_id uuid NULL,
 	week_number varchar(10) NOT NULL,
 	CONSTRAINT interviewer_booking_limits_pkey PRIMARY KEY (id),
-	CONSTRAINT interviewer_booking_limits_interviewer_id_fkey FOREIGN KEY (interviewer_id) REFERENCES users(id)
+	CONSTRAINT interviewer_booking_limits_interviewer_id_fkey FOREIGN KEY (interviewer_id) REFERENCES users(id),
+	-- one limit per interviewer per week, also serves every finder and update of the limits
+	CONSTRAINT interviewer_booking_limits_interviewer_week_key UNIQUE (interviewer_id, week_number)
 );
 
-CREATE INDEX interviewer_booking_limits_week_number_idx
-ON interviewer_booking_limits (week_number);
-
 CREATE TABLE interviewer_time_slots (
 	id uuid NOT NULL DEFAULT uuid_generate_v4(),
 	day_of_week int4 NOT NULL,
 	interviewer_id uuid NULL,
-	start_time time NULL,
-	end_time time NULL,
+	start_time time NOT NULL,
+	end_time time NOT NULL,
 	week_number varchar(10) NOT NULL,
+	period timerange GENERATED ALWAYS AS (timerange(start_time, end_time)) STORED,
 	CONSTRAINT interviewer_time_slots_pkey PRIMARY KEY (id),
-	CONSTRAINT interviewer_time_slots_interviewer_id_fkey FOREIGN KEY (interviewer_id) REFERENCES users(id)
+	CONSTRAINT interviewer_time_slots_interviewer_id_fkey FOREIGN KEY (interviewer_id) REFERENCES users(id),
+	CONSTRAINT interviewer_time_slots_no_overlap
+		EXCLUDE USING gist (interviewer_id WITH =, week_number WITH =, day_of_week WITH =, period WITH &&)
 );
 
 CREATE INDEX interviewer_time_slots_week_number_idx
 ON interviewer_time_slots (week_number);
 
+-- slots of an interviewer's week or day (findByInterviewerIdAndWeekNum,
+-- findByDayOfWeekAndInterviewerIdAndWeekNum), covering the overlap check of copying slots forward
+CREATE INDEX interviewer_time_slots_interviewer_week_day_idx
+ON interviewer_time_slots (interviewer_id, week_number, day_of_week) INCLUDE (start_time, end_time);
+
 CREATE TABLE bookings (
 	id uuid NOT NULL DEFAULT uuid_generate_v4(),
 	subject varchar(255) NOT NULL,
 	description varchar(4000) NOT NULL,
-	candidate_time_slot_id uuid NULL,
-	interviewer_time_slot_id uuid NULL,
-	start_time time NULL,
-	end_time time NULL,
+	candidate_time_slot_id uuid NOT NULL,
+	interviewer_time_slot_id uuid NOT NULL,
+	start_time time NOT NULL,
+	end_time time NOT NULL,
+	period timerange GENERATED ALWAYS AS (timerange(start_time, end_time)) STORED,
 	CONSTRAINT bookings_pkey PRIMARY KEY (id),
 	CONSTRAINT bookings_candidate_time_slot_id_fkey FOREIGN KEY (candidate_time_slot_id) REFERENCES candidate_time_slots(id),
-	CONSTRAINT bookings_interviewer_time_slot_id_fkey FOREIGN KEY (interviewer_time_slot_id) REFERENCES interviewer_time_slots(id)
+	CONSTRAINT bookings_interviewer_time_slot_id_fkey FOREIGN KEY (interviewer_time_slot_id) REFERENCES interviewer_time_slots(id),
+	-- a candidate slot is booked at most once, also serves lookups by candidate slot
+	CONSTRAINT bookings_candidate_time_slot_key UNIQUE (candidate_time_slot_id),
+	CONSTRAINT bookings_no_overlap
+		EXCLUDE USING gist (interviewer_time_slot_id WITH =, period WITH &&)
 );
 
-CREATE INDEX bookings_candidate_time_slot_id_idx
-ON bookings (candidate_time_slot_id);
-
+-- bookings of interviewer slots, covering the overlap count of booking validation
 CREATE INDEX bookings_interviewer_time_slot_id_idx
-ON bookings (interviewer_time_slot_id);
+ON bookings (interviewer_time_slot_id) INCLUDE (start_time, end_time);
 
 --add the first coordinator to the db on the app start
 INSERT INTO users (email, role) VALUES ('first_coordinator@gmail.com', 'COORDINATOR');
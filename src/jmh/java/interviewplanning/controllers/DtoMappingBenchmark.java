@@ -0,0 +1,121 @@
+package interviewplanning.controllers;
+
+import interviewplanning.configuration.WebConfig;
+import interviewplanning.dto.BookingRequestDto;
+import interviewplanning.dto.CandidateTimeSlotRequestDto;
+import interviewplanning.dto.InterviewerBookingLimitDto;
+import interviewplanning.dto.InterviewerTimeSlotRequestDto;
+import interviewplanning.dto.InterviewerTimeSlotResponseDto;
+import interviewplanning.dto.UserDto;
+import interviewplanning.dto.UserRequestDto;
+import interviewplanning.models.Booking;
+import interviewplanning.models.CandidateTimeSlot;
+import interviewplanning.models.InterviewerBookingLimit;
+import interviewplanning.models.InterviewerTimeSlot;
+import interviewplanning.models.User;
+import interviewplanning.models.UserRole;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mapping of request DTOs to models and of models to response DTOs by the
+ * controllers, with the application's ModelMapper or with builders.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+  private InterviewerController interviewerController;
+  private CoordinatorController coordinatorController;
+  private CandidateController candidateController;
+  private InterviewerTimeSlotRequestDto interviewerSlotDto;
+  private CandidateTimeSlotRequestDto candidateSlotDto;
+  private InterviewerBookingLimitDto bookingLimitDto;
+  private UserRequestDto userDto;
+  private BookingRequestDto bookingDto;
+  private InterviewerTimeSlot interviewerSlot;
+  private User user;
+
+  /**
+   * Build the controllers around the application's model mapper, and the
+   * DTOs and models to map.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    ModelMapper modelMapper = new WebConfig().modelMapper();
+    interviewerController = new InterviewerController(null, modelMapper, null, null, null);
+    coordinatorController = new CoordinatorController(null, null, modelMapper, null, null,
+        null, null);
+    candidateController = new CandidateController(null, modelMapper, null);
+
+    LocalTime from = LocalTime.of(9, 0);
+    LocalTime to = LocalTime.of(10, 30);
+    interviewerSlotDto = new InterviewerTimeSlotRequestDto("202643", DayOfWeek.MONDAY, from, to);
+    candidateSlotDto = new CandidateTimeSlotRequestDto(LocalDate.of(2026, 10, 19), from, to);
+    bookingLimitDto = new InterviewerBookingLimitDto(5, "202643");
+    userDto = new UserRequestDto("interviewer@gmail.com");
+    bookingDto = new BookingRequestDto(from, to, UUID.randomUUID(), UUID.randomUUID(),
+        "Interview", "Java developer");
+    interviewerSlot = InterviewerTimeSlot.builder()
+        .id(UUID.randomUUID())
+        .weekNum("202643")
+        .dayOfWeek(DayOfWeek.MONDAY)
+        .from(from)
+        .to(to)
+        .build();
+    user = new User(UUID.randomUUID(), "interviewer@gmail.com", UserRole.INTERVIEWER);
+  }
+
+  @Benchmark
+  public InterviewerTimeSlot mapToInterviewerTimeSlot() {
+    return interviewerController.mapToInterviewerTimeSlot(interviewerSlotDto);
+  }
+
+  @Benchmark
+  public CandidateTimeSlot mapToCandidateTimeSlot() {
+    return candidateController.mapToCandidateTimeSlot(candidateSlotDto);
+  }
+
+  @Benchmark
+  public InterviewerBookingLimit mapToInterviewerBookingLimit() {
+    return interviewerController.mapToInterviewerBookingLimit(bookingLimitDto);
+  }
+
+  @Benchmark
+  public User mapToUser() {
+    return coordinatorController.mapToUser(userDto);
+  }
+
+  @Benchmark
+  public Booking mapToBooking() {
+    return coordinatorController.mapToBooking(bookingDto);
+  }
+
+  @Benchmark
+  public InterviewerTimeSlotResponseDto mapToInterviewerTimeSlotResponseDto() {
+    return interviewerController.mapToInterviewerTimeSlotResponseDto(interviewerSlot);
+  }
+
+  @Benchmark
+  public UserDto mapToUserResponseDto() {
+    return coordinatorController.mapToUserResponseDto(user);
+  }
+}
@@ -0,0 +1,98 @@
+package interviewplanning.security;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import interviewplanning.cache.RoleEpochs;
+import interviewplanning.cache.UserRoleCache;
+import interviewplanning.models.User;
+import interviewplanning.models.UserRole;
+import interviewplanning.repositories.UserEpochRepository;
+import interviewplanning.repositories.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.io.IOException;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Cost of authenticating a repeat request with the same bearer token,
+ * with and without the verified token cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenFilterBenchmark {
+  private static final String SECRET = "a759bdB2hJ+ghFpF";
+  private static final String EMAIL = "interviewer@gmail.com";
+
+  @Param({"true", "false"})
+  private boolean cached;
+
+  private JwtTokenFilter filter;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+  private final FilterChain chain = (req, res) -> { };
+
+  /**
+   * Build the filter and a request carrying a signed token.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    UserRepository userRepository = mock(UserRepository.class);
+    when(userRepository.findByEmail(EMAIL))
+        .thenReturn(Optional.of(new User(EMAIL, UserRole.INTERVIEWER)));
+    JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(null,
+        new UserRoleCache(userRepository, 100), new VerifiedTokenCache(cached, 100),
+        new RoleEpochs(mock(UserEpochRepository.class), mock(PlatformTransactionManager.class)),
+        new JwtKeyRing(SECRET, true, "", ""));
+    filter = new JwtTokenFilter(jwtTokenProvider);
+
+    Claims claims = Jwts.claims().setSubject(EMAIL);
+    claims.put("name", "John Doe");
+    claims.put("role", UserRole.INTERVIEWER);
+    String token = Jwts.builder()
+        .setClaims(claims)
+        .setIssuedAt(new Date())
+        .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+        .signWith(SignatureAlgorithm.HS256, SECRET)
+        .compact();
+    request = new MockHttpServletRequest("GET", "/weeks/current/dashboard");
+    request.addHeader("Authorization", "Bearer " + token);
+    response = new MockHttpServletResponse();
+  }
+
+  /**
+   * Authenticate one request.
+   */
+  @Benchmark
+  public Object filter() throws ServletException, IOException {
+    filter.doFilter(request, response, chain);
+    Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    SecurityContextHolder.clearContext();
+    return principal;
+  }
+}
@@ -0,0 +1,135 @@
+package interviewplanning.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import interviewplanning.cache.ChangeVersions;
+import interviewplanning.cache.DashboardCache;
+import interviewplanning.cache.DashboardSnapshot;
+import interviewplanning.models.Booking;
+import interviewplanning.models.CandidateTimeSlot;
+import interviewplanning.models.InterviewerTimeSlot;
+import interviewplanning.repositories.CandidateTimeSlotRepository;
+import interviewplanning.repositories.InterviewerTimeSlotRepository;
+import interviewplanning.utils.WeekCalendar;
+import interviewplanning.utils.WeekId;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Assembly of the week dashboard by CoordinatorService from in-memory slots,
+ * so only the grouping, the sorting and the JSON encoding are measured. Every
+ * interviewer has two slots on each working day and every other slot is
+ * booked by a candidate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DashboardAssemblyBenchmark {
+  private static final Instant NOW = Instant.parse("2026-10-14T12:00:00Z");
+
+  @Param({"10", "100"})
+  private int interviewers;
+
+  private ChangeVersions changeVersions;
+  private CoordinatorService coordinatorService;
+  private String weekNum;
+
+  /**
+   * Build the service around repositories returning the slots of the week.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    WeekCalendar weekCalendar = new WeekCalendar(Clock.fixed(NOW, ZoneOffset.UTC));
+    WeekId week = weekCalendar.getCurrentWeek();
+    weekNum = week.toString();
+
+    List<InterviewerTimeSlot> interviewerSlots = new ArrayList<>();
+    List<CandidateTimeSlot> candidateSlots = new ArrayList<>();
+    for (int interviewer = 0; interviewer < interviewers; interviewer++) {
+      UUID interviewerId = UUID.randomUUID();
+      for (DayOfWeek day = DayOfWeek.MONDAY; day.compareTo(DayOfWeek.FRIDAY) <= 0;
+          day = day.plus(1)) {
+        for (int slot = 0; slot < 2; slot++) {
+          LocalTime from = LocalTime.of(9 + 4 * slot, 0);
+          InterviewerTimeSlot interviewerSlot = new InterviewerTimeSlot(day, from,
+              from.plusHours(3), interviewerId);
+          interviewerSlot.setId(UUID.randomUUID());
+          interviewerSlot.setWeekNum(weekNum);
+          interviewerSlots.add(interviewerSlot);
+          if (slot == 0) {
+            LocalDate date = week.getDate(day);
+            CandidateTimeSlot candidateSlot = new CandidateTimeSlot(date, from,
+                from.plusHours(2));
+            candidateSlot.setId(UUID.randomUUID());
+            candidateSlot.setEmail("candidate" + interviewer + "@gmail.com");
+            Booking booking = new Booking(from, from.plusMinutes(90), interviewerSlot.getId(),
+                candidateSlot.getId(), "Interview", "Java developer");
+            booking.setId(UUID.randomUUID());
+            interviewerSlot.getBookingList().add(booking);
+            candidateSlot.getBookingList().add(booking);
+            candidateSlots.add(candidateSlot);
+          }
+        }
+      }
+    }
+
+    InterviewerTimeSlotRepository interviewerTimeSlotRepository =
+        mock(InterviewerTimeSlotRepository.class, withSettings().stubOnly());
+    when(interviewerTimeSlotRepository.findWithBookingsByWeekNum(weekNum))
+        .thenReturn(interviewerSlots);
+    CandidateTimeSlotRepository candidateTimeSlotRepository =
+        mock(CandidateTimeSlotRepository.class, withSettings().stubOnly());
+    when(candidateTimeSlotRepository.findWithBookingsByDateBetween(any(), any()))
+        .thenReturn(candidateSlots);
+
+    changeVersions = new ChangeVersions();
+    DashboardCache dashboardCache = new DashboardCache(changeVersions,
+        Jackson2ObjectMapperBuilder.json().build(), 8, false);
+    coordinatorService = new CoordinatorService(null, null, candidateTimeSlotRepository,
+        interviewerTimeSlotRepository, null, dashboardCache, null, null, weekCalendar);
+  }
+
+  /**
+   * Dashboard of a changed week, assembled and encoded again.
+   */
+  @Benchmark
+  public DashboardSnapshot assemble() {
+    changeVersions.weekChanged(weekNum);
+    return coordinatorService.getDashboardSnapshot(weekNum);
+  }
+
+  /**
+   * Dashboard of an unchanged week, served from the cache.
+   */
+  @Benchmark
+  public DashboardSnapshot cached() {
+    return coordinatorService.getDashboardSnapshot(weekNum);
+  }
+}
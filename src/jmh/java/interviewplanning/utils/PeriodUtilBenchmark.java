@@ -0,0 +1,88 @@
+package interviewplanning.utils;
+
+import interviewplanning.models.Booking;
+import interviewplanning.models.CandidateTimeSlot;
+import interviewplanning.models.InterviewerTimeSlot;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Period checks of every slot and booking request. The new period overlaps
+ * none of the existing ones, so the checks go through the whole list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PeriodUtilBenchmark {
+  @Param({"10", "100"})
+  private int size;
+
+  private LocalTime from = LocalTime.of(20, 0);
+  private LocalTime to = LocalTime.of(21, 30);
+  private List<Booking> bookings;
+  private List<CandidateTimeSlot> candidateSlots;
+  private List<InterviewerTimeSlot> interviewerSlots;
+  private CandidateTimeSlot newCandidateSlot;
+
+  /**
+   * Build periods of five minutes from 8:00, and interviewer slots spread over
+   * the working days in random order.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    LocalDate date = LocalDate.of(2026, 10, 12);
+    bookings = new ArrayList<>();
+    candidateSlots = new ArrayList<>();
+    interviewerSlots = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      LocalTime start = LocalTime.of(8, 0).plusMinutes(5L * i);
+      bookings.add(new Booking(start, start.plusMinutes(5), null, null, "Interview", null));
+      candidateSlots.add(new CandidateTimeSlot(date, start, start.plusMinutes(5)));
+      interviewerSlots.add(new InterviewerTimeSlot(DayOfWeek.of(i % 5 + 1),
+          start, start.plusMinutes(5), null));
+    }
+    Collections.shuffle(interviewerSlots, new Random(42));
+    newCandidateSlot = new CandidateTimeSlot(date, from, to);
+  }
+
+  @Benchmark
+  public void validatePeriod() {
+    PeriodUtil.validatePeriod(from, to);
+  }
+
+  @Benchmark
+  public void isBookingsOverlapping() {
+    PeriodUtil.isBookingsOverlapping(from, to, bookings);
+  }
+
+  @Benchmark
+  public void isCandidateSlotOverlapping() {
+    PeriodUtil.isCandidateSlotOverlapping(newCandidateSlot, candidateSlots);
+  }
+
+  @Benchmark
+  public void validateNotOverlapping() {
+    PeriodUtil.validateNotOverlapping(interviewerSlots);
+  }
+}
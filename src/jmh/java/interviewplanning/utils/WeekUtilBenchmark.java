@@ -0,0 +1,60 @@
+package interviewplanning.utils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Week number conversions of the week-based endpoints, computed from the ISO
+ * calendar by WeekUtil and precomputed or parsed once by WeekCalendar and WeekId.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeekUtilBenchmark {
+  private final WeekCalendar weekCalendar = new WeekCalendar(
+      Clock.fixed(Instant.parse("2026-10-14T12:00:00Z"), ZoneOffset.UTC));
+  private int year = 2026;
+  private int week = 43;
+  private String weekNum = "202643";
+  private LocalDate date = LocalDate.of(2026, 10, 21);
+
+  @Benchmark
+  public LocalDate getFirstDateOfWeekByYearWeekNum() {
+    return WeekUtil.getFirstDateOfWeekByYearWeekNum(year, week);
+  }
+
+  @Benchmark
+  public String getWeekNumberByDate() {
+    return WeekUtil.getWeekNumberByDate(date);
+  }
+
+  @Benchmark
+  public WeekId parseWeekId() {
+    return WeekId.parse(weekNum);
+  }
+
+  @Benchmark
+  public LocalDate getMondayOfParsedWeek() {
+    return weekCalendar.getMonday(WeekId.parse(weekNum));
+  }
+
+  @Benchmark
+  public void validateIsCurrentOrNextWeekNumber() {
+    weekCalendar.validateIsCurrentOrNextWeekNumber(weekNum);
+  }
+}
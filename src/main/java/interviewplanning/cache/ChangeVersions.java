@@ -0,0 +1,180 @@
+package interviewplanning.cache;
+
+import interviewplanning.utils.WeekRolloverEvent;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Monotonically increasing change versions of weeks and candidates.
+ * Versions start from the application start time, so versions handed out
+ * before a restart are never reused after it. Versions of candidates are
+ * dropped when there are too many of them and when the week rolls over, and
+ * unchanged candidates then get a version newer than any handed out before,
+ * so an entity tag of a dropped version never matches again.
+ */
+@Component
+public class ChangeVersions {
+  private final long initialVersion = System.currentTimeMillis();
+  private final AtomicLong lastVersion = new AtomicLong(initialVersion);
+  private final Map<String, Long> weekVersions = new ConcurrentHashMap<>();
+  private final Map<String, Long> candidateVersions = new ConcurrentHashMap<>();
+  private final int maxCandidates;
+  private volatile long candidateFloor = initialVersion;
+
+  /**
+   * Constructor.
+   *
+   * @param maxCandidates max number of candidates whose versions are kept
+   */
+  @Autowired
+  public ChangeVersions(@Value("${change-versions.max-candidates:100000}") int maxCandidates) {
+    this.maxCandidates = maxCandidates;
+  }
+
+  public ChangeVersions() {
+    this(100_000);
+  }
+
+  /**
+   * Get change version of the week.
+   *
+   * @param weekNum week number
+   * @return change version
+   */
+  public long getWeekVersion(String weekNum) {
+    return weekVersions.getOrDefault(weekNum, initialVersion);
+  }
+
+  /**
+   * Get change version of the candidate's slots.
+   *
+   * @param email candidate's email
+   * @return change version
+   */
+  public long getCandidateVersion(String email) {
+    return candidateVersions.getOrDefault(email, candidateFloor);
+  }
+
+  /**
+   * Get entity tag of the week.
+   *
+   * @param weekNum week number
+   * @return entity tag
+   */
+  public String getWeekEtag(String weekNum) {
+    return "\"" + weekNum + "." + getWeekVersion(weekNum) + "\"";
+  }
+
+  /**
+   * Get entity tag of the candidate's slots. All the candidates share the URL of
+   * their slots, so the tag starts with a hash of the email, and the tag of one
+   * candidate never matches the slots of another.
+   *
+   * @param email candidate's email
+   * @return entity tag
+   */
+  public String getCandidateEtag(String email) {
+    return "\"" + hash(email) + "." + getCandidateVersion(email) + "\"";
+  }
+
+  /**
+   * Mark the week as changed.
+   *
+   * @param weekNum week number
+   */
+  public void weekChanged(String weekNum) {
+    bump(weekVersions, weekNum);
+  }
+
+  /**
+   * Mark the candidate's slots as changed.
+   *
+   * @param email candidate's email
+   */
+  public void candidateChanged(String email) {
+    if (email != null && candidateVersions.size() >= maxCandidates
+        && !candidateVersions.containsKey(email)) {
+      evictCandidates();
+    }
+    bump(candidateVersions, email);
+  }
+
+  /**
+   * Drop versions of all the candidates when the week rolls over.
+   *
+   * @param event week rollover
+   */
+  @EventListener
+  public void onWeekRollover(WeekRolloverEvent event) {
+    evictCandidates();
+  }
+
+  /**
+   * Get number of candidates whose versions are kept.
+   *
+   * @return number of candidates
+   */
+  public int getCandidateCount() {
+    return candidateVersions.size();
+  }
+
+  private void evictCandidates() {
+    synchronized (candidateVersions) {
+      candidateFloor = lastVersion.incrementAndGet();
+      candidateVersions.clear();
+    }
+  }
+
+  /**
+   * Bump the version now and, if called inside a transaction, once more after
+   * the commit, so readers that saw the data before the commit don't keep it
+   * under the new version.
+   */
+  private void bump(Map<String, Long> versions, String key) {
+    if (key == null) {
+      return;
+    }
+    put(versions, key);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          put(versions, key);
+        }
+      });
+    }
+  }
+
+  /**
+   * Put a new version, so a version isn't lost to a concurrent eviction.
+   */
+  private void put(Map<String, Long> versions, String key) {
+    synchronized (versions) {
+      versions.put(key, lastVersion.incrementAndGet());
+    }
+  }
+
+  private static String hash(String email) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(email.getBytes(StandardCharsets.UTF_8));
+      StringBuilder hex = new StringBuilder();
+      for (int i = 0; i < 8; i++) {
+        hex.append(String.format("%02x", digest[i]));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
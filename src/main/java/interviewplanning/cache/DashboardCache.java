@@ -0,0 +1,155 @@
+package interviewplanning.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import interviewplanning.exceptions.InternalErrorException;
+import interviewplanning.services.CoordinatorService.DayInfo;
+import interviewplanning.utils.WeekId;
+import interviewplanning.utils.WeekRolloverEvent;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded LRU cache of the week dashboards.
+ * A dashboard is stored together with the change version of its week and is
+ * served only while the week keeps that version, so a dashboard loaded while
+ * the week was being changed is never served. Dashboards are encoded to JSON
+ * (and optionally gzip) once per version, so serving a cached week doesn't
+ * serialize the entities again. Dashboards of past weeks are evicted when
+ * the week rolls over.
+ */
+@Component
+public class DashboardCache {
+  private final ChangeVersions changeVersions;
+  private final ObjectMapper objectMapper;
+  private final int maxSize;
+  private final boolean gzip;
+  private final Map<String, DashboardSnapshot> snapshots;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  /**
+   * Constructor.
+   *
+   * @param changeVersions change versions of weeks
+   * @param objectMapper   object mapper to encode dashboards with
+   * @param maxSize        max number of weeks kept in the cache
+   * @param gzip           whether to keep gzip-compressed JSON as well
+   */
+  @Autowired
+  public DashboardCache(ChangeVersions changeVersions, ObjectMapper objectMapper,
+                        @Value("${dashboard.cache.max-size:8}") int maxSize,
+                        @Value("${dashboard.cache.gzip:true}") boolean gzip) {
+    this.changeVersions = changeVersions;
+    this.objectMapper = objectMapper;
+    this.maxSize = maxSize;
+    this.gzip = gzip;
+    this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, DashboardSnapshot> eldest) {
+        if (size() > DashboardCache.this.maxSize) {
+          evictions.incrementAndGet();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Get the dashboard of the week, loading it if the week has changed
+   * since it was cached.
+   *
+   * @param weekNum week number
+   * @param loader  loads the dashboard from the database
+   * @return dashboard snapshot of the week
+   */
+  public DashboardSnapshot get(String weekNum, Supplier<Map<String, DayInfo[]>> loader) {
+    long version = changeVersions.getWeekVersion(weekNum);
+    synchronized (snapshots) {
+      DashboardSnapshot snapshot = snapshots.get(weekNum);
+      if (snapshot != null && snapshot.getVersion() == version) {
+        hits.incrementAndGet();
+        return snapshot;
+      }
+    }
+    misses.incrementAndGet();
+    DashboardSnapshot snapshot = encode(version, loader.get());
+    synchronized (snapshots) {
+      if (version == changeVersions.getWeekVersion(weekNum)) {
+        snapshots.put(weekNum, snapshot);
+      }
+    }
+    return snapshot;
+  }
+
+  /**
+   * Evict the dashboards of the weeks that have passed.
+   *
+   * @param event week rollover
+   */
+  @EventListener
+  public void onWeekRollover(WeekRolloverEvent event) {
+    int currentWeek = event.getCurrentWeek().toInt();
+    synchronized (snapshots) {
+      int size = snapshots.size();
+      snapshots.keySet().removeIf(weekNum -> WeekId.parse(weekNum).toInt() < currentWeek);
+      evictions.addAndGet(size - snapshots.size());
+    }
+  }
+
+  /**
+   * Get cache statistics.
+   *
+   * @return hit, miss and eviction counters
+   */
+  public Stats getStats() {
+    synchronized (snapshots) {
+      return new Stats(hits.get(), misses.get(), evictions.get(), snapshots.size());
+    }
+  }
+
+  private DashboardSnapshot encode(long version, Map<String, DayInfo[]> dashboard) {
+    try {
+      byte[] json = objectMapper.writeValueAsBytes(dashboard);
+      return new DashboardSnapshot(version, dashboard, json, gzip ? compress(json) : null);
+    } catch (JsonProcessingException e) {
+      throw new InternalErrorException(InternalErrorException.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private static byte[] compress(byte[] json) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4 + 64);
+    try (GZIPOutputStream gzipStream = new GZIPOutputStream(bytes)) {
+      gzipStream.write(json);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Cache statistics snapshot.
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class Stats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+  }
+}
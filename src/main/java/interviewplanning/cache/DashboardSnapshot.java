@@ -0,0 +1,21 @@
+package interviewplanning.cache;
+
+import interviewplanning.services.CoordinatorService.DayInfo;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Dashboard of a week together with its pre-encoded JSON representation.
+ */
+@Getter
+@AllArgsConstructor
+public class DashboardSnapshot {
+  private final long version;
+  private final Map<String, DayInfo[]> dashboard;
+  private final byte[] json;
+  /**
+   * Gzip-compressed JSON, null if compression is disabled.
+   */
+  private final byte[] gzippedJson;
+}
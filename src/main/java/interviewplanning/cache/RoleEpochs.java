@@ -0,0 +1,107 @@
+package interviewplanning.cache;
+
+import interviewplanning.models.UserEpoch;
+import interviewplanning.repositories.UserEpochRepository;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PostConstruct;
+import javax.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Role epochs of users, kept in the database and mirrored in memory, so the
+ * epoch of a token is checked with a map lookup instead of a query. Users
+ * whose role has never changed have epoch 0. Every grant and revocation
+ * increases the epoch, which rejects the tokens issued before it.
+ */
+@Component
+public class RoleEpochs {
+  private final UserEpochRepository userEpochRepository;
+  private final TransactionTemplate newTransaction;
+  private final Map<String, Long> epochs = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param userEpochRepository user epoch repository
+   * @param transactionManager  transaction manager of the first epoch inserts
+   */
+  @Autowired
+  public RoleEpochs(UserEpochRepository userEpochRepository,
+                    PlatformTransactionManager transactionManager) {
+    this.userEpochRepository = userEpochRepository;
+    this.newTransaction = new TransactionTemplate(transactionManager);
+    this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Load the epochs from the database.
+   */
+  @PostConstruct
+  public void load() {
+    for (UserEpoch userEpoch : userEpochRepository.findAll()) {
+      epochs.merge(userEpoch.getEmail(), userEpoch.getEpoch(), Math::max);
+    }
+  }
+
+  /**
+   * Get the current role epoch of the user.
+   *
+   * @param email user's email
+   * @return role epoch
+   */
+  public long getEpoch(String email) {
+    return epochs.getOrDefault(email, 0L);
+  }
+
+  /**
+   * Increase the role epoch of the user after the role has been granted or
+   * revoked. The new epoch is stored in the database, so it outlives a
+   * restart, and applies once the transaction commits: a token issued before
+   * then may read the old role, so it has to carry the old epoch. Concurrent
+   * changes of the same user each increase the epoch, including the first
+   * ones: the insert that loses the race is followed by an increment.
+   *
+   * @param email user's email
+   */
+  @Transactional
+  public void roleChanged(String email) {
+    if (email == null) {
+      return;
+    }
+    boolean incremented = userEpochRepository.incrementEpoch(email) > 0;
+    if (!incremented && !insertFirstEpoch(email)) {
+      // a concurrent first change has inserted the row since the increment
+      incremented = userEpochRepository.incrementEpoch(email) > 0;
+    }
+    long epoch = incremented
+        ? userEpochRepository.findById(email).map(UserEpoch::getEpoch).orElse(1L) : 1;
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          epochs.merge(email, epoch, Math::max);
+        }
+      });
+    } else {
+      epochs.merge(email, epoch, Math::max);
+    }
+  }
+
+  private boolean insertFirstEpoch(String email) {
+    // in its own transaction, since a unique violation aborts the transaction on PostgreSQL
+    try {
+      newTransaction.executeWithoutResult(status -> userEpochRepository.insertFirstEpoch(email));
+      return true;
+    } catch (DataIntegrityViolationException e) {
+      return false;
+    }
+  }
+}
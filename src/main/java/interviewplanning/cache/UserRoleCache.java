@@ -0,0 +1,183 @@
+package interviewplanning.cache;
+
+import interviewplanning.models.User;
+import interviewplanning.models.UserRole;
+import interviewplanning.repositories.UserRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded LRU cache of the current roles of users, keyed by email.
+ * The emails of the users table, which only holds staff, are kept in a set
+ * as well, so emails outside of it are answered as CANDIDATE without a query
+ * and without taking room in the LRU from staff. Role grants and revocations
+ * invalidate the email and rebuild the set, and a role loaded while an
+ * invalidation was in progress is not cached.
+ */
+@Component
+public class UserRoleCache {
+  private final UserRepository userRepository;
+  private final int maxSize;
+  private final Map<String, UserRole> roles;
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong staffMisses = new AtomicLong();
+  private volatile Set<String> staffEmails;
+
+  /**
+   * Constructor.
+   *
+   * @param userRepository user repository
+   * @param maxSize        max number of emails kept in the cache
+   */
+  @Autowired
+  public UserRoleCache(UserRepository userRepository,
+                       @Value("${user-role.cache.max-size:10000}") int maxSize) {
+    this.userRepository = userRepository;
+    this.maxSize = maxSize;
+    this.roles = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, UserRole> eldest) {
+        if (size() > UserRoleCache.this.maxSize) {
+          evictions.incrementAndGet();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Load the emails of the staff from the database. Until then, every role is
+   * looked up in the users table.
+   */
+  @PostConstruct
+  public void loadStaffEmails() {
+    long loadedAt = generation.get();
+    List<String> emails = userRepository.findAllEmails();
+    synchronized (roles) {
+      Set<String> loaded = ConcurrentHashMap.newKeySet(emails.size());
+      loaded.addAll(emails);
+      if (loadedAt != generation.get() && staffEmails != null) {
+        // keep the emails of the roles granted while loading
+        loaded.addAll(staffEmails);
+      }
+      staffEmails = loaded;
+    }
+  }
+
+  /**
+   * Get the current role of the user, loading it on a cache miss.
+   *
+   * @param email user's email
+   * @return role of the user, CANDIDATE if the user has no granted role
+   */
+  public UserRole getRole(String email) {
+    Set<String> staff = staffEmails;
+    if (staff != null && !staff.contains(email)) {
+      staffMisses.incrementAndGet();
+      return UserRole.CANDIDATE;
+    }
+    synchronized (roles) {
+      UserRole role = roles.get(email);
+      if (role != null) {
+        hits.incrementAndGet();
+        return role;
+      }
+    }
+    misses.incrementAndGet();
+    long loadedAt = generation.get();
+    UserRole role = userRepository.findByEmail(email)
+        .map(User::getRole)
+        .orElse(UserRole.CANDIDATE);
+    synchronized (roles) {
+      if (loadedAt == generation.get()) {
+        roles.put(email, role);
+      }
+    }
+    return role;
+  }
+
+  /**
+   * Forget the role of the user now and, if called inside a transaction,
+   * once more after the commit, so a role read before the commit isn't kept.
+   * The email counts as staff at once, and the staff emails are rebuilt once
+   * the change is committed, which drops the revoked ones.
+   *
+   * @param email user's email
+   */
+  public void invalidate(String email) {
+    if (email == null) {
+      return;
+    }
+    evict(email);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evict(email);
+          reloadStaffEmails();
+        }
+      });
+    } else {
+      reloadStaffEmails();
+    }
+  }
+
+  /**
+   * Get cache statistics.
+   *
+   * @return hit, miss and eviction counters, and lookups answered by the staff emails
+   */
+  public Stats getStats() {
+    synchronized (roles) {
+      Set<String> staff = staffEmails;
+      return new Stats(hits.get(), misses.get(), evictions.get(), roles.size(),
+          staffMisses.get(), staff == null ? 0 : staff.size());
+    }
+  }
+
+  private void reloadStaffEmails() {
+    if (staffEmails != null) {
+      loadStaffEmails();
+    }
+  }
+
+  private void evict(String email) {
+    synchronized (roles) {
+      generation.incrementAndGet();
+      roles.remove(email);
+      if (staffEmails != null) {
+        staffEmails.add(email);
+      }
+    }
+  }
+
+  /**
+   * Cache statistics snapshot.
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class Stats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+    private final long staffMisses;
+    private final int staffEmails;
+  }
+}
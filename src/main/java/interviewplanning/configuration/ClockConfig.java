@@ -0,0 +1,23 @@
+package interviewplanning.configuration;
+
+import java.time.Clock;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Clock of the application, and scheduling of the tasks that follow it.
+ */
+@Configuration
+@EnableScheduling
+public class ClockConfig {
+  /**
+   * Get the application clock.
+   *
+   * @return system clock in the default time zone
+   */
+  @Bean
+  public Clock clock() {
+    return Clock.systemDefaultZone();
+  }
+}
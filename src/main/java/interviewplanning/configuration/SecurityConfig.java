@@ -3,12 +3,15 @@ package interviewplanning.configuration;
 import interviewplanning.exceptions.ControllerAdvisor;
 import interviewplanning.security.JwtConfigurer;
 import interviewplanning.security.JwtTokenProvider;
+import interviewplanning.security.LoginRateLimitFilter;
+import interviewplanning.security.LoginRateLimiter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
  * Configuration class of Spring Security.
@@ -22,11 +25,17 @@ public class SecurityConfig {
   private static final String UPD_INTER_SLOT_ENDPOINT =
       "/interviewers/{interviewerId}/slots/{slotId}";
   private static final String BOOKINGS_ENDPOINTS = "/bookings/**";
+  private static final String COPY_ALL_SLOTS_ENDPOINT = "/weeks/next/slots/copy-forward";
   private static final String USERS_ENDPOINTS = "/users/**";
+  private static final String AUTH_METRICS_ENDPOINT = "/authenticate/metrics";
 
   //INTERVIEWER endpoints
   private static final String INTERVIEWER = "INTERVIEWER";
   private static final String CREATE_UPD_SLOT_ENDPOINTS = "/interviewers/**";
+  private static final String CREATE_SLOTS_BULK_ENDPOINT =
+      "/interviewers/{interviewerId}/slots/bulk";
+  private static final String COPY_SLOTS_ENDPOINT =
+      "/interviewers/{interviewerId}/slots/copy-forward";
   private static final String GET_CUR_WEEK_SLOTS_ENDPOINT = "/weeks/current/interviewers/**";
   private static final String GET_NEXT_WEEK_SLOTS_ENDPOINT = "/weeks/next/interviewers/**";
 
@@ -36,12 +45,15 @@ public class SecurityConfig {
 
   //Login endpoint
   private static final String LOGIN_ENDPOINT = "/authenticate";
+  private static final String JWKS_ENDPOINT = "/.well-known/jwks.json";
 
   private final JwtTokenProvider jwtTokenProvider;
+  private final LoginRateLimiter loginRateLimiter;
 
   @Autowired
-  public SecurityConfig(JwtTokenProvider jwtTokenProvider) {
+  public SecurityConfig(JwtTokenProvider jwtTokenProvider, LoginRateLimiter loginRateLimiter) {
     this.jwtTokenProvider = jwtTokenProvider;
+    this.loginRateLimiter = loginRateLimiter;
   }
 
   /**
@@ -58,9 +70,15 @@ public class SecurityConfig {
         .csrf().disable()
         .authorizeRequests()
         .antMatchers(LOGIN_ENDPOINT).permitAll()
+        .antMatchers(JWKS_ENDPOINT).permitAll()
+        .antMatchers(AUTH_METRICS_ENDPOINT).hasAuthority(COORDINATOR)
         .antMatchers(DASHBOARD_ENDPOINT).hasAuthority(COORDINATOR)
+        // these would otherwise match the coordinator's slot update
+        .antMatchers(CREATE_SLOTS_BULK_ENDPOINT).hasAuthority(INTERVIEWER)
+        .antMatchers(COPY_SLOTS_ENDPOINT).hasAuthority(INTERVIEWER)
         .antMatchers(UPD_INTER_SLOT_ENDPOINT).hasAuthority(COORDINATOR)
         .antMatchers(BOOKINGS_ENDPOINTS).hasAuthority(COORDINATOR)
+        .antMatchers(COPY_ALL_SLOTS_ENDPOINT).hasAuthority(COORDINATOR)
         .antMatchers(USERS_ENDPOINTS).hasAuthority(COORDINATOR)
         .antMatchers(CREATE_UPD_SLOT_ENDPOINTS).hasAuthority(INTERVIEWER)
         .antMatchers(GET_CUR_WEEK_SLOTS_ENDPOINT).hasAuthority(INTERVIEWER)
@@ -72,6 +90,9 @@ public class SecurityConfig {
         .authenticationEntryPoint(new ControllerAdvisor.JwtAuthenticationEntryPoint())
         .and().exceptionHandling()
         .accessDeniedHandler(new ControllerAdvisor.CustomAccessDeniedHandler());
+    // rejects logins over the limits before the token filter and the controller
+    http.addFilterBefore(new LoginRateLimitFilter(loginRateLimiter, LOGIN_ENDPOINT),
+        UsernamePasswordAuthenticationFilter.class);
     http.apply(new JwtConfigurer(jwtTokenProvider));
 
     return http.build();
@@ -3,9 +3,12 @@ package interviewplanning.controllers;
 import interviewplanning.dto.JwtRequest;
 import interviewplanning.dto.JwtResponse;
 import interviewplanning.dto.UserDto;
+import interviewplanning.security.JwtKeyRing;
 import interviewplanning.security.JwtTokenProvider;
 import interviewplanning.security.JwtUser;
+import interviewplanning.security.LoginRateLimiter;
 import interviewplanning.services.UserService;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,11 +23,24 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
   private final JwtTokenProvider jwtTokenProvider;
   private final UserService userService;
+  private final LoginRateLimiter loginRateLimiter;
+  private final JwtKeyRing jwtKeyRing;
 
+  /**
+   * Constructor.
+   *
+   * @param userService      user service
+   * @param jwtTokenProvider JWT token provider
+   * @param loginRateLimiter admission control of /authenticate
+   * @param jwtKeyRing       keys tokens are signed with
+   */
   @Autowired
-  public AuthController(UserService userService, JwtTokenProvider jwtTokenProvider) {
+  public AuthController(UserService userService, JwtTokenProvider jwtTokenProvider,
+                        LoginRateLimiter loginRateLimiter, JwtKeyRing jwtKeyRing) {
     this.jwtTokenProvider = jwtTokenProvider;
     this.userService = userService;
+    this.loginRateLimiter = loginRateLimiter;
+    this.jwtKeyRing = jwtKeyRing;
   }
 
   /**
@@ -38,6 +54,27 @@ public class AuthController {
     return new JwtResponse(jwtTokenProvider.createToken(facebookJwtRequest));
   }
 
+  /**
+   * Get admission statistics of /authenticate.
+   *
+   * @return admitted, rate limited, overloaded and queued requests
+   */
+  @GetMapping("/authenticate/metrics")
+  public LoginRateLimiter.Stats getAuthenticateMetrics() {
+    return loginRateLimiter.getStats();
+  }
+
+  /**
+   * Get the public keys tokens are signed with, for other services to verify
+   * tokens without calling this application.
+   *
+   * @return JWK set
+   */
+  @GetMapping("/.well-known/jwks.json")
+  public Map<String, Object> getJwks() {
+    return jwtKeyRing.getJwks();
+  }
+
   @GetMapping("/me")
   public UserDto getMe(Authentication authentication) {
     JwtUser jwtUser = (JwtUser) authentication.getPrincipal();
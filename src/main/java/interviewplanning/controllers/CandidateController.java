@@ -1,14 +1,17 @@
 package interviewplanning.controllers;
 
+import interviewplanning.cache.ChangeVersions;
 import interviewplanning.dto.CandidateTimeSlotRequestDto;
 import interviewplanning.models.CandidateTimeSlot;
 import interviewplanning.security.JwtUser;
 import interviewplanning.services.CandidateService;
 import java.util.List;
 import java.util.UUID;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Candidate controller.
@@ -26,11 +30,21 @@ public class CandidateController {
 
   private final CandidateService candidateService;
   private final ModelMapper modelMapper;
+  private final ChangeVersions changeVersions;
 
+  /**
+   * Constructor.
+   *
+   * @param candidateService candidate service
+   * @param modelMapper      model mapper
+   * @param changeVersions   change versions
+   */
   @Autowired
-  public CandidateController(CandidateService candidateService, ModelMapper modelMapper) {
+  public CandidateController(CandidateService candidateService, ModelMapper modelMapper,
+                             ChangeVersions changeVersions) {
     this.candidateService = candidateService;
     this.modelMapper = modelMapper;
+    this.changeVersions = changeVersions;
   }
 
   /**
@@ -60,9 +74,25 @@ public class CandidateController {
     return candidateService.updateSlot(timeSlot, slotId);
   }
 
+  /**
+   * Get slots of the current candidate. The slots of every candidate have the
+   * same URL, so shared caches must not keep them.
+   *
+   * @param authentication authentication object to get email from
+   * @param request        request to check If-None-Match header of
+   * @param response       response to set the caching headers of
+   * @return slots or null if not modified
+   */
   @GetMapping("/candidates/current/slots")
-  public List<CandidateTimeSlot> getCandidateSlots(Authentication authentication) {
+  public List<CandidateTimeSlot> getCandidateSlots(Authentication authentication,
+                                                   WebRequest request,
+                                                   HttpServletResponse response) {
+    response.setHeader(HttpHeaders.CACHE_CONTROL, "private");
+    response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
     JwtUser jwtUser = (JwtUser) authentication.getPrincipal();
+    if (request.checkNotModified(changeVersions.getCandidateEtag(jwtUser.getEmail()))) {
+      return null;
+    }
     return candidateService.getSlotsByCandidateEmail(jwtUser.getEmail());
   }
 
@@ -1,32 +1,51 @@
 package interviewplanning.controllers;
 
+import interviewplanning.cache.ChangeVersions;
+import interviewplanning.cache.DashboardSnapshot;
 import interviewplanning.dto.BookingRequestDto;
 import interviewplanning.dto.InterviewerTimeSlotRequestDto;
 import interviewplanning.dto.InterviewerTimeSlotResponseDto;
+import interviewplanning.dto.SlotCopyResultDto;
 import interviewplanning.dto.UserDto;
 import interviewplanning.dto.UserRequestDto;
+import interviewplanning.exceptions.ValidationException;
 import interviewplanning.models.Booking;
 import interviewplanning.models.InterviewerTimeSlot;
 import interviewplanning.models.User;
 import interviewplanning.security.JwtUser;
 import interviewplanning.services.BookingService;
+import interviewplanning.services.BookingService.BatchItemResult;
+import interviewplanning.services.BookingService.BatchMode;
 import interviewplanning.services.CoordinatorService;
-import interviewplanning.services.CoordinatorService.DayInfo;
+import interviewplanning.services.InterviewerService;
+import interviewplanning.utils.WeekCalendar;
+import interviewplanning.utils.WeekId;
+import java.io.IOException;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
+import javax.validation.Validator;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Coordinator controller.
@@ -38,6 +57,10 @@ public class CoordinatorController {
   private final CoordinatorService coordinatorService;
   private final BookingService bookingService;
   private final ModelMapper modelMapper;
+  private final ChangeVersions changeVersions;
+  private final Validator validator;
+  private final InterviewerService interviewerService;
+  private final WeekCalendar weekCalendar;
 
   /**
    * Constructor.
@@ -45,13 +68,24 @@ public class CoordinatorController {
    * @param coordinatorService coordinator service
    * @param bookingService     booking service
    * @param modelMapper        model mapper
+   * @param changeVersions     change versions
+   * @param validator          validator of batch items
+   * @param interviewerService interviewer service
+   * @param weekCalendar       current and next week
    */
   @Autowired
   public CoordinatorController(CoordinatorService coordinatorService,
-                               BookingService bookingService, ModelMapper modelMapper) {
+                               BookingService bookingService, ModelMapper modelMapper,
+                               ChangeVersions changeVersions, Validator validator,
+                               InterviewerService interviewerService,
+                               WeekCalendar weekCalendar) {
     this.coordinatorService = coordinatorService;
     this.bookingService = bookingService;
     this.modelMapper = modelMapper;
+    this.changeVersions = changeVersions;
+    this.validator = validator;
+    this.interviewerService = interviewerService;
+    this.weekCalendar = weekCalendar;
   }
 
   @DeleteMapping(path = "/bookings/{booking_id}")
@@ -76,6 +110,53 @@ public class CoordinatorController {
         booking.getDescription());
   }
 
+  /**
+   * Create bookings of a batch endpoint. Answers 201 Created if every booking
+   * was created, 207 Multi-Status if some were and 400 Bad Request if none.
+   *
+   * @param bookingDtos bookings of the batch
+   * @param mode        ALL_OR_NOTHING rejects the whole batch if a booking is invalid,
+   *                    BEST_EFFORT creates the valid bookings
+   * @return result of every booking, in the order of the batch
+   */
+  @PostMapping(path = "/bookings/batch")
+  public ResponseEntity<List<BatchItemResult>> createBookings(
+      @RequestBody List<BookingRequestDto> bookingDtos,
+      @RequestParam(defaultValue = "ALL_OR_NOTHING") BatchMode mode) {
+    validateBookingDtos(bookingDtos);
+    List<Booking> bookings = bookingDtos.stream()
+        .map(this::mapToBooking)
+        .collect(Collectors.toList());
+    List<BatchItemResult> results = bookingService.createBookings(bookings, mode);
+
+    long created = results.stream().filter(result -> result.getBooking() != null).count();
+    HttpStatus status = HttpStatus.CREATED;
+    if (created == 0) {
+      status = HttpStatus.BAD_REQUEST;
+    } else if (created < results.size()) {
+      status = HttpStatus.MULTI_STATUS;
+    }
+    return new ResponseEntity<>(results, status);
+  }
+
+  private void validateBookingDtos(List<BookingRequestDto> bookingDtos) {
+    for (int i = 0; i < bookingDtos.size(); i++) {
+      BookingRequestDto bookingDto = bookingDtos.get(i);
+      if (bookingDto == null) {
+        throw new ValidationException(400, "invalid_parameter",
+            "bookings[" + i + "]: booking has to be present");
+      }
+      Set<ConstraintViolation<BookingRequestDto>> violations = validator.validate(bookingDto);
+      if (!violations.isEmpty()) {
+        String errorMessage = violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .collect(Collectors.joining(","));
+        throw new ValidationException(400, "invalid_parameter",
+            "bookings[" + i + "]: " + errorMessage);
+      }
+    }
+  }
+
   @PostMapping(path = "/bookings/{booking_id}")
   public Booking updateBooking(@PathVariable("booking_id") UUID id,
                                @Valid @RequestBody BookingRequestDto bookingDto) {
@@ -143,9 +224,83 @@ public class CoordinatorController {
         coordinatorService.updateInterviewerTimeSlot(timeSlot, interviewerId, slotId));
   }
 
+  /**
+   * Repeat the slots of the current week in the next week for all interviewers.
+   *
+   * @return number of copied slots
+   */
+  @PostMapping(path = "/weeks/next/slots/copy-forward")
+  public SlotCopyResultDto copyAllInterviewerTimeSlotsForward() {
+    return new SlotCopyResultDto(weekCalendar.getNextWeek().toString(),
+        interviewerService.copyAllCurrentWeekSlotsToNextWeek());
+  }
+
+  /**
+   * Get dashboard of the week. Answers 304 Not Modified if the week
+   * hasn't changed since the version the client has, otherwise writes the
+   * pre-encoded JSON of the week, gzipped if the client accepts it.
+   *
+   * @param weekNum  week number
+   * @param request  request to check If-None-Match and Accept-Encoding headers of
+   * @param response response to write the dashboard to
+   * @throws IOException if the dashboard can't be written
+   */
   @GetMapping(path = "/weeks/{week_num}/dashboard")
-  public Map<String, DayInfo[]> getDashboard(@PathVariable("week_num") String weekNum) {
-    return coordinatorService.getAllSlotsAndBookingsGroupedByDay(weekNum);
+  public void getDashboard(@PathVariable("week_num") String weekNum,
+                           WebRequest request, HttpServletResponse response) throws IOException {
+    // the tag is built from the parsed week, so the path is never reflected into it
+    String week = WeekId.parse(weekNum).toString();
+    response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (request.checkNotModified(changeVersions.getWeekEtag(week))) {
+      return;
+    }
+    DashboardSnapshot snapshot = coordinatorService.getDashboardSnapshot(week);
+    byte[] body = snapshot.getJson();
+    if (snapshot.getGzippedJson() != null && acceptsGzip(request)) {
+      body = snapshot.getGzippedJson();
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  /**
+   * Whether Accept-Encoding allows gzip: gzip is listed, or * is listed and
+   * gzip isn't, with a nonzero quality. "gzip;q=0" refuses it, and so does a
+   * malformed quality, since the identity encoding is always acceptable.
+   */
+  private static boolean acceptsGzip(WebRequest request) {
+    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    if (acceptEncoding == null) {
+      return false;
+    }
+    Boolean gzip = null;
+    Boolean wildcard = null;
+    for (String coding : acceptEncoding.split(",")) {
+      String[] params = coding.split(";");
+      String name = params[0].trim().toLowerCase(Locale.ROOT);
+      if (name.equals("gzip") || name.equals("x-gzip")) {
+        gzip = hasNonzeroQuality(params);
+      } else if (name.equals("*")) {
+        wildcard = hasNonzeroQuality(params);
+      }
+    }
+    return gzip != null ? gzip : Boolean.TRUE.equals(wildcard);
+  }
+
+  private static boolean hasNonzeroQuality(String[] params) {
+    for (int i = 1; i < params.length; i++) {
+      String param = params[i].trim().toLowerCase(Locale.ROOT);
+      if (param.startsWith("q=")) {
+        try {
+          return Double.parseDouble(param.substring(2)) > 0;
+        } catch (NumberFormatException e) {
+          return false;
+        }
+      }
+    }
+    return true;
   }
 
   public InterviewerTimeSlot mapToInterviewerTimeSlot(InterviewerTimeSlotRequestDto dto) {
@@ -1,14 +1,22 @@
 package interviewplanning.controllers;
 
+import interviewplanning.cache.ChangeVersions;
 import interviewplanning.dto.InterviewerBookingLimitDto;
 import interviewplanning.dto.InterviewerTimeSlotRequestDto;
 import interviewplanning.dto.InterviewerTimeSlotResponseDto;
+import interviewplanning.dto.SlotCopyResultDto;
+import interviewplanning.exceptions.ValidationException;
 import interviewplanning.models.InterviewerBookingLimit;
 import interviewplanning.models.InterviewerTimeSlot;
 import interviewplanning.services.InterviewerService;
+import interviewplanning.utils.WeekCalendar;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
+import javax.validation.Validator;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -18,6 +26,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Interviewer controller.
@@ -26,11 +35,28 @@ import org.springframework.web.bind.annotation.RestController;
 public class InterviewerController {
   private final InterviewerService interviewerService;
   private final ModelMapper modelMapper;
+  private final ChangeVersions changeVersions;
+  private final Validator validator;
+  private final WeekCalendar weekCalendar;
 
+  /**
+   * Constructor.
+   *
+   * @param interviewerService interviewer service
+   * @param modelMapper        model mapper
+   * @param changeVersions     change versions
+   * @param validator          validator of bulk items
+   * @param weekCalendar       current and next week
+   */
   @Autowired
-  public InterviewerController(InterviewerService interviewerService, ModelMapper modelMapper) {
+  public InterviewerController(InterviewerService interviewerService, ModelMapper modelMapper,
+                               ChangeVersions changeVersions, Validator validator,
+                               WeekCalendar weekCalendar) {
     this.interviewerService = interviewerService;
     this.modelMapper = modelMapper;
+    this.changeVersions = changeVersions;
+    this.validator = validator;
+    this.weekCalendar = weekCalendar;
   }
 
   @GetMapping("/interviewers/{interviewer_id}/booking-limits")
@@ -65,6 +91,59 @@ public class InterviewerController {
         interviewerService.createSlot(timeSlot, interviewerId));
   }
 
+  /**
+   * Create interviewer time slots of the next week at once.
+   *
+   * @param interviewerId interviewer id
+   * @param timeSlotDtos  time slot dtos
+   * @return dto responses of interviewer time slots
+   */
+  @PostMapping(path = "/interviewers/{interviewer_id}/slots/bulk")
+  @ResponseStatus(code = HttpStatus.CREATED)
+  public List<InterviewerTimeSlotResponseDto> createInterviewerTimeSlots(
+      @PathVariable("interviewer_id") UUID interviewerId,
+      @RequestBody List<InterviewerTimeSlotRequestDto> timeSlotDtos) {
+    validateTimeSlotDtos(timeSlotDtos);
+    List<InterviewerTimeSlot> timeSlots = timeSlotDtos.stream()
+        .map(this::mapToInterviewerTimeSlot)
+        .collect(Collectors.toList());
+    return interviewerService.createSlots(timeSlots, interviewerId).stream()
+        .map(this::mapToInterviewerTimeSlotResponseDto)
+        .collect(Collectors.toList());
+  }
+
+  private void validateTimeSlotDtos(List<InterviewerTimeSlotRequestDto> timeSlotDtos) {
+    for (int i = 0; i < timeSlotDtos.size(); i++) {
+      InterviewerTimeSlotRequestDto timeSlotDto = timeSlotDtos.get(i);
+      if (timeSlotDto == null) {
+        throw new ValidationException(400, "invalid_parameter",
+            "slots[" + i + "]: slot has to be present");
+      }
+      Set<ConstraintViolation<InterviewerTimeSlotRequestDto>> violations =
+          validator.validate(timeSlotDto);
+      if (!violations.isEmpty()) {
+        String errorMessage = violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .collect(Collectors.joining(","));
+        throw new ValidationException(400, "invalid_parameter",
+            "slots[" + i + "]: " + errorMessage);
+      }
+    }
+  }
+
+  /**
+   * Repeat the interviewer's slots of the current week in the next week.
+   *
+   * @param interviewerId interviewer id
+   * @return number of copied slots
+   */
+  @PostMapping(path = "/interviewers/{interviewer_id}/slots/copy-forward")
+  public SlotCopyResultDto copyInterviewerTimeSlotsForward(
+      @PathVariable("interviewer_id") UUID interviewerId) {
+    return new SlotCopyResultDto(weekCalendar.getNextWeek().toString(),
+        interviewerService.copyCurrentWeekSlotsToNextWeek(interviewerId));
+  }
+
   /**
    * Update interviewer time slot.
    *
@@ -84,18 +163,41 @@ public class InterviewerController {
         interviewerService.updateSlotForNextWeek(timeSlot, interviewerId, slotId));
   }
 
+  /**
+   * Get interviewer's slots for the current week.
+   *
+   * @param interviewerId interviewer id
+   * @param request       request to check If-None-Match header of
+   * @return slots or null if not modified
+   */
   @GetMapping("/weeks/current/interviewers/{interviewer_id}/slots")
   @ResponseStatus(code = HttpStatus.OK)
   public List<InterviewerTimeSlot> getCurrentWeekSlots(@PathVariable("interviewer_id")
-                                                       UUID interviewerId) {
+                                                       UUID interviewerId,
+                                                       WebRequest request) {
+    if (request.checkNotModified(
+        changeVersions.getWeekEtag(weekCalendar.getCurrentWeek().toString()))) {
+      return null;
+    }
     return interviewerService.getWeekTimeSlotsByInterviewerId(interviewerId, true);
   }
 
-
+  /**
+   * Get interviewer's slots for the next week.
+   *
+   * @param interviewerId interviewer id
+   * @param request       request to check If-None-Match header of
+   * @return slots or null if not modified
+   */
   @GetMapping("/weeks/next/interviewers/{interviewer_id}/slots")
   @ResponseStatus(code = HttpStatus.OK)
   public List<InterviewerTimeSlot> getNextWeekSlots(@PathVariable("interviewer_id")
-                                                    UUID interviewerId) {
+                                                    UUID interviewerId,
+                                                    WebRequest request) {
+    if (request.checkNotModified(
+        changeVersions.getWeekEtag(weekCalendar.getNextWeek().toString()))) {
+      return null;
+    }
     return interviewerService.getWeekTimeSlotsByInterviewerId(interviewerId, false);
   }
 
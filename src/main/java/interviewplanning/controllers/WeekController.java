@@ -1,8 +1,9 @@
 package interviewplanning.controllers;
 
-import interviewplanning.utils.WeekUtil;
+import interviewplanning.utils.WeekCalendar;
 import java.util.Collections;
 import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -12,14 +13,20 @@ import org.springframework.web.bind.annotation.RestController;
  */
 @RestController
 public class WeekController {
+  private final WeekCalendar weekCalendar;
+
+  @Autowired
+  public WeekController(WeekCalendar weekCalendar) {
+    this.weekCalendar = weekCalendar;
+  }
 
   @GetMapping(value = "weeks/current", produces = MediaType.APPLICATION_JSON_VALUE)
   public Map<String, String> getCurrentWeek() {
-    return Collections.singletonMap("weekNum", WeekUtil.getCurrentWeekNumber());
+    return Collections.singletonMap("weekNum", weekCalendar.getCurrentWeek().toString());
   }
 
   @GetMapping(value = "weeks/next", produces = MediaType.APPLICATION_JSON_VALUE)
   public Map<String, String> getNextWeek() {
-    return Collections.singletonMap("weekNum", WeekUtil.getNextWeekNumber());
+    return Collections.singletonMap("weekNum", weekCalendar.getNextWeek().toString());
   }
 }
@@ -0,0 +1,66 @@
+package interviewplanning.dto;
+
+import interviewplanning.models.CandidateTimeSlot;
+import interviewplanning.models.InterviewerTimeSlot;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Everything booking validation needs about the slots being booked,
+ * loaded in a single query. The slots are detached copies holding only
+ * the columns validation reads.
+ */
+@Getter
+@AllArgsConstructor
+public class BookingValidationView {
+  private InterviewerTimeSlot interviewerTimeSlot;
+  private CandidateTimeSlot candidateTimeSlot;
+  private Long candidateSlotBookingCount;
+  private Long overlappingBookingCount;
+
+  /**
+   * Query constructor.
+   *
+   * @param interviewerSlotId         interviewer time slot id
+   * @param interviewerId             interviewer id
+   * @param weekNum                   week number of the interviewer slot
+   * @param dayOfWeek                 day of week of the interviewer slot
+   * @param interviewerSlotFrom       start time of the interviewer slot
+   * @param interviewerSlotTo         end time of the interviewer slot
+   * @param candidateSlotId           candidate time slot id
+   * @param email                     candidate's email
+   * @param date                      date of the candidate slot
+   * @param candidateSlotFrom         start time of the candidate slot
+   * @param candidateSlotTo           end time of the candidate slot
+   * @param candidateSlotBookingCount number of bookings of the candidate slot
+   * @param overlappingBookingCount   number of interviewer slot bookings overlapping the new one
+   */
+  public BookingValidationView(UUID interviewerSlotId, UUID interviewerId, String weekNum,
+                               DayOfWeek dayOfWeek, LocalTime interviewerSlotFrom,
+                               LocalTime interviewerSlotTo, UUID candidateSlotId, String email,
+                               LocalDate date, LocalTime candidateSlotFrom,
+                               LocalTime candidateSlotTo, Long candidateSlotBookingCount,
+                               Long overlappingBookingCount) {
+    this.interviewerTimeSlot = InterviewerTimeSlot.builder()
+        .id(interviewerSlotId)
+        .interviewerId(interviewerId)
+        .weekNum(weekNum)
+        .dayOfWeek(dayOfWeek)
+        .from(interviewerSlotFrom)
+        .to(interviewerSlotTo)
+        .build();
+    this.candidateTimeSlot = CandidateTimeSlot.builder()
+        .id(candidateSlotId)
+        .email(email)
+        .date(date)
+        .from(candidateSlotFrom)
+        .to(candidateSlotTo)
+        .build();
+    this.candidateSlotBookingCount = candidateSlotBookingCount;
+    this.overlappingBookingCount = overlappingBookingCount;
+  }
+}
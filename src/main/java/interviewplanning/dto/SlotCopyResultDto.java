@@ -0,0 +1,18 @@
+package interviewplanning.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO class for the result of copying slots to the next week.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotCopyResultDto {
+  private String weekNum;
+  private int copiedSlots;
+}
@@ -14,6 +14,8 @@ public class AuthException extends AbstractCommonException {
       new Detail(403, "not_authorized", "You are not authorized to use this functionality");
   public static final Detail INVALID_AUTH_TOKEN =
       new Detail(401, "not_authenticated", "Invalid or expired authentication token");
+  public static final Detail AUTH_TOKEN_REVOKED =
+      new Detail(401, "token_revoked", "Your role has changed, please authenticate again");
 
   public AuthException(Detail detail) {
     super(detail);
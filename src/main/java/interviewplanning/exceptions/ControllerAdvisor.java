@@ -1,6 +1,5 @@
 package interviewplanning.exceptions;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.util.stream.Collectors;
 import javax.servlet.ServletException;
@@ -39,10 +38,7 @@ public class ControllerAdvisor extends ResponseEntityExceptionHandler {
     public void commence(HttpServletRequest request, HttpServletResponse response,
                          AuthenticationException ex)
         throws IOException, ServletException {
-      AbstractCommonException commonEx = new AuthException(AuthException.INVALID_AUTH_TOKEN);
-      response.getWriter().print(new ObjectMapper().writeValueAsString(commonEx));
-      response.setContentType("application/json");
-      response.setStatus(commonEx.getStatusCode());
+      ErrorResponses.write(response, AuthException.INVALID_AUTH_TOKEN);
     }
 
   }
@@ -59,10 +55,7 @@ public class ControllerAdvisor extends ResponseEntityExceptionHandler {
     public void handle(HttpServletRequest request, HttpServletResponse response,
                        AccessDeniedException accessDeniedException)
         throws IOException, ServletException {
-      AbstractCommonException commonEx = new AuthException(AuthException.ACCESS_UNAUTHORIZED);
-      response.getWriter().print(new ObjectMapper().writeValueAsString(commonEx));
-      response.setContentType("application/json");
-      response.setStatus(commonEx.getStatusCode());
+      ErrorResponses.write(response, AuthException.ACCESS_UNAUTHORIZED);
     }
   }
 
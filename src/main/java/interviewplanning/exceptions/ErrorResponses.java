@@ -0,0 +1,113 @@
+package interviewplanning.exceptions;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+/**
+ * Writes error responses outside of the controllers, in the security filter
+ * and handlers. The bodies of the authentication and rate limit errors are
+ * serialized once and written as cached bytes, other errors with a shared
+ * object mapper.
+ */
+public final class ErrorResponses {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final Map<String, Body> BODIES = serialize(List.of(
+      AuthException.INVALID_AUTH_TOKEN,
+      AuthException.ACCESS_UNAUTHORIZED,
+      AuthException.AUTH_TOKEN_REVOKED,
+      RateLimitException.TOO_MANY_LOGINS,
+      RateLimitException.LOGINS_OVERLOADED));
+
+  private ErrorResponses() {
+  }
+
+  /**
+   * Write the error response of the detail.
+   *
+   * @param response response to write to
+   * @param detail   exception description
+   * @throws IOException if the body can't be written
+   */
+  public static void write(HttpServletResponse response, AbstractCommonException.Detail detail)
+      throws IOException {
+    Body body = BODIES.get(detail.errorCode);
+    if (body != null && body.errorMessage.equals(detail.errorMessage)) {
+      write(response, detail.statusCode, body.json);
+    } else {
+      write(response, detail.statusCode, serialize(new FixedError(detail)));
+    }
+  }
+
+  /**
+   * Write the error response of the exception.
+   *
+   * @param response  response to write to
+   * @param exception exception to respond with
+   * @throws IOException if the body can't be written
+   */
+  public static void write(HttpServletResponse response, AbstractCommonException exception)
+      throws IOException {
+    Body body = BODIES.get(exception.getErrorCode());
+    if (body != null && body.errorMessage.equals(exception.getErrorMessage())) {
+      write(response, exception.getStatusCode(), body.json);
+    } else {
+      write(response, exception.getStatusCode(), serialize(exception));
+    }
+  }
+
+  private static void write(HttpServletResponse response, int status, byte[] json)
+      throws IOException {
+    response.setStatus(status);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setContentLength(json.length);
+    response.getOutputStream().write(json);
+  }
+
+  private static Map<String, Body> serialize(List<AbstractCommonException.Detail> details) {
+    Map<String, Body> bodies = new HashMap<>();
+    for (AbstractCommonException.Detail detail : details) {
+      bodies.put(detail.errorCode,
+          new Body(detail.errorMessage, serialize(new FixedError(detail))));
+    }
+    return Map.copyOf(bodies);
+  }
+
+  private static byte[] serialize(AbstractCommonException exception) {
+    try {
+      return OBJECT_MAPPER.writeValueAsBytes(exception);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Cached body of an error.
+   */
+  private static class Body {
+    private final String errorMessage;
+    private final byte[] json;
+
+    Body(String errorMessage, byte[] json) {
+      this.errorMessage = errorMessage;
+      this.json = json;
+    }
+  }
+
+  /**
+   * Error of a detail, serialized like the exception it describes.
+   */
+  private static class FixedError extends AbstractCommonException {
+    FixedError(Detail detail) {
+      super(detail);
+    }
+  }
+}
@@ -12,6 +12,10 @@ public class InternalErrorException extends AbstractCommonException {
 
   public static final Detail INTERNAL_SERVER_ERROR =
       new Detail(500, "unknown_error", "Internal server error");
+  public static final Detail IDENTITY_PROVIDER_TIMEOUT = new Detail(504,
+      "identity_provider_timeout", "Identity provider didn't answer in time");
+  public static final Detail IDENTITY_PROVIDER_BUSY = new Detail(503,
+      "identity_provider_busy", "Too many authentications in progress, try again later");
 
   public InternalErrorException(Detail detail) {
     super(detail);
@@ -0,0 +1,21 @@
+package interviewplanning.exceptions;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Rate limit exception class.
+ */
+@Getter
+@Setter
+public class RateLimitException extends AbstractCommonException {
+
+  public static final Detail TOO_MANY_LOGINS = new Detail(429,
+      "too_many_requests", "Too many authentication requests, try again later");
+  public static final Detail LOGINS_OVERLOADED = new Detail(429,
+      "server_busy", "Too many authentications in progress, try again later");
+
+  public RateLimitException(Detail detail) {
+    super(detail);
+  }
+}
@@ -37,6 +37,8 @@ public class ValidationException extends AbstractCommonException {
       new Detail(400, "cannot_edit_this_slot", "Booking is already made for this slot");
   public static final Detail NOT_NEXT_WEEK_NUMBER =
       new Detail(400, "invalid_week_number", "Provided week number is not the next week number");
+  public static final Detail INVALID_WEEK_NUMBER = new Detail(400, "invalid_week_number",
+      "Week number must be a year followed by its ISO week, e.g. 202652");
   public static final Detail WRONG_BOOKING_DURATION =
       new Detail(400, "invalid_period", "Booking duration must equal to 1.5h");
 
@@ -55,8 +57,14 @@ public class ValidationException extends AbstractCommonException {
       new Detail(400, "different_slots_dates",
           "Booking most contain interviewer and candidate slot of same date");
 
+  public static final Detail SLOT_BULK_SIZE_EXCEEDED =
+      new Detail(400, "invalid_bulk_size", "Bulk must contain from 1 to 100 slots");
   public static final Detail BOOKING_OVERLAP =
       new Detail(400, "booking_overlap", "Booking's time overlaps with existing one");
+  public static final Detail BOOKING_BATCH_SIZE_EXCEEDED =
+      new Detail(400, "invalid_batch_size", "Batch must contain from 1 to 500 bookings");
+  public static final Detail BOOKING_BATCH_REJECTED = new Detail(400, "batch_rejected",
+      "Booking wasn't created because other bookings of the batch are invalid");
 
   // User related validation
   public static final Detail USER_EMAIL_EXISTS =
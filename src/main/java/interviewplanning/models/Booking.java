@@ -8,6 +8,7 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,7 +28,8 @@ import org.hibernate.annotations.GenericGenerator;
 @Builder
 @NoArgsConstructor
 @ToString
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = @Index(
+    name = "bookings_interviewer_time_slot_id_idx", columnList = "interviewer_time_slot_id"))
 public class Booking {
   @Id
   @GeneratedValue(generator = "UUID")
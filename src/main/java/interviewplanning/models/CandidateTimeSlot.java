@@ -11,6 +11,7 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
@@ -32,7 +33,9 @@ import org.hibernate.annotations.GenericGenerator;
 @Builder
 @NoArgsConstructor
 @ToString
-@Table(name = "candidate_time_slots")
+@Table(name = "candidate_time_slots", indexes = {
+    @Index(name = "candidate_time_slots_email_date_idx", columnList = "email, interview_date"),
+    @Index(name = "candidate_time_slots_interview_date_idx", columnList = "interview_date")})
 public class CandidateTimeSlot {
   @Id
   @GeneratedValue(generator = "UUID")
@@ -7,6 +7,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,7 +27,9 @@ import org.hibernate.annotations.GenericGenerator;
 @Builder
 @NoArgsConstructor
 @ToString
-@Table(name = "interviewer_booking_limits")
+@Table(name = "interviewer_booking_limits", uniqueConstraints = @UniqueConstraint(
+    name = "interviewer_booking_limits_interviewer_week_key",
+    columnNames = {"interviewer_id", "week_number"}))
 public class InterviewerBookingLimit {
   @Id
   @GeneratedValue(generator = "UUID")
@@ -11,6 +11,7 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
@@ -30,7 +31,10 @@ import org.hibernate.annotations.GenericGenerator;
 @AllArgsConstructor
 @Builder
 @NoArgsConstructor
-@Table(name = "interviewer_time_slots")
+@Table(name = "interviewer_time_slots", indexes = {
+    @Index(name = "interviewer_time_slots_week_number_idx", columnList = "week_number"),
+    @Index(name = "interviewer_time_slots_interviewer_week_day_idx",
+        columnList = "interviewer_id, week_number, day_of_week")})
 public class InterviewerTimeSlot {
   @Id
   @GeneratedValue(generator = "UUID")
@@ -0,0 +1,31 @@
+package interviewplanning.models;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Role epoch of a user. The epoch is increased every time the user's role is
+ * granted or revoked, and tokens issued with an older epoch are rejected.
+ * Kept by email, since revoking a role deletes the user.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Table(name = "user_epochs")
+public class UserEpoch {
+  @Id
+  @Column(name = "email", length = 64)
+  private String email;
+  @Column(name = "epoch", nullable = false)
+  private long epoch;
+}
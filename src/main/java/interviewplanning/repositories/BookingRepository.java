@@ -1,9 +1,15 @@
 package interviewplanning.repositories;
 
+import interviewplanning.dto.BookingValidationView;
 import interviewplanning.models.Booking;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -15,4 +21,42 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
   List<Booking> findByCandidateTimeSlotId(UUID candidateTimeSlotId);
 
   List<Booking> findByInterviewerTimeSlotId(UUID interviewerTimeSlotId);
+
+  List<Booking> findByInterviewerTimeSlotIdIn(Collection<UUID> interviewerTimeSlotIds);
+
+  List<Booking> findByCandidateTimeSlotIdIn(Collection<UUID> candidateTimeSlotIds);
+
+  @Query("select count(b) from Booking b, InterviewerTimeSlot s "
+      + "where b.interviewerTimeSlotId = s.id "
+      + "and s.interviewerId = :interviewerId and s.weekNum = :weekNum")
+  long countByInterviewerIdAndWeekNum(@Param("interviewerId") UUID interviewerId,
+                                      @Param("weekNum") String weekNum);
+
+  /**
+   * Load both slots of a new or updated booking together with the number of
+   * bookings of the candidate slot and of the interviewer slot's bookings
+   * overlapping the new one. The booking being updated isn't counted.
+   *
+   * @param bookingId         id of the booking being updated, or an id of no booking
+   * @param interviewerSlotId interviewer time slot id
+   * @param candidateSlotId   candidate time slot id
+   * @param from              start time of the new booking
+   * @param to                end time of the new booking
+   * @return validation view, empty if any of the slots doesn't exist
+   */
+  @Query("select new interviewplanning.dto.BookingValidationView("
+      + "its.id, its.interviewerId, its.weekNum, its.dayOfWeek, its.from, its.to, "
+      + "cts.id, cts.email, cts.date, cts.from, cts.to, "
+      + "(select count(cb) from Booking cb where cb.candidateTimeSlotId = cts.id "
+      + "and cb.id <> :bookingId), "
+      + "(select count(ib) from Booking ib where ib.interviewerTimeSlotId = its.id "
+      + "and ib.id <> :bookingId and ib.from < :to and ib.to > :from)) "
+      + "from InterviewerTimeSlot its, CandidateTimeSlot cts "
+      + "where its.id = :interviewerSlotId and cts.id = :candidateSlotId")
+  Optional<BookingValidationView> findValidationView(
+      @Param("bookingId") UUID bookingId,
+      @Param("interviewerSlotId") UUID interviewerSlotId,
+      @Param("candidateSlotId") UUID candidateSlotId,
+      @Param("from") LocalTime from,
+      @Param("to") LocalTime to);
 }
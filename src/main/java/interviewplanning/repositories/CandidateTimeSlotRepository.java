@@ -3,8 +3,11 @@ package interviewplanning.repositories;
 import interviewplanning.models.CandidateTimeSlot;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -17,4 +20,19 @@ public interface CandidateTimeSlotRepository extends JpaRepository<CandidateTime
   List<CandidateTimeSlot> findByEmail(String email);
 
   List<CandidateTimeSlot> findByEmailAndDate(String email, LocalDate date);
+
+  @Query("select s.email from CandidateTimeSlot s where s.id = :id")
+  Optional<String> findEmailById(@Param("id") UUID id);
+
+  /**
+   * Get slots between two dates together with their bookings in a single query.
+   *
+   * @param from first date, inclusive
+   * @param to   last date, inclusive
+   * @return slots with initialized booking lists
+   */
+  @Query("select distinct s from CandidateTimeSlot s left join fetch s.bookingList "
+      + "where s.date between :from and :to")
+  List<CandidateTimeSlot> findWithBookingsByDateBetween(@Param("from") LocalDate from,
+                                                        @Param("to") LocalDate to);
 }
@@ -1,9 +1,13 @@
 package interviewplanning.repositories;
 
 import interviewplanning.models.InterviewerBookingLimit;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -15,5 +19,59 @@ public interface InterviewerBookingLimitRepository extends
 
   List<InterviewerBookingLimit> findByInterviewerId(UUID id);
 
+  List<InterviewerBookingLimit> findByInterviewerIdIn(Collection<UUID> interviewerIds);
+
   InterviewerBookingLimit findByInterviewerIdAndWeekNum(UUID interviewerId, String weekNum);
+
+  boolean existsByInterviewerIdAndWeekNum(UUID interviewerId, String weekNum);
+
+  /**
+   * Count one more booking of the interviewer in the week unless the limit of the
+   * week is reached. The check and the increment are a single statement, so
+   * concurrent bookings can't exceed the limit.
+   *
+   * @param interviewerId interviewer id
+   * @param weekNum       week number
+   * @return 1 if the booking was counted, 0 if the week has no limit or it is reached
+   */
+  @Modifying
+  @Query("update InterviewerBookingLimit l "
+      + "set l.currentBookingCount = coalesce(l.currentBookingCount, 0) + 1 "
+      + "where l.interviewerId = :interviewerId and l.weekNum = :weekNum "
+      + "and coalesce(l.currentBookingCount, 0) < l.weekBookingLimit")
+  int incrementBookingCount(@Param("interviewerId") UUID interviewerId,
+                            @Param("weekNum") String weekNum);
+
+  /**
+   * Count several more bookings of the interviewer in the week unless they
+   * would exceed the limit of the week.
+   *
+   * @param interviewerId interviewer id
+   * @param weekNum       week number
+   * @param count         number of new bookings
+   * @return 1 if the bookings were counted, 0 if the week has no limit or they exceed it
+   */
+  @Modifying
+  @Query("update InterviewerBookingLimit l "
+      + "set l.currentBookingCount = coalesce(l.currentBookingCount, 0) + :count "
+      + "where l.interviewerId = :interviewerId and l.weekNum = :weekNum "
+      + "and coalesce(l.currentBookingCount, 0) + :count <= l.weekBookingLimit")
+  int incrementBookingCountBy(@Param("interviewerId") UUID interviewerId,
+                              @Param("weekNum") String weekNum,
+                              @Param("count") int count);
+
+  /**
+   * Count one booking of the interviewer in the week less.
+   *
+   * @param interviewerId interviewer id
+   * @param weekNum       week number
+   * @return number of updated limits
+   */
+  @Modifying
+  @Query("update InterviewerBookingLimit l "
+      + "set l.currentBookingCount = l.currentBookingCount - 1 "
+      + "where l.interviewerId = :interviewerId and l.weekNum = :weekNum "
+      + "and l.currentBookingCount > 0")
+  int decrementBookingCount(@Param("interviewerId") UUID interviewerId,
+                            @Param("weekNum") String weekNum);
 }
@@ -5,6 +5,9 @@ import java.time.DayOfWeek;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,6 +15,11 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface InterviewerTimeSlotRepository extends JpaRepository<InterviewerTimeSlot, UUID> {
+  String OVERLAPPING_TARGET_SLOT = "select 1 from interviewer_time_slots t "
+      + "where t.interviewer_id = s.interviewer_id and t.week_number = :toWeekNum "
+      + "and t.day_of_week = s.day_of_week "
+      + "and t.start_time < s.end_time and t.end_time > s.start_time";
+
   List<InterviewerTimeSlot> findByInterviewerIdAndWeekNum(UUID interviewerId, String weekNum);
 
   List<InterviewerTimeSlot> findByDayOfWeekAndInterviewerIdAndWeekNum(DayOfWeek dayOfWeek,
@@ -19,4 +27,53 @@ public interface InterviewerTimeSlotRepository extends JpaRepository<Interviewer
                                                                       String weekNum);
 
   List<InterviewerTimeSlot> findByWeekNum(String weekNum);
+
+  /**
+   * Get slots of the week together with their bookings in a single query.
+   *
+   * @param weekNum week number
+   * @return slots of the week with initialized booking lists
+   */
+  @Query("select distinct s from InterviewerTimeSlot s left join fetch s.bookingList "
+      + "where s.weekNum = :weekNum")
+  List<InterviewerTimeSlot> findWithBookingsByWeekNum(@Param("weekNum") String weekNum);
+
+  /**
+   * Copy the interviewer's slots of a week to another week in a single statement,
+   * skipping slots that would overlap slots the interviewer already has there.
+   * Ids come from uuid_generate_v4() of the uuid-ossp extension (see docs/schema.sql).
+   *
+   * @param interviewerId interviewer id
+   * @param fromWeekNum   week number to copy slots of
+   * @param toWeekNum     week number to copy slots to
+   * @return number of copied slots
+   */
+  @Modifying
+  @Query(value = "insert into interviewer_time_slots "
+      + "(id, interviewer_id, week_number, day_of_week, start_time, end_time) "
+      + "select uuid_generate_v4(), s.interviewer_id, :toWeekNum, s.day_of_week, "
+      + "s.start_time, s.end_time from interviewer_time_slots s "
+      + "where s.interviewer_id = :interviewerId and s.week_number = :fromWeekNum "
+      + "and not exists (" + OVERLAPPING_TARGET_SLOT + ")", nativeQuery = true)
+  int copySlotsToWeek(@Param("interviewerId") UUID interviewerId,
+                      @Param("fromWeekNum") String fromWeekNum,
+                      @Param("toWeekNum") String toWeekNum);
+
+  /**
+   * Copy slots of a week to another week for all interviewers in a single statement,
+   * skipping slots that would overlap slots the interviewers already have there.
+   *
+   * @param fromWeekNum week number to copy slots of
+   * @param toWeekNum   week number to copy slots to
+   * @return number of copied slots
+   */
+  @Modifying
+  @Query(value = "insert into interviewer_time_slots "
+      + "(id, interviewer_id, week_number, day_of_week, start_time, end_time) "
+      + "select uuid_generate_v4(), s.interviewer_id, :toWeekNum, s.day_of_week, "
+      + "s.start_time, s.end_time from interviewer_time_slots s "
+      + "where s.week_number = :fromWeekNum "
+      + "and not exists (" + OVERLAPPING_TARGET_SLOT + ")", nativeQuery = true)
+  int copyAllSlotsToWeek(@Param("fromWeekNum") String fromWeekNum,
+                         @Param("toWeekNum") String toWeekNum);
 }
@@ -0,0 +1,37 @@
+package interviewplanning.repositories;
+
+import interviewplanning.models.UserEpoch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Data access layer for UserEpoch entity.
+ */
+@Repository
+public interface UserEpochRepository extends JpaRepository<UserEpoch, String> {
+
+  /**
+   * Increase the role epoch of the user.
+   *
+   * @param email user's email
+   * @return 1 if the epoch was increased, 0 if the user has no epoch yet
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("update UserEpoch e set e.epoch = e.epoch + 1 where e.email = :email")
+  int incrementEpoch(@Param("email") String email);
+
+  /**
+   * Insert the first role epoch of the user. Unlike save, it never updates an
+   * existing row, so a concurrent first insert fails with a unique violation.
+   *
+   * @param email user's email
+   * @return number of inserted rows
+   */
+  @Modifying
+  @Query(value = "insert into user_epochs (email, epoch) values (:email, 1)",
+      nativeQuery = true)
+  int insertFirstEpoch(@Param("email") String email);
+}
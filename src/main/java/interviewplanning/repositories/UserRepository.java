@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -16,4 +17,7 @@ public interface UserRepository extends JpaRepository<User, UUID> {
   List<User> findByRole(UserRole role);
 
   Optional<User> findByEmail(String email);
+
+  @Query("select u.email from User u")
+  List<String> findAllEmails();
 }
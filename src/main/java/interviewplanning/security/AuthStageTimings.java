@@ -0,0 +1,89 @@
+package interviewplanning.security;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Timings of the stages of the authentication flow: count, total and max
+ * duration of every stage since startup.
+ */
+public class AuthStageTimings {
+
+  /**
+   * Stage of the authentication flow.
+   */
+  public enum Stage {
+    /**
+     * Getting the app access token, usually from the cache.
+     */
+    APP_TOKEN,
+    /**
+     * Inspecting the user token with debug_token.
+     */
+    INSPECT_TOKEN,
+    /**
+     * Getting the user's name and email with the user token.
+     */
+    USER_INFO,
+    /**
+     * The whole flow, the stages above overlapping.
+     */
+    TOTAL
+  }
+
+  private final Map<Stage, Timing> timings = new EnumMap<>(Stage.class);
+
+  /**
+   * Constructor.
+   */
+  public AuthStageTimings() {
+    for (Stage stage : Stage.values()) {
+      timings.put(stage, new Timing());
+    }
+  }
+
+  /**
+   * Record a duration of a stage.
+   *
+   * @param stage stage
+   * @param nanos duration in nanoseconds
+   */
+  public void record(Stage stage, long nanos) {
+    Timing timing = timings.get(stage);
+    timing.count.increment();
+    timing.totalNanos.add(nanos);
+    timing.maxNanos.accumulate(nanos);
+  }
+
+  /**
+   * Get timings of a stage.
+   *
+   * @param stage stage
+   * @return count, total and max duration of the stage
+   */
+  public Stats getStats(Stage stage) {
+    Timing timing = timings.get(stage);
+    return new Stats(timing.count.sum(), timing.totalNanos.sum(), timing.maxNanos.get());
+  }
+
+  private static class Timing {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Timings snapshot of a stage.
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class Stats {
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+  }
+}
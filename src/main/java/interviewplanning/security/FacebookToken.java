@@ -1,36 +1,165 @@
 package interviewplanning.security;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import interviewplanning.dto.JwtRequest;
 import interviewplanning.dto.UserInfo;
+import interviewplanning.exceptions.AbstractCommonException;
 import interviewplanning.exceptions.AuthException;
+import interviewplanning.exceptions.InternalErrorException;
+import interviewplanning.security.AuthStageTimings.Stage;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * Class to process user's Facebook token.
+ * The app access token is cached and refreshed ahead of its expiry, and the user
+ * info of inspected tokens is cached for a short time, keyed by the token's hash,
+ * so repeated logins with the same token don't call the Graph API again. All
+ * calls share one keep-alive HTTP client with connect and read timeouts.
+ * Inspecting the token and getting the user info with /me run in parallel on a
+ * bounded executor, within a deadline, and the durations of the stages are
+ * recorded in {@link AuthStageTimings}.
+ * It is the identity provider unless the "local-idp" profile is active.
  */
 @Component
-public class FacebookToken {
-  @Value("${spring.security.oauth2.client.clientId}")
-  private String clientId;
+@Profile("!local-idp")
+public class FacebookToken implements IdentityProvider {
+  private static final String ACCESS_TOKEN_PATH =
+      "/oauth/access_token?client_id=%s&client_secret=%s&grant_type=client_credentials";
+  private static final String ACCESS_TOKEN_DATA_PATH =
+      "/debug_token?input_token=%s&access_token=%s";
+  private static final String USER_INFO_PATH =
+      "/me?fields=id,name,email&access_token=%s";
 
-  @Value("${spring.security.oauth2.client.clientSecret}")
-  private String clientSecret;
+  private final String clientId;
+  private final String clientSecret;
+  private final String graphUrl;
+  private final Duration readTimeout;
+  private final Duration appTokenMaxAge;
+  private final Duration appTokenRefreshAhead;
+  private final Duration userInfoTtl;
+  private final int userInfoMaxSize;
+  private final Duration deadline;
+  private final Clock clock;
+  private final ThreadPoolExecutor executor;
+  private final AuthStageTimings timings = new AuthStageTimings();
+  private final HttpClient httpClient;
+  private final ObjectReader appTokenReader;
+  private final ObjectReader tokenInspectReader;
+  private final ObjectReader graphUserReader;
+  private final ReentrantLock appTokenLock = new ReentrantLock();
+  private final Map<String, CachedUserInfo> userInfos;
+  private volatile AppToken appToken;
 
-  private static final String ACCESS_TOKEN_URI =
-      "https://graph.facebook.com/oauth/access_token?client_id=%s&client_secret=%s&grant_type=client_credentials";
-  private static final String ACCESS_TOKEN_DATA_URI =
-      "https://graph.facebook.com/debug_token?input_token=%s&access_token=%s";
-  private static final String USER_INFO_URI =
-      "https://graph.facebook.com/%s?fields=name,email&access_token=%s";
+  /**
+   * Constructor.
+   *
+   * @param clientId                    Facebook app id
+   * @param clientSecret                Facebook app secret
+   * @param graphUrl                    base url of the Graph API
+   * @param connectTimeoutMs            connect timeout of Graph API calls
+   * @param readTimeoutMs               read timeout of Graph API calls
+   * @param appTokenMaxAgeSeconds       max age of an app token without an expiry
+   * @param appTokenRefreshAheadSeconds how long before its expiry an app token is refreshed
+   * @param userInfoTtlSeconds          how long user info of a token is cached
+   * @param userInfoMaxSize             max number of tokens cached
+   * @param threads                     threads of Graph API calls
+   * @param queueSize                   max number of Graph API calls waiting for a thread
+   * @param deadlineMs                  max duration of getting user info
+   * @param objectMapper                object mapper to read responses with
+   */
+  @Autowired
+  public FacebookToken(
+      @Value("${spring.security.oauth2.client.clientId}") String clientId,
+      @Value("${spring.security.oauth2.client.clientSecret}") String clientSecret,
+      @Value("${facebook.graph-url:https://graph.facebook.com}") String graphUrl,
+      @Value("${facebook.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+      @Value("${facebook.http.read-timeout-ms:5000}") long readTimeoutMs,
+      @Value("${facebook.app-token.max-age-seconds:3600}") long appTokenMaxAgeSeconds,
+      @Value("${facebook.app-token.refresh-ahead-seconds:300}") long appTokenRefreshAheadSeconds,
+      @Value("${facebook.user-info.ttl-seconds:60}") long userInfoTtlSeconds,
+      @Value("${facebook.user-info.max-size:10000}") int userInfoMaxSize,
+      @Value("${facebook.auth.threads:16}") int threads,
+      @Value("${facebook.auth.queue-size:256}") int queueSize,
+      @Value("${facebook.auth.deadline-ms:8000}") long deadlineMs,
+      ObjectMapper objectMapper) {
+    this(clientId, clientSecret, graphUrl, Duration.ofMillis(connectTimeoutMs),
+        Duration.ofMillis(readTimeoutMs), Duration.ofSeconds(appTokenMaxAgeSeconds),
+        Duration.ofSeconds(appTokenRefreshAheadSeconds), Duration.ofSeconds(userInfoTtlSeconds),
+        userInfoMaxSize, threads, queueSize, Duration.ofMillis(deadlineMs), objectMapper,
+        Clock.systemUTC());
+  }
 
+  FacebookToken(String clientId, String clientSecret, String graphUrl,
+                Duration connectTimeout, Duration readTimeout, Duration appTokenMaxAge,
+                Duration appTokenRefreshAhead, Duration userInfoTtl, int userInfoMaxSize,
+                int threads, int queueSize, Duration deadline, ObjectMapper objectMapper,
+                Clock clock) {
+    this.clientId = clientId;
+    this.clientSecret = clientSecret;
+    this.graphUrl = graphUrl;
+    this.readTimeout = readTimeout;
+    this.appTokenMaxAge = appTokenMaxAge;
+    this.appTokenRefreshAhead = appTokenRefreshAhead;
+    this.userInfoTtl = userInfoTtl;
+    this.userInfoMaxSize = userInfoMaxSize;
+    this.deadline = deadline;
+    this.clock = clock;
+    // calls beyond the queue are rejected right away instead of piling up behind a slow API
+    this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(queueSize), new ThreadPoolExecutor.AbortPolicy());
+    this.executor.allowCoreThreadTimeOut(true);
+    // the client pools keep-alive connections to the Graph API across calls
+    this.httpClient = HttpClient.newBuilder()
+        .connectTimeout(connectTimeout)
+        .build();
+    ObjectReader reader = objectMapper.reader()
+        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    this.appTokenReader = reader.forType(AppTokenResponse.class);
+    this.tokenInspectReader = reader.forType(TokenInspect.class);
+    this.graphUserReader = reader.forType(GraphUser.class);
+    this.userInfos = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedUserInfo> eldest) {
+        return size() > FacebookToken.this.userInfoMaxSize;
+      }
+    };
+  }
 
   /**
    * DTO for Graph API endpoint token check.
@@ -68,15 +197,67 @@ public class FacebookToken {
   }
 
   /**
-   * Get an app access token from Facebook.
+   * DTO for Graph API app access token.
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  static class AppTokenResponse {
+    @JsonProperty("access_token")
+    private String accessToken;
+    @JsonProperty("expires_in")
+    private Long expiresIn;
+  }
+
+  /**
+   * DTO for Graph API user.
+   */
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  static class GraphUser {
+    private String id;
+    private String name;
+    private String email;
+  }
+
+  /**
+   * Get an app access token from Facebook. The token is cached and refreshed
+   * ahead of its expiry by one caller while the others keep using it.
    *
    * @return obtained access token
    */
   public JwtRequest getAccessToken() {
-    String uri = String.format(ACCESS_TOKEN_URI, clientId, clientSecret);
-    RestTemplate restTemplate = new RestTemplate();
-    ResponseEntity<JwtRequest> response = restTemplate.getForEntity(uri, JwtRequest.class);
-    return response.getBody();
+    AppToken token = appToken;
+    Instant now = clock.instant();
+    if (token != null && now.isBefore(token.refreshAt)) {
+      return token.accessToken;
+    }
+    if (token != null && now.isBefore(token.expiresAt)) {
+      if (appTokenLock.tryLock()) {
+        try {
+          if (appToken == token) {
+            appToken = fetchAppToken();
+          }
+        } catch (AbstractCommonException e) {
+          // the current token stays valid until it expires, the next caller retries
+        } finally {
+          appTokenLock.unlock();
+        }
+      }
+      return appToken.accessToken;
+    }
+    appTokenLock.lock();
+    try {
+      token = appToken;
+      if (token == null || !clock.instant().isBefore(token.expiresAt)) {
+        token = fetchAppToken();
+        appToken = token;
+      }
+      return token.accessToken;
+    } finally {
+      appTokenLock.unlock();
+    }
   }
 
   /**
@@ -86,32 +267,214 @@ public class FacebookToken {
    * @return user data from inspected token
    */
   public TokenInspect inspectAccessToken(JwtRequest inputToken) {
-    JwtRequest accessToken = getAccessToken();
-    if (accessToken == null) {
+    JwtRequest accessToken = timed(Stage.APP_TOKEN, this::getAccessToken);
+    String path = String.format(ACCESS_TOKEN_DATA_PATH,
+        encode(inputToken.getToken()), encode(accessToken.getToken()));
+    TokenInspect token = timed(Stage.INSPECT_TOKEN, () -> get(path, tokenInspectReader));
+    if (token == null || token.getData() == null) {
       throw new AuthException(AuthException.INVALID_AUTH_TOKEN);
     }
-    String uri =
-        String.format(ACCESS_TOKEN_DATA_URI, inputToken.getToken(), accessToken.getToken());
-    RestTemplate restTemplate = new RestTemplate();
-    ResponseEntity<TokenInspect> response = restTemplate.getForEntity(uri, TokenInspect.class);
-    return response.getBody();
+    return token;
   }
 
   /**
-   * Get user's name and email info.
+   * Get user's name and email info. Info of a token is cached for a short
+   * time, but never past the token's expiry.
    *
    * @param inputToken token provided by user
    * @return user info
    */
+  @Override
   public UserInfo getUserInfo(JwtRequest inputToken) {
-    TokenInspect token = inspectAccessToken(inputToken);
-    if (token == null) {
+    try {
+      return getUserInfoAsync(inputToken).get();
+    } catch (ExecutionException e) {
+      throw unwrap(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InternalErrorException(InternalErrorException.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  /**
+   * Get user's name and email info without blocking. The token inspection and
+   * the /me lookup with the user token run in parallel, and the result fails
+   * with a timeout once the deadline has passed.
+   *
+   * @param inputToken token provided by user
+   * @return future user info
+   */
+  public CompletableFuture<UserInfo> getUserInfoAsync(JwtRequest inputToken) {
+    if (inputToken == null || inputToken.getToken() == null) {
+      throw new AuthException(AuthException.INVALID_AUTH_TOKEN);
+    }
+    String key = hash(inputToken.getToken());
+    Instant now = clock.instant();
+    synchronized (userInfos) {
+      CachedUserInfo cached = userInfos.get(key);
+      if (cached != null && now.isBefore(cached.expiresAt)) {
+        return CompletableFuture.completedFuture(cached.userInfo);
+      }
+    }
+
+    final long start = System.nanoTime();
+    CompletableFuture<TokenInspect> inspection =
+        supplyAsync(() -> inspectAccessToken(inputToken));
+    CompletableFuture<GraphUser> graphUser = supplyAsync(() -> timed(Stage.USER_INFO,
+        () -> get(String.format(USER_INFO_PATH, encode(inputToken.getToken())),
+            graphUserReader)));
+    return inspection.thenCombine(graphUser, (token, user) -> {
+      // the token has to be valid, belong to our app and to the user /me answered with
+      TokenData data = token.getData();
+      if (!"true".equals(data.getIsValid()) || !clientId.equals(data.getAppId())
+          || user == null || user.getId() == null || !user.getId().equals(data.getUserId())) {
+        throw new AuthException(AuthException.INVALID_AUTH_TOKEN);
+      }
+      UserInfo userInfo = new UserInfo(user.getName(), user.getEmail());
+      Instant expiresAt = now.plus(userInfoTtl);
+      Instant tokenExpiresAt = parseEpochSecond(data.getExpiresAt());
+      if (tokenExpiresAt != null && tokenExpiresAt.isBefore(expiresAt)) {
+        expiresAt = tokenExpiresAt;
+      }
+      synchronized (userInfos) {
+        userInfos.put(key, new CachedUserInfo(userInfo, expiresAt));
+      }
+      timings.record(Stage.TOTAL, System.nanoTime() - start);
+      return userInfo;
+    }).orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Get timings of the stages of getting user info.
+   *
+   * @return stage timings
+   */
+  public AuthStageTimings getTimings() {
+    return timings;
+  }
+
+  /**
+   * Stop the threads of Graph API calls.
+   */
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private <T> CompletableFuture<T> supplyAsync(Supplier<T> call) {
+    try {
+      return CompletableFuture.supplyAsync(call, executor);
+    } catch (RejectedExecutionException e) {
+      throw new InternalErrorException(InternalErrorException.IDENTITY_PROVIDER_BUSY);
+    }
+  }
+
+  private <T> T timed(Stage stage, Supplier<T> call) {
+    long start = System.nanoTime();
+    try {
+      return call.get();
+    } finally {
+      timings.record(stage, System.nanoTime() - start);
+    }
+  }
+
+  private static RuntimeException unwrap(Throwable cause) {
+    if (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof AbstractCommonException) {
+      return (AbstractCommonException) cause;
+    }
+    if (cause instanceof TimeoutException) {
+      return new InternalErrorException(InternalErrorException.IDENTITY_PROVIDER_TIMEOUT);
+    }
+    return new InternalErrorException(InternalErrorException.INTERNAL_SERVER_ERROR);
+  }
+
+  private AppToken fetchAppToken() {
+    String path = String.format(ACCESS_TOKEN_PATH, encode(clientId), encode(clientSecret));
+    AppTokenResponse response = get(path, appTokenReader);
+    if (response == null || response.getAccessToken() == null) {
+      throw new AuthException(AuthException.INVALID_AUTH_TOKEN);
+    }
+    Instant now = clock.instant();
+    Duration maxAge = response.getExpiresIn() == null || response.getExpiresIn() <= 0
+        ? appTokenMaxAge : Duration.ofSeconds(response.getExpiresIn());
+    Instant expiresAt = now.plus(maxAge);
+    Instant refreshAt = expiresAt.minus(appTokenRefreshAhead);
+    if (refreshAt.isBefore(now)) {
+      refreshAt = now;
+    }
+    return new AppToken(new JwtRequest(response.getAccessToken()), refreshAt, expiresAt);
+  }
+
+  private <T> T get(String path, ObjectReader reader) {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(graphUrl + path))
+        .timeout(readTimeout)
+        .GET()
+        .build();
+    HttpResponse<byte[]> response;
+    try {
+      response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    } catch (IOException e) {
+      throw new InternalErrorException(InternalErrorException.INTERNAL_SERVER_ERROR);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InternalErrorException(InternalErrorException.INTERNAL_SERVER_ERROR);
+    }
+    if (response.statusCode() >= 400 && response.statusCode() < 500) {
       throw new AuthException(AuthException.INVALID_AUTH_TOKEN);
     }
-    String uri = String.format(USER_INFO_URI, token.getData().getUserId(), inputToken.getToken());
-    RestTemplate restTemplate = new RestTemplate();
-    ResponseEntity<UserInfo> response = restTemplate.getForEntity(uri, UserInfo.class);
-    return response.getBody();
+    if (response.statusCode() != 200) {
+      throw new InternalErrorException(InternalErrorException.INTERNAL_SERVER_ERROR);
+    }
+    try {
+      return reader.readValue(response.body());
+    } catch (IOException e) {
+      throw new InternalErrorException(InternalErrorException.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8);
+  }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Instant parseEpochSecond(String epochSecond) {
+    try {
+      long seconds = Long.parseLong(epochSecond);
+      // 0 stands for a token that doesn't expire
+      return seconds > 0 ? Instant.ofEpochSecond(seconds) : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Cached app access token.
+   */
+  @AllArgsConstructor
+  private static class AppToken {
+    private final JwtRequest accessToken;
+    private final Instant refreshAt;
+    private final Instant expiresAt;
   }
 
+  /**
+   * Cached user info of a token.
+   */
+  @AllArgsConstructor
+  private static class CachedUserInfo {
+    private final UserInfo userInfo;
+    private final Instant expiresAt;
+  }
 }
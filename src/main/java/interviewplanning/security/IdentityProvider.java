@@ -0,0 +1,20 @@
+package interviewplanning.security;
+
+import interviewplanning.dto.JwtRequest;
+import interviewplanning.dto.UserInfo;
+
+/**
+ * Identity provider that tells who the owner of an access token is.
+ * Facebook is used by default, and the "local-idp" profile switches to
+ * {@link LocalIdentityProvider}, which works without network access.
+ */
+public interface IdentityProvider {
+
+  /**
+   * Get user's name and email info.
+   *
+   * @param inputToken token provided by user
+   * @return user info
+   */
+  UserInfo getUserInfo(JwtRequest inputToken);
+}
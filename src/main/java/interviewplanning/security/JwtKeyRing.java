@@ -0,0 +1,230 @@
+package interviewplanning.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.impl.TextCodec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keys to sign and verify JWT tokens with. Tokens are signed with the active
+ * key of the key directory and carry its id in the "kid" header, RS256 for
+ * RSA keys and ES256 for P-256 keys. Every public key of the directory
+ * verifies tokens, so retired keys keep verifying the tokens they signed.
+ * Without an active key, tokens are signed with HS256 and jwt.token.secret,
+ * as before. Keys are decoded once at startup, never per request.
+ *
+ * <p>The directory holds {@code <kid>.pub.pem} (X.509) for every key and
+ * {@code <kid>.pem} (PKCS#8) for the active one.
+ */
+@Component
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+  private static final String PUBLIC_KEY_SUFFIX = ".pub.pem";
+  private static final String PRIVATE_KEY_SUFFIX = ".pem";
+
+  private final VerificationKey legacyKey;
+  private final Map<String, VerificationKey> verificationKeys;
+  private final String activeKid;
+  private final SignatureAlgorithm signingAlgorithm;
+  private final Key signingKey;
+
+  /**
+   * Constructor.
+   *
+   * @param secret              secret of HS256 tokens
+   * @param acceptLegacyTokens  whether HS256 tokens without kid are still accepted
+   * @param keyDir              directory of the asymmetric keys
+   * @param activeKid           id of the key to sign with, HS256 if empty
+   */
+  @Autowired
+  public JwtKeyRing(@Value("${jwt.token.secret}") String secret,
+                    @Value("${jwt.signing.accept-legacy-hs256:true}") boolean acceptLegacyTokens,
+                    @Value("${jwt.signing.key-dir:}") String keyDir,
+                    @Value("${jwt.signing.active-kid:}") String activeKid) {
+    Key secretKey = new SecretKeySpec(TextCodec.BASE64.decode(secret),
+        SignatureAlgorithm.HS256.getJcaName());
+    boolean asymmetric = !activeKid.isEmpty();
+    this.legacyKey = !asymmetric || acceptLegacyTokens
+        ? new VerificationKey(SignatureAlgorithm.HS256, secretKey) : null;
+    this.verificationKeys = asymmetric ? loadPublicKeys(Paths.get(keyDir)) : Map.of();
+    this.activeKid = asymmetric ? activeKid : null;
+    if (asymmetric) {
+      VerificationKey active = verificationKeys.get(activeKid);
+      if (active == null) {
+        throw new IllegalStateException("No public key of the active kid " + activeKid);
+      }
+      this.signingAlgorithm = active.algorithm;
+      this.signingKey = loadPrivateKey(
+          Paths.get(keyDir).resolve(activeKid + PRIVATE_KEY_SUFFIX), active.key.getAlgorithm());
+    } else {
+      this.signingAlgorithm = SignatureAlgorithm.HS256;
+      this.signingKey = secretKey;
+    }
+  }
+
+  /**
+   * Sign the token with the active key.
+   *
+   * @param builder token to sign
+   * @return the builder
+   */
+  public JwtBuilder sign(JwtBuilder builder) {
+    if (activeKid != null) {
+      builder.setHeaderParam(JwsHeader.KEY_ID, activeKid);
+    }
+    return builder.signWith(signingAlgorithm, signingKey);
+  }
+
+  @Override
+  public Key resolveSigningKey(JwsHeader header, Claims claims) {
+    String kid = header.getKeyId();
+    VerificationKey key = kid == null ? legacyKey : verificationKeys.get(kid);
+    if (key == null || !key.algorithm.getValue().equals(header.getAlgorithm())) {
+      throw new SignatureException("Unknown signing key or algorithm");
+    }
+    return key.key;
+  }
+
+  /**
+   * Get the public keys as a JSON Web Key Set, for other services to verify
+   * tokens with.
+   *
+   * @return JWK set
+   */
+  public Map<String, Object> getJwks() {
+    List<Map<String, Object>> keys = new ArrayList<>();
+    verificationKeys.forEach((kid, key) -> keys.add(toJwk(kid, key)));
+    return Map.of("keys", keys);
+  }
+
+  private static Map<String, Object> toJwk(String kid, VerificationKey key) {
+    Map<String, Object> jwk = new LinkedHashMap<>();
+    jwk.put("kid", kid);
+    jwk.put("use", "sig");
+    jwk.put("alg", key.algorithm.getValue());
+    if (key.key instanceof RSAPublicKey) {
+      RSAPublicKey rsaKey = (RSAPublicKey) key.key;
+      jwk.put("kty", "RSA");
+      jwk.put("n", base64Url(rsaKey.getModulus(), 0));
+      jwk.put("e", base64Url(rsaKey.getPublicExponent(), 0));
+    } else {
+      ECPublicKey ecKey = (ECPublicKey) key.key;
+      jwk.put("kty", "EC");
+      jwk.put("crv", "P-256");
+      jwk.put("x", base64Url(ecKey.getW().getAffineX(), 32));
+      jwk.put("y", base64Url(ecKey.getW().getAffineY(), 32));
+    }
+    return jwk;
+  }
+
+  private static String base64Url(BigInteger value, int length) {
+    byte[] bytes = value.toByteArray();
+    int start = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+    int size = Math.max(length, bytes.length - start);
+    byte[] unsigned = new byte[size];
+    System.arraycopy(bytes, start, unsigned, size - (bytes.length - start),
+        bytes.length - start);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(unsigned);
+  }
+
+  private static Map<String, VerificationKey> loadPublicKeys(Path keyDir) {
+    Map<String, VerificationKey> keys = new LinkedHashMap<>();
+    try (Stream<Path> files = Files.list(keyDir)) {
+      for (Path file : (Iterable<Path>) files.sorted()::iterator) {
+        String name = file.getFileName().toString();
+        if (name.endsWith(PUBLIC_KEY_SUFFIX)) {
+          PublicKey key = decodePublicKey(readPem(file));
+          keys.put(name.substring(0, name.length() - PUBLIC_KEY_SUFFIX.length()),
+              new VerificationKey(algorithmOf(key), key));
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Collections.unmodifiableMap(keys);
+  }
+
+  private static PublicKey decodePublicKey(byte[] der) {
+    for (String algorithm : List.of("RSA", "EC")) {
+      try {
+        return KeyFactory.getInstance(algorithm).generatePublic(new X509EncodedKeySpec(der));
+      } catch (GeneralSecurityException e) {
+        // try the next key type
+      }
+    }
+    throw new IllegalStateException("Only RSA and EC public keys are supported");
+  }
+
+  private static PrivateKey loadPrivateKey(Path file, String algorithm) {
+    try {
+      return KeyFactory.getInstance(algorithm)
+          .generatePrivate(new PKCS8EncodedKeySpec(readPem(file)));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Invalid private key " + file, e);
+    }
+  }
+
+  private static SignatureAlgorithm algorithmOf(PublicKey key) {
+    if (key instanceof RSAPublicKey) {
+      return SignatureAlgorithm.RS256;
+    }
+    if (key instanceof ECPublicKey
+        && ((ECPublicKey) key).getParams().getCurve().getField().getFieldSize() == 256) {
+      return SignatureAlgorithm.ES256;
+    }
+    throw new IllegalStateException("Only RSA and P-256 keys are supported");
+  }
+
+  private static byte[] readPem(Path file) {
+    try {
+      String pem = Files.readString(file, StandardCharsets.US_ASCII)
+          .replaceAll("-----[A-Z ]+-----", "")
+          .replaceAll("\\s", "");
+      return Base64.getDecoder().decode(pem);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Decoded key with the only algorithm it verifies.
+   */
+  private static class VerificationKey {
+    private final SignatureAlgorithm algorithm;
+    private final Key key;
+
+    VerificationKey(SignatureAlgorithm algorithm, Key key) {
+      this.algorithm = algorithm;
+      this.key = key;
+    }
+  }
+}
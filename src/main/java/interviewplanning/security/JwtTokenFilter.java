@@ -1,7 +1,7 @@
 package interviewplanning.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import interviewplanning.exceptions.AbstractCommonException;
+import interviewplanning.exceptions.ErrorResponses;
 import java.io.IOException;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -29,16 +29,12 @@ public class JwtTokenFilter extends OncePerRequestFilter {
     String token = jwtTokenProvider.resolveToken(request);
 
     try {
-      if (token != null && jwtTokenProvider.validateToken(token)) {
-        Authentication authentication = jwtTokenProvider.getAuthentication(token);
-        if (authentication != null) {
-          SecurityContextHolder.getContext().setAuthentication(authentication);
-        }
+      if (token != null) {
+        Authentication authentication = jwtTokenProvider.authenticate(token);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
       }
     } catch (AbstractCommonException commonEx) {
-      response.getWriter().print(new ObjectMapper().writeValueAsString(commonEx));
-      response.setContentType("application/json");
-      response.setStatus(commonEx.getStatusCode());
+      ErrorResponses.write(response, commonEx);
       return;
     }
 
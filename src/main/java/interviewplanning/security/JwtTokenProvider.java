@@ -1,18 +1,15 @@
 package interviewplanning.security;
 
+import interviewplanning.cache.RoleEpochs;
+import interviewplanning.cache.UserRoleCache;
 import interviewplanning.dto.JwtRequest;
 import interviewplanning.dto.UserInfo;
 import interviewplanning.exceptions.AuthException;
-import interviewplanning.models.User;
 import interviewplanning.models.UserRole;
-import interviewplanning.repositories.UserRepository;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import java.util.Date;
-import java.util.Optional;
 import javax.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,71 +23,100 @@ import org.springframework.stereotype.Component;
  */
 @Component
 public class JwtTokenProvider {
+  private static final String ROLE_CLAIM = "role";
+  private static final String EPOCH_CLAIM = "epoch";
 
-  @Value("${jwt.token.secret}")
-  private String secret;
   @Value("${jwt.token.expired}")
   private long validityInMilliseconds;
-  private final FacebookToken facebookToken;
-  private final UserRepository userRepository;
+  private final IdentityProvider identityProvider;
+  private final UserRoleCache userRoleCache;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final RoleEpochs roleEpochs;
+  private final JwtKeyRing jwtKeyRing;
 
+  /**
+   * Constructor.
+   *
+   * @param identityProvider   identity provider of access tokens
+   * @param userRoleCache      cache of the current roles of users
+   * @param verifiedTokenCache cache of the authentications of verified tokens
+   * @param roleEpochs         role epochs of users
+   * @param jwtKeyRing         keys to sign and verify tokens with
+   */
   @Autowired
-  public JwtTokenProvider(FacebookToken facebookToken, UserRepository userRepository) {
-    this.facebookToken = facebookToken;
-    this.userRepository = userRepository;
+  public JwtTokenProvider(IdentityProvider identityProvider, UserRoleCache userRoleCache,
+                          VerifiedTokenCache verifiedTokenCache, RoleEpochs roleEpochs,
+                          JwtKeyRing jwtKeyRing) {
+    this.identityProvider = identityProvider;
+    this.userRoleCache = userRoleCache;
+    this.verifiedTokenCache = verifiedTokenCache;
+    this.roleEpochs = roleEpochs;
+    this.jwtKeyRing = jwtKeyRing;
   }
 
   /**
    * Create a JWT token.
    *
-   * @param facebookJwtRequest DTO that contains Facebook access token.
+   * @param accessTokenRequest DTO that contains the identity provider's access token.
    * @return JWT token
    */
-  public String createToken(JwtRequest facebookJwtRequest) {
-    UserInfo userInfo = facebookToken.getUserInfo(facebookJwtRequest);
-
-    Optional<User> user = userRepository.findByEmail(userInfo.getEmail());
+  public String createToken(JwtRequest accessTokenRequest) {
+    UserInfo userInfo = identityProvider.getUserInfo(accessTokenRequest);
 
+    // the epoch is read before the role, so a role change in between leaves the
+    // token with an older epoch, which rejects it, rather than a stale role
+    long epoch = roleEpochs.getEpoch(userInfo.getEmail());
     Claims claims = Jwts.claims().setSubject(userInfo.getEmail());
     claims.put("name", userInfo.getName());
-    if (user.isPresent()) {
-      //If user exists in database, get his/her role
-      claims.put("role", user.get().getRole());
-    } else {
-      claims.put("role", UserRole.CANDIDATE);
-    }
+    claims.put(ROLE_CLAIM, userRoleCache.getRole(userInfo.getEmail()));
+    claims.put(EPOCH_CLAIM, epoch);
 
     Date now = new Date();
     Date validity = new Date(now.getTime() + validityInMilliseconds);
 
-    return Jwts.builder()
+    return jwtKeyRing.sign(Jwts.builder()
         .setClaims(claims)
         .setIssuedAt(now)
-        .setExpiration(validity)
-        .signWith(SignatureAlgorithm.HS256, secret)
+        .setExpiration(validity))
         .compact();
   }
 
   /**
-   * Provide authentication.
+   * Provide authentication from the verified claims of the token. The role
+   * claim is trusted, since tokens issued before a role change are rejected
+   * by their role epoch.
    *
-   * @param token JWT token
+   * @param claims verified claims of the JWT token
    * @return authentication token
    */
-  public Authentication getAuthentication(String token) {
-    Optional<User> user = this.userRepository.findByEmail(getEmail(token));
-    UserDetails userDetails = null;
-    if (user.isPresent()) {
-      userDetails = JwtUserFactory.create(user.get());
-    } else {
-      userDetails = JwtUserFactory.create(token, secret);
-    }
+  public Authentication getAuthentication(Claims claims) {
+    UserDetails userDetails = JwtUserFactory.create(claims, getRole(claims));
 
     return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
   }
 
-  private String getEmail(String token) {
-    return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody().getSubject();
+  /**
+   * Provide authentication for the token. A token seen before is served from
+   * the verified token cache, otherwise the token is parsed and verified.
+   * Either way the token is rejected if the user's role has changed since it
+   * was issued.
+   *
+   * @param token JWT token
+   * @return authentication token
+   */
+  public Authentication authenticate(String token) {
+    VerifiedTokenCache.Entry cached = verifiedTokenCache.get(token);
+    if (cached != null) {
+      checkEpoch(cached.getEmail(), cached.getEpoch());
+      return cached.getAuthentication();
+    }
+    Claims claims = parseClaims(token);
+    long epoch = getEpoch(claims);
+    checkEpoch(claims.getSubject(), epoch);
+    Authentication authentication = getAuthentication(claims);
+    verifiedTokenCache.put(token, claims.getExpiration(), claims.getSubject(), epoch,
+        authentication);
+    return authentication;
   }
 
   /**
@@ -108,24 +134,44 @@ public class JwtTokenProvider {
   }
 
   /**
-   * Validate token.
+   * Parse and verify the token.
    *
    * @param token JWT token
-   * @return true if token is valid, otherwise false or throws exception
+   * @return verified claims of the token
    */
-  public boolean validateToken(String token) {
+  public Claims parseClaims(String token) {
     try {
-      Jws<Claims> claims = Jwts.parser().setSigningKey(secret).parseClaimsJws(token);
-
-      if (claims.getBody().getExpiration().before(new Date())) {
-        return false;
+      Claims claims = Jwts.parser().setSigningKeyResolver(jwtKeyRing)
+          .parseClaimsJws(token).getBody();
+      if (claims.getSubject() == null) {
+        throw new AuthException(AuthException.INVALID_AUTH_TOKEN);
       }
-
-      return true;
+      return claims;
     } catch (JwtException | IllegalArgumentException e) {
       throw new AuthException(AuthException.INVALID_AUTH_TOKEN);
     }
   }
 
+  private void checkEpoch(String email, long epoch) {
+    if (epoch < roleEpochs.getEpoch(email)) {
+      throw new AuthException(AuthException.AUTH_TOKEN_REVOKED);
+    }
+  }
+
+  private static long getEpoch(Claims claims) {
+    Object epoch = claims.get(EPOCH_CLAIM);
+    return epoch instanceof Number ? ((Number) epoch).longValue() : 0;
+  }
 
-}
\ No newline at end of file
+  private static UserRole getRole(Claims claims) {
+    String role = claims.get(ROLE_CLAIM, String.class);
+    if (role == null) {
+      return UserRole.CANDIDATE;
+    }
+    try {
+      return UserRole.valueOf(role);
+    } catch (IllegalArgumentException e) {
+      throw new AuthException(AuthException.INVALID_AUTH_TOKEN);
+    }
+  }
+}
@@ -3,7 +3,6 @@ package interviewplanning.security;
 import interviewplanning.models.User;
 import interviewplanning.models.UserRole;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 import java.util.List;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -32,18 +31,17 @@ public final class JwtUserFactory {
   }
 
   /**
-   * Create JwtUser based on User that is not present in database.
+   * Create JwtUser based on verified JWT claims.
    *
-   * @param token  JWT token
-   * @param secret secret keyword to encode JWT token
+   * @param claims verified claims of the JWT token
+   * @param role   current role of the user
    * @return JwtUser
    */
-  public static JwtUser create(String token, String secret) {
-    Claims jwtBody = Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
-    return new JwtUser(
-        jwtBody.get("name", String.class),
-        jwtBody.getSubject()
-    );
+  public static JwtUser create(Claims claims, UserRole role) {
+    if (role == UserRole.CANDIDATE) {
+      return new JwtUser(claims.get("name", String.class), claims.getSubject());
+    }
+    return new JwtUser(claims.getSubject(), role, mapToGrantedAuthorities(role));
   }
 
   private static List<GrantedAuthority> mapToGrantedAuthorities(UserRole userRole) {
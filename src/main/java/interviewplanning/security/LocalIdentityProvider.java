@@ -0,0 +1,50 @@
+package interviewplanning.security;
+
+import interviewplanning.dto.JwtRequest;
+import interviewplanning.dto.UserInfo;
+import interviewplanning.exceptions.AuthException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deterministic identity provider for load tests and offline development.
+ * The access token is the user's email, or the local part of it completed
+ * with the configured domain, and the name is derived from the local part.
+ * Never enable it in production, since anyone can sign in as anyone.
+ */
+@Component
+@Profile("local-idp")
+public class LocalIdentityProvider implements IdentityProvider {
+  private static final int MAX_EMAIL_LENGTH = 64;
+
+  private final String domain;
+
+  /**
+   * Constructor.
+   *
+   * @param domain domain of the emails of tokens without one
+   */
+  @Autowired
+  public LocalIdentityProvider(@Value("${identity.local.domain:local.test}") String domain) {
+    this.domain = domain;
+  }
+
+  @Override
+  public UserInfo getUserInfo(JwtRequest inputToken) {
+    String token = inputToken == null ? null : inputToken.getToken();
+    if (token == null || token.isBlank()) {
+      throw new AuthException(AuthException.INVALID_AUTH_TOKEN);
+    }
+    String email = token.trim();
+    if (email.indexOf('@') < 0) {
+      email = email + "@" + domain;
+    }
+    int at = email.indexOf('@');
+    if (at == 0 || at != email.lastIndexOf('@') || email.length() > MAX_EMAIL_LENGTH) {
+      throw new AuthException(AuthException.INVALID_AUTH_TOKEN);
+    }
+    return new UserInfo(email.substring(0, at), email);
+  }
+}
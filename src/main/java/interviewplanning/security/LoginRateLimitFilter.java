@@ -0,0 +1,56 @@
+package interviewplanning.security;
+
+import interviewplanning.exceptions.ErrorResponses;
+import interviewplanning.exceptions.RateLimitException;
+import interviewplanning.security.LoginRateLimiter.Decision;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Filter that admits /authenticate requests through {@link LoginRateLimiter}
+ * and answers the rejected ones with 429 before the body is even read.
+ */
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+  private static final String RETRY_AFTER_SECONDS = "1";
+
+  private final LoginRateLimiter loginRateLimiter;
+  private final String loginPath;
+
+  public LoginRateLimitFilter(LoginRateLimiter loginRateLimiter, String loginPath) {
+    this.loginRateLimiter = loginRateLimiter;
+    this.loginPath = loginPath;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !"POST".equals(request.getMethod())
+        || !loginPath.equals(request.getServletPath());
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+    Decision decision = loginRateLimiter.admit(request.getRemoteAddr());
+    if (decision != Decision.ADMITTED) {
+      response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+    }
+    if (decision == Decision.RATE_LIMITED) {
+      ErrorResponses.write(response, RateLimitException.TOO_MANY_LOGINS);
+      return;
+    }
+    if (decision == Decision.OVERLOADED) {
+      ErrorResponses.write(response, RateLimitException.LOGINS_OVERLOADED);
+      return;
+    }
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      loginRateLimiter.release();
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package interviewplanning.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admission control of /authenticate. Every client IP has a token bucket that
+ * allows short bursts and refills at a steady rate, and all clients together
+ * share a cap on the authentications in progress. A request over the cap
+ * waits for a free slot at most for the queue timeout. Rejected requests are
+ * answered at once, so they don't hold servlet threads.
+ */
+@Component
+public class LoginRateLimiter {
+
+  /**
+   * Outcome of an admission attempt.
+   */
+  public enum Decision {
+    /**
+     * Admitted, {@link #release()} must be called once the request is done.
+     */
+    ADMITTED,
+    /**
+     * The client has used up its bucket.
+     */
+    RATE_LIMITED,
+    /**
+     * Too many authentications are in progress.
+     */
+    OVERLOADED
+  }
+
+  private final int burst;
+  private final double tokensPerNano;
+  private final int maxClients;
+  private final long queueTimeoutNanos;
+  private final LongSupplier nanoTime;
+  private final Semaphore inProgress;
+  private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final LongAdder admitted = new LongAdder();
+  private final LongAdder rateLimited = new LongAdder();
+  private final LongAdder overloaded = new LongAdder();
+
+  /**
+   * Constructor.
+   *
+   * @param burst          requests a client can make at once
+   * @param perSecond      requests per second a client is allowed on average
+   * @param maxClients     max number of clients whose buckets are kept
+   * @param maxConcurrent  max number of authentications in progress
+   * @param queueTimeoutMs how long a request waits for an authentication to finish
+   */
+  @Autowired
+  public LoginRateLimiter(@Value("${auth.rate-limit.burst:10}") int burst,
+                          @Value("${auth.rate-limit.per-second:2}") double perSecond,
+                          @Value("${auth.rate-limit.max-clients:10000}") int maxClients,
+                          @Value("${auth.max-concurrent:32}") int maxConcurrent,
+                          @Value("${auth.queue-timeout-ms:100}") long queueTimeoutMs) {
+    this(burst, perSecond, maxClients, maxConcurrent, queueTimeoutMs, System::nanoTime);
+  }
+
+  LoginRateLimiter(int burst, double perSecond, int maxClients, int maxConcurrent,
+                   long queueTimeoutMs, LongSupplier nanoTime) {
+    this.burst = burst;
+    this.tokensPerNano = perSecond / TimeUnit.SECONDS.toNanos(1);
+    this.maxClients = maxClients;
+    this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMs);
+    this.nanoTime = nanoTime;
+    this.inProgress = new Semaphore(maxConcurrent);
+  }
+
+  /**
+   * Try to admit a request of the client.
+   *
+   * @param client client IP
+   * @return decision, ADMITTED requests must be released
+   */
+  public Decision admit(String client) {
+    long now = nanoTime.getAsLong();
+    if (!bucket(client, now).tryTake(now)) {
+      rateLimited.increment();
+      return Decision.RATE_LIMITED;
+    }
+    if (!inProgress.tryAcquire() && !awaitSlot()) {
+      overloaded.increment();
+      return Decision.OVERLOADED;
+    }
+    admitted.increment();
+    return Decision.ADMITTED;
+  }
+
+  /**
+   * Release the slot of an admitted request.
+   */
+  public void release() {
+    inProgress.release();
+  }
+
+  /**
+   * Get admission statistics.
+   *
+   * @return counters of admitted and rejected requests, and requests waiting now
+   */
+  public Stats getStats() {
+    return new Stats(admitted.sum(), rateLimited.sum(), overloaded.sum(), queued.get(),
+        buckets.size());
+  }
+
+  private boolean awaitSlot() {
+    if (queueTimeoutNanos <= 0) {
+      return false;
+    }
+    queued.incrementAndGet();
+    try {
+      return inProgress.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      queued.decrementAndGet();
+    }
+  }
+
+  private Bucket bucket(String client, long now) {
+    Bucket bucket = buckets.get(client);
+    if (bucket != null) {
+      return bucket;
+    }
+    if (buckets.size() >= maxClients) {
+      buckets.values().removeIf(idle -> idle.isFull(now));
+      if (buckets.size() >= maxClients) {
+        buckets.clear();
+      }
+    }
+    return buckets.computeIfAbsent(client, key -> new Bucket(now));
+  }
+
+  /**
+   * Token bucket of a client.
+   */
+  private class Bucket {
+    private double tokens;
+    private long refilledAt;
+
+    Bucket(long now) {
+      this.tokens = burst;
+      this.refilledAt = now;
+    }
+
+    synchronized boolean tryTake(long now) {
+      refill(now);
+      if (tokens < 1) {
+        return false;
+      }
+      tokens--;
+      return true;
+    }
+
+    synchronized boolean isFull(long now) {
+      refill(now);
+      return tokens >= burst;
+    }
+
+    private void refill(long now) {
+      if (now > refilledAt) {
+        tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+      }
+    }
+  }
+
+  /**
+   * Admission statistics snapshot.
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class Stats {
+    private final long admitted;
+    private final long rateLimited;
+    private final long overloaded;
+    private final int queued;
+    private final int clients;
+  }
+}
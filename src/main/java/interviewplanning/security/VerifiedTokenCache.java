@@ -0,0 +1,145 @@
+package interviewplanning.security;
+
+import java.time.Clock;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the authentications of already verified JWT tokens, keyed by the
+ * token signature, so repeat requests with the same bearer token skip the
+ * HMAC verification and JSON parsing. An entry is served only for the very
+ * same token and only until the token expires. When the cache is full the
+ * expired entries are dropped, and if that's not enough the cache is cleared.
+ */
+@Component
+public class VerifiedTokenCache {
+  private final boolean enabled;
+  private final int maxSize;
+  private final Clock clock;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Constructor.
+   *
+   * @param enabled whether verified tokens are cached
+   * @param maxSize max number of tokens kept in the cache
+   */
+  @Autowired
+  public VerifiedTokenCache(@Value("${jwt.verified-cache.enabled:true}") boolean enabled,
+                            @Value("${jwt.verified-cache.max-size:10000}") int maxSize) {
+    this(enabled, maxSize, Clock.systemUTC());
+  }
+
+  VerifiedTokenCache(boolean enabled, int maxSize, Clock clock) {
+    this.enabled = enabled;
+    this.maxSize = maxSize;
+    this.clock = clock;
+  }
+
+  /**
+   * Get the cached entry of the token.
+   *
+   * @param token JWT token
+   * @return cached entry or null if the token hasn't been verified or has expired
+   */
+  public Entry get(String token) {
+    String signature = signature(token);
+    if (signature == null) {
+      return null;
+    }
+    Entry entry = entries.get(signature);
+    if (entry == null || !entry.token.equals(token)) {
+      misses.increment();
+      return null;
+    }
+    if (entry.expiresAt <= clock.millis()) {
+      entries.remove(signature, entry);
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    return entry;
+  }
+
+  /**
+   * Cache the authentication of the verified token.
+   *
+   * @param token          verified JWT token
+   * @param expiration     expiration of the token
+   * @param email          user's email
+   * @param epoch          role epoch of the token
+   * @param authentication authentication built from the token
+   */
+  public void put(String token, Date expiration, String email, long epoch,
+                  Authentication authentication) {
+    String signature = signature(token);
+    if (signature == null || expiration == null) {
+      return;
+    }
+    if (entries.size() >= maxSize) {
+      long now = clock.millis();
+      entries.values().removeIf(entry -> entry.expiresAt <= now);
+      if (entries.size() >= maxSize) {
+        evictions.add(entries.size());
+        entries.clear();
+      }
+    }
+    entries.put(signature, new Entry(token, expiration.getTime(), email, epoch, authentication));
+  }
+
+  /**
+   * Get cache statistics.
+   *
+   * @return hit, miss and eviction counters
+   */
+  public Stats getStats() {
+    return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+  }
+
+  private String signature(String token) {
+    if (!enabled || token == null) {
+      return null;
+    }
+    int separator = token.lastIndexOf('.');
+    if (separator < 0 || separator == token.length() - 1) {
+      return null;
+    }
+    return token.substring(separator + 1);
+  }
+
+  /**
+   * Authentication of a verified token.
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class Entry {
+    private final String token;
+    private final long expiresAt;
+    private final String email;
+    private final long epoch;
+    private final Authentication authentication;
+  }
+
+  /**
+   * Cache statistics snapshot.
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class Stats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+  }
+}
@@ -2,8 +2,11 @@ package interviewplanning.services;
 
 
 import static interviewplanning.utils.PeriodUtil.isBookingsOverlapping;
-import static interviewplanning.utils.WeekUtil.getFirstDateOfWeekByYearWeekNum;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import interviewplanning.cache.ChangeVersions;
+import interviewplanning.dto.BookingValidationView;
+import interviewplanning.exceptions.AbstractCommonException;
 import interviewplanning.exceptions.NotFoundException;
 import interviewplanning.exceptions.ValidationException;
 import interviewplanning.models.Booking;
@@ -15,14 +18,22 @@ import interviewplanning.repositories.CandidateTimeSlotRepository;
 import interviewplanning.repositories.InterviewerBookingLimitRepository;
 import interviewplanning.repositories.InterviewerTimeSlotRepository;
 import interviewplanning.utils.PeriodUtil;
-import interviewplanning.utils.WeekUtil;
+import interviewplanning.utils.WeekId;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.transaction.Transactional;
+import lombok.Getter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -32,11 +43,16 @@ import org.springframework.stereotype.Service;
 @Service
 public class BookingService {
 
+  private static final int MAX_BATCH_SIZE = 500;
+  // booking ids are random UUIDs, so the nil UUID excludes no booking from validation
+  private static final UUID NEW_BOOKING = new UUID(0, 0);
+
   private final BookingRepository bookingRepository;
   private final InterviewerTimeSlotRepository interviewerTimeSlotRepository;
   private final InterviewerBookingLimitRepository interviewerBookingLimitRepository;
   private final CandidateTimeSlotRepository candidateTimeSlotRepository;
-
+  private final ChangeVersions changeVersions;
+  private final OverlapConstraints overlapConstraints;
 
   /**
    * Constructor.
@@ -45,16 +61,22 @@ public class BookingService {
    * @param interviewerTimeSlotRepository     Interviewer time slot repository
    * @param interviewerBookingLimitRepository Interviewer booking limit repository
    * @param candidateTimeSlotRepository       Candidate time slot repository
+   * @param changeVersions                    Change versions
+   * @param overlapConstraints                Overlap constraints of the database
    */
   @Autowired
   public BookingService(BookingRepository bookingRepository,
       InterviewerTimeSlotRepository interviewerTimeSlotRepository,
       InterviewerBookingLimitRepository interviewerBookingLimitRepository,
-      CandidateTimeSlotRepository candidateTimeSlotRepository) {
+      CandidateTimeSlotRepository candidateTimeSlotRepository,
+      ChangeVersions changeVersions,
+      OverlapConstraints overlapConstraints) {
     this.bookingRepository = bookingRepository;
     this.interviewerTimeSlotRepository = interviewerTimeSlotRepository;
     this.interviewerBookingLimitRepository = interviewerBookingLimitRepository;
     this.candidateTimeSlotRepository = candidateTimeSlotRepository;
+    this.changeVersions = changeVersions;
+    this.overlapConstraints = overlapConstraints;
 
   }
 
@@ -70,6 +92,7 @@ public class BookingService {
    * @param description         Description of booking
    * @return saved Booking
    */
+  @Transactional
   public Booking createBooking(UUID interviewerSlotId,
       UUID candidateTimeSlotId,
       LocalTime from,
@@ -77,20 +100,130 @@ public class BookingService {
       String subject,
       String description) {
 
-    validateBookingFields(interviewerSlotId, candidateTimeSlotId, from, to);
-
-    List<Booking> bookings = bookingRepository.findByInterviewerTimeSlotId(interviewerSlotId);
-    isBookingsOverlapping(from, to, bookings);
+    BookingValidationView view =
+        validateBookingFields(NEW_BOOKING, interviewerSlotId, candidateTimeSlotId, from, to);
+    if (view.getOverlappingBookingCount() > 0) {
+      throw new ValidationException(ValidationException.BOOKING_OVERLAP);
+    }
+    InterviewerTimeSlot its = view.getInterviewerTimeSlot();
 
     Booking booking = new Booking(
         from, to, interviewerSlotId, candidateTimeSlotId, subject, description
     );
 
-    bookingRepository.save(booking);
+    countBooking(its);
+    overlapConstraints.translateViolations(() -> bookingRepository.saveAndFlush(booking));
+    changeVersions.weekChanged(its.getWeekNum());
+    changeVersions.candidateChanged(view.getCandidateTimeSlot().getEmail());
+
+    return booking;
+  }
 
+  /**
+   * Creates bookings of a batch. The batch is validated in memory against one bulk
+   * load of the referenced slots, their bookings and the interviewers' limits, and
+   * the valid bookings are inserted in JDBC batches.
+   *
+   * @param bookings bookings to create
+   * @param mode     whether an invalid booking rejects the whole batch
+   * @return result of every booking, in the order of the batch
+   */
+  @Transactional
+  public List<BatchItemResult> createBookings(List<Booking> bookings, BatchMode mode) {
+    if (bookings.isEmpty() || bookings.size() > MAX_BATCH_SIZE) {
+      throw new ValidationException(ValidationException.BOOKING_BATCH_SIZE_EXCEEDED);
+    }
 
+    Map<UUID, InterviewerTimeSlot> interviewerSlots = interviewerTimeSlotRepository
+        .findAllById(bookings.stream()
+            .map(Booking::getInterviewerTimeSlotId).collect(Collectors.toSet()))
+        .stream().collect(Collectors.toMap(InterviewerTimeSlot::getId, slot -> slot));
+    Map<UUID, CandidateTimeSlot> candidateSlots = candidateTimeSlotRepository
+        .findAllById(bookings.stream()
+            .map(Booking::getCandidateTimeSlotId).collect(Collectors.toSet()))
+        .stream().collect(Collectors.toMap(CandidateTimeSlot::getId, slot -> slot));
+    Map<UUID, List<Booking>> slotBookings = bookingRepository
+        .findByInterviewerTimeSlotIdIn(interviewerSlots.keySet()).stream()
+        .collect(Collectors.groupingBy(Booking::getInterviewerTimeSlotId,
+            Collectors.toCollection(ArrayList::new)));
+    Set<UUID> bookedCandidateSlots = bookingRepository
+        .findByCandidateTimeSlotIdIn(candidateSlots.keySet()).stream()
+        .map(Booking::getCandidateTimeSlotId)
+        .collect(Collectors.toCollection(HashSet::new));
+    Map<String, Integer> remainingBookings = new HashMap<>();
+    for (InterviewerBookingLimit limit : interviewerBookingLimitRepository.findByInterviewerIdIn(
+        interviewerSlots.values().stream()
+            .map(InterviewerTimeSlot::getInterviewerId).collect(Collectors.toSet()))) {
+      int count = limit.getCurrentBookingCount() == null ? 0 : limit.getCurrentBookingCount();
+      remainingBookings.put(limitKey(limit.getInterviewerId(), limit.getWeekNum()),
+          limit.getWeekBookingLimit() - count);
+    }
 
-    return booking;
+    List<BatchItemResult> results = new ArrayList<>(bookings.size());
+    Map<String, List<Integer>> countedByLimit = new LinkedHashMap<>();
+    boolean anyFailed = false;
+    for (int i = 0; i < bookings.size(); i++) {
+      Booking booking = bookings.get(i);
+      try {
+        InterviewerTimeSlot its = interviewerSlots.get(booking.getInterviewerTimeSlotId());
+        if (its == null) {
+          throw new NotFoundException(NotFoundException.INTERVIEWER_SLOT_NOT_FOUND);
+        }
+        CandidateTimeSlot cts = candidateSlots.get(booking.getCandidateTimeSlotId());
+        if (cts == null) {
+          throw new NotFoundException(NotFoundException.CANDIDATE_SLOT_NOT_FOUND);
+        }
+        validateBooking(its, cts, booking.getFrom(), booking.getTo(),
+            bookedCandidateSlots.contains(cts.getId()));
+        List<Booking> existingBookings =
+            slotBookings.computeIfAbsent(its.getId(), id -> new ArrayList<>());
+        isBookingsOverlapping(booking.getFrom(), booking.getTo(), existingBookings);
+
+        String limitKey = limitKey(its.getInterviewerId(), its.getWeekNum());
+        Integer remaining = remainingBookings.get(limitKey);
+        if (remaining != null) {
+          if (remaining <= 0) {
+            throw new ValidationException(
+                ValidationException.INTERVIEWER_BOOKING_LIMIT_EXCEEDED);
+          }
+          remainingBookings.put(limitKey, remaining - 1);
+          countedByLimit.computeIfAbsent(limitKey, key -> new ArrayList<>()).add(i);
+        }
+        // later bookings of the batch are validated against this one as well
+        existingBookings.add(booking);
+        bookedCandidateSlots.add(cts.getId());
+        results.add(BatchItemResult.created(i, booking));
+      } catch (AbstractCommonException e) {
+        anyFailed = true;
+        results.add(BatchItemResult.failed(i, e));
+      }
+    }
+
+    if (anyFailed && mode == BatchMode.ALL_OR_NOTHING) {
+      for (int i = 0; i < results.size(); i++) {
+        if (results.get(i).getBooking() != null) {
+          results.set(i, BatchItemResult.failed(i,
+              new ValidationException(ValidationException.BOOKING_BATCH_REJECTED)));
+        }
+      }
+      return results;
+    }
+
+    countBookings(bookings, interviewerSlots, countedByLimit, results, mode);
+
+    List<Booking> validBookings = results.stream()
+        .map(BatchItemResult::getBooking)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+    overlapConstraints.translateViolations(
+        () -> bookingRepository.saveAllAndFlush(validBookings));
+    for (Booking booking : validBookings) {
+      changeVersions.weekChanged(
+          interviewerSlots.get(booking.getInterviewerTimeSlotId()).getWeekNum());
+      changeVersions.candidateChanged(
+          candidateSlots.get(booking.getCandidateTimeSlotId()).getEmail());
+    }
+    return results;
   }
 
   /**
@@ -105,19 +238,38 @@ public class BookingService {
         .orElseThrow(
             () -> new NotFoundException(NotFoundException.BOOKING_NOT_FOUND));
 
-    curBooking.setCandidateTimeSlotId(null);
-
-    validateBookingFields(
+    final UUID previousCandidateSlotId = curBooking.getCandidateTimeSlotId();
+    final BookingValidationView view = validateBookingFields(
+        id,
         updatedBooking.getInterviewerTimeSlotId(),
         updatedBooking.getCandidateTimeSlotId(),
         updatedBooking.getFrom(),
         updatedBooking.getTo()
     );
+    if (view.getOverlappingBookingCount() > 0) {
+      throw new ValidationException(ValidationException.BOOKING_OVERLAP);
+    }
+    final InterviewerTimeSlot its = view.getInterviewerTimeSlot();
+
+    InterviewerTimeSlot previousSlot = interviewerTimeSlotRepository
+        .findById(curBooking.getInterviewerTimeSlotId()).orElse(null);
+    if (previousSlot == null
+        || !previousSlot.getInterviewerId().equals(its.getInterviewerId())
+        || !previousSlot.getWeekNum().equals(its.getWeekNum())) {
+      // the booking moves to another interviewer or week
+      countBooking(its);
+      if (previousSlot != null) {
+        uncountBooking(previousSlot);
+      }
+    }
 
-    List<Booking> bookings = bookingRepository.findByInterviewerTimeSlotId(
-        curBooking.getInterviewerTimeSlotId());
-    bookings.remove(curBooking);
-    isBookingsOverlapping(curBooking.getFrom(), curBooking.getTo(), bookings);
+    if (previousSlot != null) {
+      changeVersions.weekChanged(previousSlot.getWeekNum());
+    }
+    changeVersions.weekChanged(its.getWeekNum());
+    candidateTimeSlotRepository.findEmailById(previousCandidateSlotId)
+        .ifPresent(changeVersions::candidateChanged);
+    changeVersions.candidateChanged(view.getCandidateTimeSlot().getEmail());
 
     curBooking.setInterviewerTimeSlotId(updatedBooking.getInterviewerTimeSlotId());
     curBooking.setCandidateTimeSlotId(updatedBooking.getCandidateTimeSlotId());
@@ -125,6 +277,7 @@ public class BookingService {
     curBooking.setTo(updatedBooking.getTo());
     curBooking.setSubject(updatedBooking.getSubject());
     curBooking.setDescription(updatedBooking.getDescription());
+    overlapConstraints.translateViolations(bookingRepository::flush);
     return curBooking;
   }
 
@@ -133,24 +286,50 @@ public class BookingService {
    *
    * @param bookingId booking id
    */
+  @Transactional
   public void deleteBooking(UUID bookingId) {
     Booking booking = bookingRepository.findById(bookingId)
         .orElseThrow(
             () -> new NotFoundException(NotFoundException.BOOKING_NOT_FOUND));
     bookingRepository.delete(booking);
+    interviewerTimeSlotRepository.findById(booking.getInterviewerTimeSlotId())
+        .ifPresent(its -> {
+          uncountBooking(its);
+          changeVersions.weekChanged(its.getWeekNum());
+        });
+    candidateTimeSlotRepository.findEmailById(booking.getCandidateTimeSlotId())
+        .ifPresent(changeVersions::candidateChanged);
   }
 
-  private void validateBookingFields(UUID interviewerSlotId,
+  /**
+   * Validate a booking of the slots, loading both slots in a single query.
+   * The booking with the id, if any, is the one being updated and doesn't
+   * count as booking the slots.
+   *
+   * @return validation view of the booked slots
+   */
+  private BookingValidationView validateBookingFields(UUID bookingId,
+      UUID interviewerSlotId,
       UUID candidateTimeSlotId,
       LocalTime from,
       LocalTime to) {
 
-    isInterviewerLimitExceeded(interviewerSlotId);
+    final BookingValidationView view = bookingRepository
+        .findValidationView(bookingId, interviewerSlotId, candidateTimeSlotId, from, to)
+        .orElseThrow(() -> interviewerTimeSlotRepository.existsById(interviewerSlotId)
+            ? new NotFoundException(NotFoundException.CANDIDATE_SLOT_NOT_FOUND)
+            : new NotFoundException(NotFoundException.INTERVIEWER_SLOT_NOT_FOUND));
 
-    boolean existCandidateTimeSlot = candidateTimeSlotRepository.existsById(candidateTimeSlotId);
-    if (!existCandidateTimeSlot) {
-      throw new NotFoundException(NotFoundException.CANDIDATE_SLOT_NOT_FOUND);
-    }
+    validateBooking(view.getInterviewerTimeSlot(), view.getCandidateTimeSlot(), from, to,
+        view.getCandidateSlotBookingCount() > 0);
+    return view;
+  }
+
+  private static void validateBooking(InterviewerTimeSlot its,
+      CandidateTimeSlot cts,
+      LocalTime from,
+      LocalTime to,
+      boolean candidateSlotBooked) {
 
     if (Math.abs(Duration.between(from, to).toMinutes()) != 90) {
       throw new ValidationException(ValidationException.WRONG_BOOKING_DURATION);
@@ -158,7 +337,6 @@ public class BookingService {
 
     PeriodUtil.validatePeriod(from, to);
 
-    CandidateTimeSlot cts = candidateTimeSlotRepository.findById(candidateTimeSlotId).get();
     LocalTime ctsFrom = cts.getFrom();
     LocalTime ctsTo = cts.getTo();
 
@@ -166,7 +344,6 @@ public class BookingService {
       throw new ValidationException(ValidationException.BOOKING_OUT_OF_BOUNDS_CANDIDATE);
     }
 
-    InterviewerTimeSlot its = interviewerTimeSlotRepository.findById(interviewerSlotId).get();
     LocalTime itsFrom = its.getFrom();
     LocalTime itsTo = its.getTo();
 
@@ -174,59 +351,110 @@ public class BookingService {
       throw new ValidationException(ValidationException.BOOKING_OUT_OF_BOUNDS_INTERVIEWER);
     }
 
-    if (!bookingRepository.findByCandidateTimeSlotId(candidateTimeSlotId).isEmpty()) {
+    if (candidateSlotBooked) {
       throw new ValidationException(ValidationException.CANDIDATE_SLOT_BOOKED);
     }
 
-    int itsYear = Integer.parseInt(its.getWeekNum().substring(0, 4));
-    int itsWeek = Integer.parseInt(its.getWeekNum().substring(4));
-
-    LocalDate itsDate = getFirstDateOfWeekByYearWeekNum(itsYear, itsWeek).plusDays(
-        (its.getDayOfWeek().getValue() - 1));
-
-    if (!itsDate.equals(cts.getDate())) {
+    // same date means same day of week and same week, no need to parse the week number
+    LocalDate ctsDate = cts.getDate();
+    if (its.getDayOfWeek() != ctsDate.getDayOfWeek()
+        || !WeekId.of(ctsDate).matches(its.getWeekNum())) {
       throw new ValidationException(ValidationException.DIFFERENT_SLOTS_DATES);
     }
-
-
   }
 
-  private boolean isInterviewerLimitExceeded(UUID interviewerTimeSlotId) {
-    //Getting BookingLimitRepository
-    UUID interviewerId = interviewerTimeSlotRepository.findById(interviewerTimeSlotId)
-        .orElseThrow(
-            () -> new NotFoundException(NotFoundException.INTERVIEWER_SLOT_NOT_FOUND))
-        .getInterviewerId();
-    List<InterviewerBookingLimit> interviewerBookingLimits = interviewerBookingLimitRepository
-        .findByInterviewerId(interviewerId);
-    InterviewerBookingLimit isNextWeekLimitExist = interviewerBookingLimitRepository
-        .findByInterviewerIdAndWeekNum(interviewerId,
-            WeekUtil.getNextWeekNumber());
-
-    int counter = interviewerBookingLimits.size();
-    if (isNextWeekLimitExist != null) {
-      counter--;
+  /**
+   * Count the booking against the limit of the slot's interviewer and week.
+   * The limit is checked and incremented by one conditional update, which holds
+   * the limit row until the booking transaction ends.
+   *
+   * @param its interviewer time slot of the booking
+   */
+  private void countBooking(InterviewerTimeSlot its) {
+    int counted = interviewerBookingLimitRepository.incrementBookingCount(
+        its.getInterviewerId(), its.getWeekNum());
+    if (counted == 0 && interviewerBookingLimitRepository.existsByInterviewerIdAndWeekNum(
+        its.getInterviewerId(), its.getWeekNum())) {
+      throw new ValidationException(ValidationException.INTERVIEWER_BOOKING_LIMIT_EXCEEDED);
     }
-    //If there are no limits
-    if (counter == 0) {
-      return false;
+  }
+
+  /**
+   * Count valid bookings of a batch against the limits they were validated
+   * against, a conditional update per interviewer and week. A limit that was
+   * reached concurrently in the meantime fails its bookings.
+   */
+  private void countBookings(List<Booking> bookings,
+      Map<UUID, InterviewerTimeSlot> interviewerSlots,
+      Map<String, List<Integer>> countedByLimit,
+      List<BatchItemResult> results,
+      BatchMode mode) {
+    for (List<Integer> indexes : countedByLimit.values()) {
+      InterviewerTimeSlot its = interviewerSlots.get(
+          bookings.get(indexes.get(0)).getInterviewerTimeSlotId());
+      int counted = interviewerBookingLimitRepository.incrementBookingCountBy(
+          its.getInterviewerId(), its.getWeekNum(), indexes.size());
+      if (counted == 0) {
+        ValidationException exception =
+            new ValidationException(ValidationException.INTERVIEWER_BOOKING_LIMIT_EXCEEDED);
+        if (mode == BatchMode.ALL_OR_NOTHING) {
+          throw exception;
+        }
+        for (int i : indexes) {
+          results.set(i, BatchItemResult.failed(i, exception));
+        }
+      }
     }
-    //Sorting the list and getting first (not next week) limit
-    interviewerBookingLimits.sort(
-        Comparator.comparingInt(o -> Integer.parseInt(o.getWeekNum())));
-    InterviewerBookingLimit interviewerBookingLimit = interviewerBookingLimits.get(counter - 1);
+  }
 
+  private static String limitKey(UUID interviewerId, String weekNum) {
+    return interviewerId + "/" + weekNum;
+  }
 
+  private void uncountBooking(InterviewerTimeSlot its) {
+    interviewerBookingLimitRepository.decrementBookingCount(
+        its.getInterviewerId(), its.getWeekNum());
+  }
 
-    int bookingLimit = interviewerBookingLimit.getWeekBookingLimit();
-    int bookingCount = interviewerBookingLimit.getCurrentBookingCount();
+  /**
+   * How a batch treats invalid bookings.
+   */
+  public enum BatchMode {
+    /**
+     * An invalid booking rejects the whole batch.
+     */
+    ALL_OR_NOTHING,
+    /**
+     * Valid bookings are created regardless of invalid ones.
+     */
+    BEST_EFFORT
+  }
 
-    if (bookingCount >= bookingLimit) {
-      throw new ValidationException(ValidationException.INTERVIEWER_BOOKING_LIMIT_EXCEEDED);
+  /**
+   * Result of a booking of a batch: the created booking or the reason it wasn't created.
+   */
+  @Getter
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public static class BatchItemResult {
+    private final int index;
+    private final Booking booking;
+    private final String errorCode;
+    private final String errorMessage;
+
+    private BatchItemResult(int index, Booking booking, String errorCode, String errorMessage) {
+      this.index = index;
+      this.booking = booking;
+      this.errorCode = errorCode;
+      this.errorMessage = errorMessage;
+    }
+
+    static BatchItemResult created(int index, Booking booking) {
+      return new BatchItemResult(index, booking, null, null);
     }
-    return false;
 
+    static BatchItemResult failed(int index, AbstractCommonException exception) {
+      return new BatchItemResult(index, null, exception.getErrorCode(),
+          exception.getErrorMessage());
+    }
   }
 }
-
-
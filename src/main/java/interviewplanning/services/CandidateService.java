@@ -1,5 +1,6 @@
 package interviewplanning.services;
 
+import interviewplanning.cache.ChangeVersions;
 import interviewplanning.exceptions.NotFoundException;
 import interviewplanning.exceptions.ValidationException;
 import interviewplanning.models.Booking;
@@ -7,9 +8,11 @@ import interviewplanning.models.CandidateTimeSlot;
 import interviewplanning.repositories.BookingRepository;
 import interviewplanning.repositories.CandidateTimeSlotRepository;
 import interviewplanning.utils.PeriodUtil;
+import interviewplanning.utils.WeekCalendar;
 import interviewplanning.utils.WeekUtil;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,18 +25,30 @@ import org.springframework.stereotype.Service;
 public class CandidateService {
   private final CandidateTimeSlotRepository candidateTimeSlotRepository;
   private final BookingRepository bookingRepository;
+  private final ChangeVersions changeVersions;
+  private final OverlapConstraints overlapConstraints;
+  private final WeekCalendar weekCalendar;
 
   /**
    * Constructor.
    *
    * @param candidateTimeSlotRepository candidate time slot repository
    * @param bookingRepository           booking repository
+   * @param changeVersions              change versions
+   * @param overlapConstraints          overlap constraints of the database
+   * @param weekCalendar                calendar of the application clock
    */
   @Autowired
   public CandidateService(CandidateTimeSlotRepository candidateTimeSlotRepository,
-                          BookingRepository bookingRepository) {
+                          BookingRepository bookingRepository,
+                          ChangeVersions changeVersions,
+                          OverlapConstraints overlapConstraints,
+                          WeekCalendar weekCalendar) {
     this.candidateTimeSlotRepository = candidateTimeSlotRepository;
     this.bookingRepository = bookingRepository;
+    this.changeVersions = changeVersions;
+    this.overlapConstraints = overlapConstraints;
+    this.weekCalendar = weekCalendar;
   }
 
   /**
@@ -48,15 +63,21 @@ public class CandidateService {
     LocalDate date = candidateTimeSlot.getDate();
 
     PeriodUtil.validatePeriod(from, to);
-    PeriodUtil.validateDate(date);
+    PeriodUtil.validateDate(date, weekCalendar.getToday());
     WeekUtil.validateDayOfWeek(date.getDayOfWeek());
 
-    List<CandidateTimeSlot> slots =
-        candidateTimeSlotRepository.findByEmailAndDate(candidateTimeSlot.getEmail(),
-            candidateTimeSlot.getDate());
+    if (!overlapConstraints.isEnforcedByDatabase()) {
+      List<CandidateTimeSlot> slots =
+          candidateTimeSlotRepository.findByEmailAndDate(candidateTimeSlot.getEmail(),
+              candidateTimeSlot.getDate());
 
-    PeriodUtil.isCandidateSlotOverlapping(candidateTimeSlot, slots);
-    return candidateTimeSlotRepository.save(candidateTimeSlot);
+      PeriodUtil.isCandidateSlotOverlapping(candidateTimeSlot, slots);
+    }
+    CandidateTimeSlot savedSlot = overlapConstraints.translateViolations(
+        () -> candidateTimeSlotRepository.save(candidateTimeSlot));
+    changeVersions.weekChanged(WeekUtil.getWeekNumberByDate(date));
+    changeVersions.candidateChanged(candidateTimeSlot.getEmail());
+    return savedSlot;
   }
 
   /**
@@ -83,21 +104,28 @@ public class CandidateService {
     LocalTime from = candidateTimeSlot.getFrom();
     LocalTime to = candidateTimeSlot.getTo();
     LocalDate date = candidateTimeSlot.getDate();
-    List<CandidateTimeSlot> slots =
-        candidateTimeSlotRepository.findByEmailAndDate(existingSlot.getEmail(), date);
+    List<CandidateTimeSlot> slots = overlapConstraints.isEnforcedByDatabase()
+        ? new ArrayList<>()
+        : candidateTimeSlotRepository.findByEmailAndDate(existingSlot.getEmail(), date);
     // don't take into account period of the existing slot
     slots.remove(existingSlot);
 
     PeriodUtil.validatePeriod(from, to);
-    PeriodUtil.validateDate(date);
+    PeriodUtil.validateDate(date, weekCalendar.getToday());
     WeekUtil.validateDayOfWeek(date.getDayOfWeek());
     PeriodUtil.isCandidateSlotOverlapping(candidateTimeSlot, slots);
 
+    final String previousWeekNum = WeekUtil.getWeekNumberByDate(existingSlot.getDate());
     existingSlot.setFrom(candidateTimeSlot.getFrom());
     existingSlot.setTo(candidateTimeSlot.getTo());
     existingSlot.setDate(candidateTimeSlot.getDate());
 
-    return candidateTimeSlotRepository.save(existingSlot);
+    final CandidateTimeSlot savedSlot = overlapConstraints.translateViolations(
+        () -> candidateTimeSlotRepository.save(existingSlot));
+    changeVersions.weekChanged(previousWeekNum);
+    changeVersions.weekChanged(WeekUtil.getWeekNumberByDate(date));
+    changeVersions.candidateChanged(existingSlot.getEmail());
+    return savedSlot;
   }
 
   /**
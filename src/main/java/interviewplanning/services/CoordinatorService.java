@@ -2,6 +2,10 @@ package interviewplanning.services;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import interviewplanning.cache.DashboardCache;
+import interviewplanning.cache.DashboardSnapshot;
+import interviewplanning.cache.RoleEpochs;
+import interviewplanning.cache.UserRoleCache;
 import interviewplanning.exceptions.AuthException;
 import interviewplanning.exceptions.NotFoundException;
 import interviewplanning.exceptions.ValidationException;
@@ -14,7 +18,8 @@ import interviewplanning.repositories.BookingRepository;
 import interviewplanning.repositories.CandidateTimeSlotRepository;
 import interviewplanning.repositories.InterviewerTimeSlotRepository;
 import interviewplanning.repositories.UserRepository;
-import interviewplanning.utils.WeekUtil;
+import interviewplanning.utils.WeekCalendar;
+import interviewplanning.utils.WeekId;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -41,6 +46,10 @@ public class CoordinatorService {
   private final CandidateTimeSlotRepository candidateTimeSlotRepository;
   private final InterviewerTimeSlotRepository interviewerTimeSlotRepository;
   private final InterviewerService interviewerService;
+  private final DashboardCache dashboardCache;
+  private final UserRoleCache userRoleCache;
+  private final RoleEpochs roleEpochs;
+  private final WeekCalendar weekCalendar;
 
   /**
    * Constructor.
@@ -50,18 +59,30 @@ public class CoordinatorService {
    * @param candidateTimeSlotRepository   candidate time slot repository
    * @param interviewerTimeSlotRepository interviewer time slot repository
    * @param interviewerService            interviewer service
+   * @param dashboardCache                dashboard cache
+   * @param userRoleCache                 cache of the current roles of users
+   * @param roleEpochs                    role epochs of users
+   * @param weekCalendar                  current and next week
    */
   @Autowired
   public CoordinatorService(UserRepository coordinatorRepository,
                             BookingRepository bookingRepository,
                             CandidateTimeSlotRepository candidateTimeSlotRepository,
                             InterviewerTimeSlotRepository interviewerTimeSlotRepository,
-                            InterviewerService interviewerService) {
+                            InterviewerService interviewerService,
+                            DashboardCache dashboardCache,
+                            UserRoleCache userRoleCache,
+                            RoleEpochs roleEpochs,
+                            WeekCalendar weekCalendar) {
     this.coordinatorRepository = coordinatorRepository;
     this.bookingRepository = bookingRepository;
     this.candidateTimeSlotRepository = candidateTimeSlotRepository;
     this.interviewerTimeSlotRepository = interviewerTimeSlotRepository;
     this.interviewerService = interviewerService;
+    this.dashboardCache = dashboardCache;
+    this.userRoleCache = userRoleCache;
+    this.roleEpochs = roleEpochs;
+    this.weekCalendar = weekCalendar;
   }
 
   /**
@@ -75,7 +96,7 @@ public class CoordinatorService {
   public InterviewerTimeSlot updateInterviewerTimeSlot(InterviewerTimeSlot interviewerTimeSlot,
                                                        UUID interviewerId,
                                                        UUID slotId) {
-    WeekUtil.validateIsCurrentOrNextWeekNumber(interviewerTimeSlot.getWeekNum());
+    weekCalendar.validateIsCurrentOrNextWeekNumber(interviewerTimeSlot.getWeekNum());
     return interviewerService.updateSlot(interviewerTimeSlot, interviewerId, slotId);
   }
 
@@ -91,7 +112,9 @@ public class CoordinatorService {
       throw new ValidationException(ValidationException.USER_EMAIL_EXISTS);
     }
     coordinator.setRole(UserRole.COORDINATOR);
-    return coordinatorRepository.save(coordinator);
+    User saved = coordinatorRepository.save(coordinator);
+    roleChanged(coordinator.getEmail());
+    return saved;
   }
 
   /**
@@ -106,7 +129,9 @@ public class CoordinatorService {
       throw new ValidationException(ValidationException.USER_EMAIL_EXISTS);
     }
     interviewer.setRole(UserRole.INTERVIEWER);
-    return coordinatorRepository.save(interviewer);
+    User saved = coordinatorRepository.save(interviewer);
+    roleChanged(interviewer.getEmail());
+    return saved;
   }
 
   /**
@@ -125,6 +150,7 @@ public class CoordinatorService {
       throw new ValidationException(ValidationException.COORDINATOR_CAN_NOT_BE_REVOKED);
     }
     coordinatorRepository.deleteById(coordinatorId);
+    roleChanged(coordinator.getEmail());
   }
 
   /**
@@ -140,6 +166,7 @@ public class CoordinatorService {
       throw new AuthException(AuthException.ACCESS_UNAUTHORIZED);
     }
     coordinatorRepository.deleteById(interviewerId);
+    roleChanged(coordinator.getEmail());
   }
 
   /**
@@ -160,20 +187,26 @@ public class CoordinatorService {
     return coordinatorRepository.findByRole(UserRole.INTERVIEWER);
   }
 
+  /**
+   * Get interviewer slots of the week with their bookings, grouped by day of week.
+   *
+   * @param weekNum week number
+   * @return map of slots by day of week
+   */
   public Map<DayOfWeek, List<InterviewerTimeSlot>> getInterviewerSlotsByDayOfWeek(String weekNum) {
-    return interviewerTimeSlotRepository.findByWeekNum(weekNum).stream()
+    return interviewerTimeSlotRepository.findWithBookingsByWeekNum(weekNum).stream()
         .collect(Collectors.groupingBy(InterviewerTimeSlot::getDayOfWeek));
   }
 
   /**
-   * Get candidate slots by date.
+   * Get candidate slots of the working week with their bookings, grouped by date.
    *
    * @param firstDateOfWeek first date of week
    * @return map of slots by date
    */
   public Map<LocalDate, List<CandidateTimeSlot>> getCandidateSlotsByDate(
       LocalDate firstDateOfWeek) {
-    return candidateTimeSlotRepository.findByDateBetween(firstDateOfWeek,
+    return candidateTimeSlotRepository.findWithBookingsByDateBetween(firstDateOfWeek,
         firstDateOfWeek.plusDays(4L)).stream().collect(
         Collectors.groupingBy(CandidateTimeSlot::getDate));
   }
@@ -197,14 +230,30 @@ public class CoordinatorService {
 
   /**
    * Get all both interviewers' and candidates' slots and bookings.
+   * Bookings are fetched together with the slots, so the number of queries
+   * doesn't depend on the number of slots in the week. The result is cached
+   * until the week is changed.
    *
    * @param weekNum week number
    * @return map of slots and bookings by days
    */
   public Map<String, DayInfo[]> getAllSlotsAndBookingsGroupedByDay(String weekNum) {
-    int year = Integer.parseInt(weekNum.substring(0, 4));
-    int weekNumInt = Integer.parseInt(weekNum.substring(4));
-    LocalDate firstDateOfWeek = WeekUtil.getFirstDateOfWeekByYearWeekNum(year, weekNumInt);
+    return getDashboardSnapshot(weekNum).getDashboard();
+  }
+
+  /**
+   * Get dashboard of the week together with its encoded JSON, which is
+   * encoded once per change of the week.
+   *
+   * @param weekNum week number
+   * @return dashboard snapshot
+   */
+  public DashboardSnapshot getDashboardSnapshot(String weekNum) {
+    return dashboardCache.get(weekNum, () -> loadAllSlotsAndBookingsGroupedByDay(weekNum));
+  }
+
+  private Map<String, DayInfo[]> loadAllSlotsAndBookingsGroupedByDay(String weekNum) {
+    LocalDate firstDateOfWeek = weekCalendar.getMonday(WeekId.parse(weekNum));
 
     DayOfWeek[] dayOfWeeks = {DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
         DayOfWeek.THURSDAY, DayOfWeek.FRIDAY, DayOfWeek.SATURDAY, DayOfWeek.SUNDAY};
@@ -245,6 +294,11 @@ public class CoordinatorService {
     return resultMap;
   }
 
+  private void roleChanged(String email) {
+    userRoleCache.invalidate(email);
+    roleEpochs.roleChanged(email);
+  }
+
   /**
    * Static inner class for dashboard data serialization.
    */
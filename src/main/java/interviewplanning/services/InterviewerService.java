@@ -1,5 +1,6 @@
 package interviewplanning.services;
 
+import interviewplanning.cache.ChangeVersions;
 import interviewplanning.exceptions.NotFoundException;
 import interviewplanning.exceptions.ValidationException;
 import interviewplanning.models.Booking;
@@ -11,10 +12,13 @@ import interviewplanning.repositories.InterviewerBookingLimitRepository;
 import interviewplanning.repositories.InterviewerTimeSlotRepository;
 import interviewplanning.repositories.UserRepository;
 import interviewplanning.utils.PeriodUtil;
+import interviewplanning.utils.WeekCalendar;
 import interviewplanning.utils.WeekUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import javax.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -23,10 +27,15 @@ import org.springframework.stereotype.Service;
  */
 @Service
 public class InterviewerService {
+  private static final int MAX_BULK_SIZE = 100;
+
   private final UserRepository interviewerRepository;
   private final InterviewerTimeSlotRepository interviewerTimeSlotRepository;
   private final BookingRepository bookingRepository;
   private final InterviewerBookingLimitRepository interviewerBookingLimitRepository;
+  private final ChangeVersions changeVersions;
+  private final OverlapConstraints overlapConstraints;
+  private final WeekCalendar weekCalendar;
 
   /**
    * Constructor.
@@ -35,17 +44,26 @@ public class InterviewerService {
    * @param interviewerTimeSlotRepository     interviewer time slot repository
    * @param bookingRepository                 booking repository
    * @param interviewerBookingLimitRepository interviewer booking limit repository
+   * @param changeVersions                    change versions
+   * @param overlapConstraints                overlap constraints of the database
+   * @param weekCalendar                      current and next week
    */
 
   @Autowired
   public InterviewerService(UserRepository interviewerRepository,
                             InterviewerTimeSlotRepository interviewerTimeSlotRepository,
                             BookingRepository bookingRepository,
-                            InterviewerBookingLimitRepository interviewerBookingLimitRepository) {
+                            InterviewerBookingLimitRepository interviewerBookingLimitRepository,
+                            ChangeVersions changeVersions,
+                            OverlapConstraints overlapConstraints,
+                            WeekCalendar weekCalendar) {
     this.interviewerRepository = interviewerRepository;
     this.interviewerTimeSlotRepository = interviewerTimeSlotRepository;
     this.bookingRepository = bookingRepository;
     this.interviewerBookingLimitRepository = interviewerBookingLimitRepository;
+    this.changeVersions = changeVersions;
+    this.overlapConstraints = overlapConstraints;
+    this.weekCalendar = weekCalendar;
   }
 
   /**
@@ -75,21 +93,102 @@ public class InterviewerService {
     interviewerTimeSlot.setInterviewerId(interviewerId);
 
     WeekUtil.validateDayOfWeek(interviewerTimeSlot.getDayOfWeek());
-    WeekUtil.validateIsNextWeekNumber(interviewerTimeSlot.getWeekNum(),
-        WeekUtil.getNextWeekNumber());
+    weekCalendar.validateIsNextWeekNumber(interviewerTimeSlot.getWeekNum());
     PeriodUtil.validatePeriod(interviewerTimeSlot.getFrom(), interviewerTimeSlot.getTo());
 
-    // check if new time slot is not overlapping existing slots of the day
-    List<InterviewerTimeSlot> slots =
-        interviewerTimeSlotRepository.findByDayOfWeekAndInterviewerIdAndWeekNum(
-            interviewerTimeSlot.getDayOfWeek(),
-            interviewerTimeSlot.getInterviewerId(), interviewerTimeSlot.getWeekNum());
+    if (!overlapConstraints.isEnforcedByDatabase()) {
+      // check if new time slot is not overlapping existing slots of the day
+      List<InterviewerTimeSlot> slots =
+          interviewerTimeSlotRepository.findByDayOfWeekAndInterviewerIdAndWeekNum(
+              interviewerTimeSlot.getDayOfWeek(),
+              interviewerTimeSlot.getInterviewerId(), interviewerTimeSlot.getWeekNum());
 
-    for (InterviewerTimeSlot timeSlot : slots) {
-      PeriodUtil.isOverlapping(timeSlot, interviewerTimeSlot);
+      for (InterviewerTimeSlot timeSlot : slots) {
+        PeriodUtil.isOverlapping(timeSlot, interviewerTimeSlot);
+      }
     }
 
-    return interviewerTimeSlotRepository.save(interviewerTimeSlot);
+    InterviewerTimeSlot savedSlot = overlapConstraints.translateViolations(
+        () -> interviewerTimeSlotRepository.save(interviewerTimeSlot));
+    changeVersions.weekChanged(interviewerTimeSlot.getWeekNum());
+    return savedSlot;
+  }
+
+  /**
+   * Create interviewer slots of the next week at once. The new slots are checked
+   * against each other and the interviewer's existing slots of the week in one
+   * sort-and-sweep pass, and inserted in JDBC batches.
+   *
+   * @param interviewerTimeSlots interviewer time slots
+   * @param interviewerId        interviewer id
+   * @return new interviewer time slots if valid
+   */
+  @Transactional
+  public List<InterviewerTimeSlot> createSlots(List<InterviewerTimeSlot> interviewerTimeSlots,
+                                               UUID interviewerId) {
+    if (interviewerTimeSlots.isEmpty() || interviewerTimeSlots.size() > MAX_BULK_SIZE) {
+      throw new ValidationException(ValidationException.SLOT_BULK_SIZE_EXCEEDED);
+    }
+    validateInterviewerExistsById(interviewerId);
+
+    String nextWeekNumber = weekCalendar.getNextWeek().toString();
+    for (InterviewerTimeSlot interviewerTimeSlot : interviewerTimeSlots) {
+      interviewerTimeSlot.setInterviewerId(interviewerId);
+      WeekUtil.validateDayOfWeek(interviewerTimeSlot.getDayOfWeek());
+      WeekUtil.validateIsNextWeekNumber(interviewerTimeSlot.getWeekNum(), nextWeekNumber);
+      PeriodUtil.validatePeriod(interviewerTimeSlot.getFrom(), interviewerTimeSlot.getTo());
+    }
+
+    List<InterviewerTimeSlot> slots = new ArrayList<>(interviewerTimeSlots);
+    if (!overlapConstraints.isEnforcedByDatabase()) {
+      slots.addAll(interviewerTimeSlotRepository.findByInterviewerIdAndWeekNum(
+          interviewerId, nextWeekNumber));
+    }
+    PeriodUtil.validateNotOverlapping(slots);
+
+    List<InterviewerTimeSlot> savedSlots = overlapConstraints.translateViolations(
+        () -> interviewerTimeSlotRepository.saveAllAndFlush(interviewerTimeSlots));
+    changeVersions.weekChanged(nextWeekNumber);
+    return savedSlots;
+  }
+
+  /**
+   * Copy the interviewer's slots of the current week to the next week with a
+   * single INSERT ... SELECT. Slots overlapping ones the interviewer already
+   * has in the next week are skipped.
+   *
+   * @param interviewerId interviewer id
+   * @return number of copied slots
+   */
+  @Transactional
+  public int copyCurrentWeekSlotsToNextWeek(UUID interviewerId) {
+    validateInterviewerExistsById(interviewerId);
+    String nextWeekNumber = weekCalendar.getNextWeek().toString();
+    int copiedSlots = overlapConstraints.translateViolations(
+        () -> interviewerTimeSlotRepository.copySlotsToWeek(
+            interviewerId, weekCalendar.getCurrentWeek().toString(), nextWeekNumber));
+    if (copiedSlots > 0) {
+      changeVersions.weekChanged(nextWeekNumber);
+    }
+    return copiedSlots;
+  }
+
+  /**
+   * Copy the slots of the current week to the next week for all interviewers
+   * with a single INSERT ... SELECT.
+   *
+   * @return number of copied slots
+   */
+  @Transactional
+  public int copyAllCurrentWeekSlotsToNextWeek() {
+    String nextWeekNumber = weekCalendar.getNextWeek().toString();
+    int copiedSlots = overlapConstraints.translateViolations(
+        () -> interviewerTimeSlotRepository.copyAllSlotsToWeek(
+            weekCalendar.getCurrentWeek().toString(), nextWeekNumber));
+    if (copiedSlots > 0) {
+      changeVersions.weekChanged(nextWeekNumber);
+    }
+    return copiedSlots;
   }
 
   /**
@@ -123,13 +222,15 @@ public class InterviewerService {
       throw new ValidationException(ValidationException.BOOKING_ALREADY_MADE);
     }
     // creating a list of slots interviewer has for current day
-    List<InterviewerTimeSlot> slots =
-        interviewerTimeSlotRepository.findByDayOfWeekAndInterviewerIdAndWeekNum(
+    List<InterviewerTimeSlot> slots = overlapConstraints.isEnforcedByDatabase()
+        ? new ArrayList<>()
+        : interviewerTimeSlotRepository.findByDayOfWeekAndInterviewerIdAndWeekNum(
             interviewerTimeSlot.getDayOfWeek(),
             interviewerTimeSlot.getInterviewerId(), interviewerTimeSlot.getWeekNum());
     //remove slot that will be updating
     slots.remove(existingSlot);
 
+    final String previousWeekNum = existingSlot.getWeekNum();
     //setting fields to the slot that will be updating
     existingSlot.setWeekNum(interviewerTimeSlot.getWeekNum());
     existingSlot.setDayOfWeek(interviewerTimeSlot.getDayOfWeek());
@@ -142,7 +243,11 @@ public class InterviewerService {
       PeriodUtil.isOverlapping(timeslot, existingSlot);
     }
 
-    return interviewerTimeSlotRepository.save(existingSlot);
+    InterviewerTimeSlot savedSlot = overlapConstraints.translateViolations(
+        () -> interviewerTimeSlotRepository.save(existingSlot));
+    changeVersions.weekChanged(previousWeekNum);
+    changeVersions.weekChanged(interviewerTimeSlot.getWeekNum());
+    return savedSlot;
   }
 
   /**
@@ -156,8 +261,7 @@ public class InterviewerService {
   public InterviewerTimeSlot updateSlotForNextWeek(InterviewerTimeSlot interviewerTimeSlot,
                                                    UUID interviewerId,
                                                    UUID slotId) {
-    WeekUtil.validateIsNextWeekNumber(interviewerTimeSlot.getWeekNum(),
-        WeekUtil.getNextWeekNumber());
+    weekCalendar.validateIsNextWeekNumber(interviewerTimeSlot.getWeekNum());
     return updateSlot(interviewerTimeSlot, interviewerId, slotId);
   }
 
@@ -188,8 +292,7 @@ public class InterviewerService {
 
     // check if weekNum is for the next week
     String weekNum = interviewerBookingLimit.getWeekNum();
-    String nextWeekNumber = WeekUtil.getNextWeekNumber();
-    WeekUtil.validateIsNextWeekNumber(weekNum, nextWeekNumber);
+    weekCalendar.validateIsNextWeekNumber(weekNum);
     interviewerBookingLimit.setInterviewerId(interviewerId);
 
     // if the interviewer has already a booking limit for
@@ -203,6 +306,9 @@ public class InterviewerService {
       return interviewerBookingLimitRepository.save(existingBookingLimit);
     }
 
+    // count the bookings the interviewer already has in the week
+    interviewerBookingLimit.setCurrentBookingCount(Math.toIntExact(
+        bookingRepository.countByInterviewerIdAndWeekNum(interviewerId, weekNum)));
     return interviewerBookingLimitRepository.save(interviewerBookingLimit);
   }
 
@@ -220,7 +326,7 @@ public class InterviewerService {
       UUID interviewerId, boolean isForCurrentWeek) {
 
     String requiredWeekNumber = isForCurrentWeek
-        ? WeekUtil.getCurrentWeekNumber() : WeekUtil.getNextWeekNumber();
+        ? weekCalendar.getCurrentWeek().toString() : weekCalendar.getNextWeek().toString();
 
     Optional<User> interviewer = interviewerRepository.findById(interviewerId);
     if (interviewer.isEmpty()) {
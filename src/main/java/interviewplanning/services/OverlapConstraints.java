@@ -0,0 +1,86 @@
+package interviewplanning.services;
+
+import interviewplanning.exceptions.AbstractCommonException.Detail;
+import interviewplanning.exceptions.ValidationException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Overlap and double booking constraints of the database schema.
+ * When the schema enforces them (see docs/schema.sql), services skip loading
+ * existing slots and bookings to check them and rely on the constraint
+ * violations instead. Databases without exclusion constraints, such as H2,
+ * keep the checks in the services.
+ */
+@Component
+public class OverlapConstraints {
+  private static final Map<String, Detail> CONSTRAINT_DETAILS = Map.of(
+      "bookings_no_overlap", ValidationException.BOOKING_OVERLAP,
+      "bookings_candidate_time_slot_key", ValidationException.CANDIDATE_SLOT_BOOKED,
+      "interviewer_time_slots_no_overlap", ValidationException.OVERLAPPING_PERIOD,
+      "candidate_time_slots_no_overlap", ValidationException.OVERLAPPING_PERIOD);
+
+  private final boolean enforcedByDatabase;
+
+  public OverlapConstraints(
+      @Value("${overlap.database-constraints:false}") boolean enforcedByDatabase) {
+    this.enforcedByDatabase = enforcedByDatabase;
+  }
+
+  /**
+   * Whether the database rejects overlapping slots and bookings itself.
+   *
+   * @return true if services may skip their own overlap checks
+   */
+  public boolean isEnforcedByDatabase() {
+    return enforcedByDatabase;
+  }
+
+  /**
+   * Run a write, translating violations of the overlap constraints into
+   * validation exceptions with the codes the services' own checks use.
+   * The write has to flush, so violations are raised here.
+   *
+   * @param write flushing write
+   * @param <T>   result type
+   * @return result of the write
+   */
+  public <T> T translateViolations(Supplier<T> write) {
+    try {
+      return write.get();
+    } catch (DataIntegrityViolationException e) {
+      throw translate(e);
+    }
+  }
+
+  /**
+   * Run a write, translating violations of the overlap constraints into
+   * validation exceptions.
+   *
+   * @param write flushing write
+   */
+  public void translateViolations(Runnable write) {
+    try {
+      write.run();
+    } catch (DataIntegrityViolationException e) {
+      throw translate(e);
+    }
+  }
+
+  private static RuntimeException translate(DataIntegrityViolationException e) {
+    // exclusion violations carry no constraint name, so it's taken from the message
+    String message = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage())
+        .toLowerCase(Locale.ROOT);
+    for (Map.Entry<String, Detail> constraint : CONSTRAINT_DETAILS.entrySet()) {
+      if (message.contains(constraint.getKey())) {
+        return new ValidationException(constraint.getValue());
+      }
+    }
+    return e;
+  }
+}
@@ -7,6 +7,8 @@ import interviewplanning.models.InterviewerTimeSlot;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -50,7 +52,17 @@ public final class PeriodUtil {
    * @param date slot date
    */
   public static void validateDate(LocalDate date) {
-    if (date.isBefore(LocalDate.now())) {
+    validateDate(date, LocalDate.now());
+  }
+
+  /**
+   * Validate candidate slot date.
+   *
+   * @param date  slot date
+   * @param today today's date
+   */
+  public static void validateDate(LocalDate date, LocalDate today) {
+    if (date.isBefore(today)) {
       throw new ValidationException(ValidationException.DATE_IS_OUTDATED);
     }
   }
@@ -71,6 +83,26 @@ public final class PeriodUtil {
     }
   }
 
+  /**
+   * Check that no two slots overlap in a single sort-and-sweep pass: once the
+   * slots are sorted by day and start time, any overlap shows up between
+   * neighbours.
+   *
+   * @param slots slots of the same interviewer and week
+   */
+  public static void validateNotOverlapping(List<InterviewerTimeSlot> slots) {
+    List<InterviewerTimeSlot> sortedSlots = new ArrayList<>(slots);
+    sortedSlots.sort(Comparator.comparing(InterviewerTimeSlot::getDayOfWeek)
+        .thenComparing(InterviewerTimeSlot::getFrom));
+    for (int i = 1; i < sortedSlots.size(); i++) {
+      InterviewerTimeSlot previous = sortedSlots.get(i - 1);
+      InterviewerTimeSlot current = sortedSlots.get(i);
+      if (previous.getDayOfWeek() == current.getDayOfWeek()) {
+        isOverlapping(previous, current);
+      }
+    }
+  }
+
   /**
    * Check if new time slot is not overlapping existing slots.
    *
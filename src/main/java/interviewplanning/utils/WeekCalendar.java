@@ -0,0 +1,161 @@
+package interviewplanning.utils;
+
+import interviewplanning.exceptions.ValidationException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Current and next week by the application clock. Both weeks and their
+ * Mondays are computed once per week, and when the clock passes the end of
+ * the current week a {@link WeekRolloverEvent} is published, either on the
+ * first call after it or on the next scheduled tick. Tests pass a fixed or
+ * offset clock to move between weeks.
+ */
+@Component
+public class WeekCalendar {
+  private final Clock clock;
+  private final ApplicationEventPublisher eventPublisher;
+  private final AtomicReference<Weeks> weeks = new AtomicReference<>();
+
+  /**
+   * Constructor.
+   *
+   * @param clock          application clock
+   * @param eventPublisher publisher of the week rollover events
+   */
+  @Autowired
+  public WeekCalendar(Clock clock, ApplicationEventPublisher eventPublisher) {
+    this.clock = clock;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * Constructor of a calendar that publishes no events.
+   *
+   * @param clock clock
+   */
+  public WeekCalendar(Clock clock) {
+    this(clock, event -> {
+    });
+  }
+
+  /**
+   * Get today's date.
+   *
+   * @return today
+   */
+  public LocalDate getToday() {
+    return LocalDate.now(clock);
+  }
+
+  /**
+   * Get the current week.
+   *
+   * @return current week
+   */
+  public WeekId getCurrentWeek() {
+    return weeks().current;
+  }
+
+  /**
+   * Get the week after the current one.
+   *
+   * @return next week
+   */
+  public WeekId getNextWeek() {
+    return weeks().next;
+  }
+
+  /**
+   * Get the Monday of the week, precomputed for the current and next week.
+   *
+   * @param week a week
+   * @return first date of the week
+   */
+  public LocalDate getMonday(WeekId week) {
+    Weeks current = weeks();
+    if (week.equals(current.current)) {
+      return current.currentMonday;
+    }
+    if (week.equals(current.next)) {
+      return current.nextMonday;
+    }
+    return week.getMonday();
+  }
+
+  /**
+   * Validate if a week number is the next week number.
+   *
+   * @param weekNum week number
+   */
+  public void validateIsNextWeekNumber(String weekNum) {
+    if (!weeks().next.matches(weekNum)) {
+      throw new ValidationException(ValidationException.NOT_NEXT_WEEK_NUMBER);
+    }
+  }
+
+  /**
+   * Validate if a week number is the current or next week number.
+   *
+   * @param weekNum week number
+   */
+  public void validateIsCurrentOrNextWeekNumber(String weekNum) {
+    Weeks current = weeks();
+    if (!(current.current.matches(weekNum) || current.next.matches(weekNum))) {
+      throw new ValidationException(ValidationException.NOT_CURRENT_OR_NEXT_WEEK);
+    }
+  }
+
+  /**
+   * Check the clock, so the rollover event is published soon after the week
+   * ends even if no request asks for the week.
+   */
+  @Scheduled(fixedDelayString = "${week-calendar.tick-ms:60000}")
+  public void tick() {
+    weeks();
+  }
+
+  private Weeks weeks() {
+    Weeks cached = weeks.get();
+    long now = clock.millis();
+    if (cached != null && now >= cached.validFrom && now < cached.validUntil) {
+      return cached;
+    }
+    ZoneId zone = clock.getZone();
+    Weeks updated = new Weeks(LocalDate.ofInstant(Instant.ofEpochMilli(now), zone), zone);
+    if (weeks.compareAndSet(cached, updated) && cached != null
+        && !cached.current.equals(updated.current)) {
+      eventPublisher.publishEvent(
+          new WeekRolloverEvent(cached.current, updated.current, updated.next));
+    }
+    return updated;
+  }
+
+  /**
+   * Current and next week, valid until the current week ends.
+   */
+  private static class Weeks {
+    private final WeekId current;
+    private final WeekId next;
+    private final LocalDate currentMonday;
+    private final LocalDate nextMonday;
+    private final long validFrom;
+    private final long validUntil;
+
+    Weeks(LocalDate today, ZoneId zone) {
+      this.current = WeekId.of(today);
+      this.next = current.next();
+      this.currentMonday = current.getMonday();
+      this.nextMonday = next.getMonday();
+      this.validFrom = currentMonday.atStartOfDay(zone).toInstant().toEpochMilli();
+      this.validUntil = nextMonday.atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+  }
+}
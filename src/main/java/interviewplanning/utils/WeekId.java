@@ -0,0 +1,182 @@
+package interviewplanning.utils;
+
+import interviewplanning.exceptions.ValidationException;
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+import java.time.temporal.IsoFields;
+
+/**
+ * ISO week of a week-based year, packed into an int as year * 100 + week.
+ * Its string form is the week number of the API and of the week_number
+ * columns: the year followed by the week without a leading zero, e.g.
+ * "20269" or "202652". The string is built once per instance, so comparing
+ * a week number with a cached WeekId allocates nothing.
+ */
+public final class WeekId implements Comparable<WeekId>, Serializable {
+  private static final long serialVersionUID = 1L;
+  private static final int MIN_YEAR = 1000;
+  private static final int MAX_YEAR = 9999;
+
+  private final int value;
+  private final String weekNum;
+
+  private WeekId(int year, int week) {
+    this.value = year * 100 + week;
+    this.weekNum = year + "" + week;
+  }
+
+  /**
+   * Get the week of a week-based year.
+   *
+   * @param year ISO week-based year
+   * @param week ISO week of the year
+   * @return the week
+   * @throws IllegalArgumentException if the year has no such week
+   */
+  public static WeekId of(int year, int week) {
+    if (year < MIN_YEAR || year > MAX_YEAR || week < 1 || week > weeksIn(year)) {
+      throw new IllegalArgumentException("Invalid ISO week " + year + "-W" + week);
+    }
+    return new WeekId(year, week);
+  }
+
+  /**
+   * Get the week the date belongs to.
+   *
+   * @param date a date
+   * @return the week
+   */
+  public static WeekId of(LocalDate date) {
+    return new WeekId(date.get(IsoFields.WEEK_BASED_YEAR),
+        date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+  }
+
+  /**
+   * Parse a week number.
+   *
+   * @param weekNum week number, e.g. "202652"
+   * @return the week
+   * @throws ValidationException if the week number is malformed or the year has no such week
+   */
+  public static WeekId parse(String weekNum) {
+    if (weekNum == null || weekNum.length() < 5 || weekNum.length() > 6
+        || weekNum.charAt(4) == '0') {
+      throw new ValidationException(ValidationException.INVALID_WEEK_NUMBER);
+    }
+    int year = 0;
+    int week = 0;
+    for (int i = 0; i < weekNum.length(); i++) {
+      int digit = weekNum.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        throw new ValidationException(ValidationException.INVALID_WEEK_NUMBER);
+      }
+      if (i < 4) {
+        year = year * 10 + digit;
+      } else {
+        week = week * 10 + digit;
+      }
+    }
+    try {
+      return of(year, week);
+    } catch (IllegalArgumentException e) {
+      throw new ValidationException(ValidationException.INVALID_WEEK_NUMBER);
+    }
+  }
+
+  /**
+   * Get the number of ISO weeks of a week-based year.
+   *
+   * @param year ISO week-based year
+   * @return 52 or 53
+   */
+  public static int weeksIn(int year) {
+    return (int) IsoFields.WEEK_OF_WEEK_BASED_YEAR
+        .rangeRefinedBy(LocalDate.of(year, 6, 1)).getMaximum();
+  }
+
+  public int getYear() {
+    return value / 100;
+  }
+
+  public int getWeek() {
+    return value % 100;
+  }
+
+  /**
+   * Get the packed year * 100 + week, which orders weeks chronologically.
+   *
+   * @return packed week
+   */
+  public int toInt() {
+    return value;
+  }
+
+  /**
+   * Get the following week, the first week of the next year after the last one.
+   *
+   * @return next week
+   */
+  public WeekId next() {
+    int year = getYear();
+    int week = getWeek();
+    return week < weeksIn(year) ? new WeekId(year, week + 1) : new WeekId(year + 1, 1);
+  }
+
+  /**
+   * Get the Monday the week starts with.
+   *
+   * @return first date of the week
+   */
+  public LocalDate getMonday() {
+    return getDate(DayOfWeek.MONDAY);
+  }
+
+  /**
+   * Get the date of a day of the week.
+   *
+   * @param dayOfWeek day of the week
+   * @return date
+   */
+  public LocalDate getDate(DayOfWeek dayOfWeek) {
+    return LocalDate.of(getYear(), 1, 4)
+        .with(IsoFields.WEEK_OF_WEEK_BASED_YEAR, getWeek())
+        .with(ChronoField.DAY_OF_WEEK, dayOfWeek.getValue());
+  }
+
+  /**
+   * Check if the week number denotes this week, without parsing it.
+   *
+   * @param weekNum week number
+   * @return true if it is the week number of this week
+   */
+  public boolean matches(String weekNum) {
+    return this.weekNum.equals(weekNum);
+  }
+
+  @Override
+  public int compareTo(WeekId other) {
+    return Integer.compare(value, other.value);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || o instanceof WeekId && value == ((WeekId) o).value;
+  }
+
+  @Override
+  public int hashCode() {
+    return value;
+  }
+
+  /**
+   * Get the week number.
+   *
+   * @return week number, e.g. "202652"
+   */
+  @Override
+  public String toString() {
+    return weekNum;
+  }
+}
@@ -0,0 +1,15 @@
+package interviewplanning.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by {@link WeekCalendar} when the current week changes.
+ */
+@Getter
+@AllArgsConstructor
+public class WeekRolloverEvent {
+  private final WeekId previousWeek;
+  private final WeekId currentWeek;
+  private final WeekId nextWeek;
+}
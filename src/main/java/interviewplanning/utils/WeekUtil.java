@@ -1,18 +1,19 @@
 package interviewplanning.utils;
 
 import interviewplanning.exceptions.ValidationException;
+import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.IsoFields;
-import java.time.temporal.TemporalAdjusters;
-import java.time.temporal.TemporalField;
-import java.time.temporal.WeekFields;
 
 /**
- * Util class for week.
+ * Util class for week. The current and next weeks here follow the system
+ * clock, services use the application's {@link WeekCalendar} instead.
  */
 public final class WeekUtil {
 
+  private static final WeekCalendar SYSTEM_CALENDAR =
+      new WeekCalendar(Clock.systemDefaultZone());
+
   private WeekUtil() {
   }
 
@@ -21,16 +22,8 @@ public final class WeekUtil {
    *
    * @return week object.
    */
-
   public static String getCurrentWeekNumber() {
-    // find current year
-    Integer currentYear = LocalDate.now().getYear();
-
-    // find current week number from the start of the year
-    LocalDate date = LocalDate.now();
-    TemporalField woy = WeekFields.ISO.weekOfWeekBasedYear();
-    int weekNumber = date.get(woy);
-    return currentYear + "" + weekNumber;
+    return getCurrentWeek().toString();
   }
 
   /**
@@ -39,8 +32,35 @@ public final class WeekUtil {
    * @return Week object.
    */
   public static String getNextWeekNumber() {
-    String currentWeek = getCurrentWeekNumber();
-    return Integer.parseInt(currentWeek) + 1 + "";
+    return getNextWeek().toString();
+  }
+
+  /**
+   * Get the current week.
+   *
+   * @return current week
+   */
+  public static WeekId getCurrentWeek() {
+    return SYSTEM_CALENDAR.getCurrentWeek();
+  }
+
+  /**
+   * Get the week after the current one.
+   *
+   * @return next week
+   */
+  public static WeekId getNextWeek() {
+    return SYSTEM_CALENDAR.getNextWeek();
+  }
+
+  /**
+   * Get number of the week the date belongs to.
+   *
+   * @param date a date
+   * @return week number
+   */
+  public static String getWeekNumberByDate(LocalDate date) {
+    return WeekId.of(date).toString();
   }
 
   /**
@@ -51,9 +71,7 @@ public final class WeekUtil {
    * @return the first date of a week
    */
   public static LocalDate getFirstDateOfWeekByYearWeekNum(int year, int weekNum) {
-    return LocalDate.ofYearDay(year, 50)
-        .with(IsoFields.WEEK_OF_WEEK_BASED_YEAR, weekNum)
-        .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    return WeekId.of(year, weekNum).getMonday();
   }
 
   /**
@@ -74,9 +92,7 @@ public final class WeekUtil {
    * @param weekNum week number
    */
   public static void validateIsCurrentOrNextWeekNumber(String weekNum) {
-    if (!(weekNum.equals(getCurrentWeekNumber()) || weekNum.equals(getNextWeekNumber()))) {
-      throw new ValidationException(ValidationException.NOT_CURRENT_OR_NEXT_WEEK);
-    }
+    SYSTEM_CALENDAR.validateIsCurrentOrNextWeekNumber(weekNum);
   }
 
   /**
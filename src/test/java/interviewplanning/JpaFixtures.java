@@ -0,0 +1,171 @@
+package interviewplanning;
+
+import interviewplanning.models.Booking;
+import interviewplanning.models.CandidateTimeSlot;
+import interviewplanning.models.InterviewerBookingLimit;
+import interviewplanning.models.InterviewerTimeSlot;
+import interviewplanning.models.User;
+import interviewplanning.models.UserRole;
+import interviewplanning.utils.WeekUtil;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fixtures of the repository-backed tests: users, booking limits, slots and
+ * bookings of {@link #WEEK_NUM}, saved as they are built, and the Hibernate
+ * statistics that tests count prepared statements with.
+ */
+public final class JpaFixtures {
+  /**
+   * Property of the tests that count statements, for {@code @DataJpaTest(properties = ...)}.
+   */
+  public static final String STATISTICS =
+      "spring.jpa.properties.hibernate.generate_statistics=true";
+  public static final String WEEK_NUM = "202243";
+  public static final LocalDate MONDAY = WeekUtil.getFirstDateOfWeekByYearWeekNum(2022, 43);
+
+  private final Store store;
+
+  private JpaFixtures(Store store) {
+    this.store = store;
+  }
+
+  /**
+   * Fixtures persisted in the test's transaction.
+   *
+   * @param entityManager test entity manager
+   * @return fixtures
+   */
+  public static JpaFixtures of(TestEntityManager entityManager) {
+    return new JpaFixtures(entityManager::persist);
+  }
+
+  /**
+   * Fixtures committed one by one, for tests that run outside a transaction.
+   *
+   * @param entityManager      test entity manager
+   * @param transactionManager transaction manager
+   * @return fixtures
+   */
+  public static JpaFixtures committed(TestEntityManager entityManager,
+                                      PlatformTransactionManager transactionManager) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    return new JpaFixtures(new Store() {
+      @Override
+      public <T> T save(T entity) {
+        return transactionTemplate.execute(status -> entityManager.persist(entity));
+      }
+    });
+  }
+
+  /**
+   * Get the statistics of the session factory, cleared.
+   *
+   * @param entityManagerFactory entity manager factory
+   * @return statistics
+   */
+  public static Statistics statistics(EntityManagerFactory entityManagerFactory) {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    return statistics;
+  }
+
+  public User interviewer(String email) {
+    return store.save(new User(email, UserRole.INTERVIEWER));
+  }
+
+  /**
+   * Save a booking limit of the interviewer's week.
+   *
+   * @param interviewer  interviewer
+   * @param limit        week booking limit
+   * @param bookingCount bookings already counted against the limit
+   * @return booking limit
+   */
+  public InterviewerBookingLimit bookingLimit(User interviewer, int limit, int bookingCount) {
+    return store.save(InterviewerBookingLimit.builder()
+        .interviewerId(interviewer.getId())
+        .weekNum(WEEK_NUM)
+        .weekBookingLimit(limit)
+        .currentBookingCount(bookingCount)
+        .build());
+  }
+
+  public InterviewerTimeSlot interviewerSlot(UUID interviewerId, DayOfWeek day,
+                                             LocalTime from, LocalTime to) {
+    return interviewerSlot(interviewerId, WEEK_NUM, day, from, to);
+  }
+
+  /**
+   * Save a slot of the interviewer.
+   *
+   * @param interviewerId interviewer id
+   * @param weekNum       week number
+   * @param day           day of week
+   * @param from          start time
+   * @param to            end time
+   * @return interviewer time slot
+   */
+  public InterviewerTimeSlot interviewerSlot(UUID interviewerId, String weekNum, DayOfWeek day,
+                                             LocalTime from, LocalTime to) {
+    return store.save(InterviewerTimeSlot.builder()
+        .interviewerId(interviewerId)
+        .weekNum(weekNum)
+        .dayOfWeek(day)
+        .from(from)
+        .to(to)
+        .build());
+  }
+
+  /**
+   * Save a slot of the candidate on a day of {@link #WEEK_NUM}.
+   *
+   * @param email candidate's email
+   * @param day   day of week
+   * @param from  start time
+   * @param to    end time
+   * @return candidate time slot
+   */
+  public CandidateTimeSlot candidateSlot(String email, DayOfWeek day,
+                                         LocalTime from, LocalTime to) {
+    return store.save(CandidateTimeSlot.builder()
+        .email(email)
+        .date(MONDAY.plusDays(day.getValue() - 1L))
+        .from(from)
+        .to(to)
+        .build());
+  }
+
+  /**
+   * Save a booking of the whole candidate slot.
+   *
+   * @param interviewerSlot interviewer time slot
+   * @param candidateSlot   candidate time slot
+   * @return booking
+   */
+  public Booking booking(InterviewerTimeSlot interviewerSlot, CandidateTimeSlot candidateSlot) {
+    return store.save(Booking.builder()
+        .from(candidateSlot.getFrom())
+        .to(candidateSlot.getTo())
+        .interviewerTimeSlotId(interviewerSlot.getId())
+        .candidateTimeSlotId(candidateSlot.getId())
+        .subject("subject")
+        .description("description")
+        .build());
+  }
+
+  /**
+   * Saves an entity and returns it.
+   */
+  private interface Store {
+    <T> T save(T entity);
+  }
+}
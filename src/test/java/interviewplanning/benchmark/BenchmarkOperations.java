@@ -0,0 +1,270 @@
+package interviewplanning.benchmark;
+
+import interviewplanning.cache.ChangeVersions;
+import interviewplanning.models.CandidateTimeSlot;
+import interviewplanning.models.InterviewerBookingLimit;
+import interviewplanning.models.InterviewerTimeSlot;
+import interviewplanning.models.UserRole;
+import interviewplanning.repositories.BookingRepository;
+import interviewplanning.repositories.CandidateTimeSlotRepository;
+import interviewplanning.repositories.InterviewerBookingLimitRepository;
+import interviewplanning.repositories.InterviewerTimeSlotRepository;
+import interviewplanning.repositories.UserEpochRepository;
+import interviewplanning.repositories.UserRepository;
+import interviewplanning.services.BookingService;
+import interviewplanning.services.CandidateService;
+import interviewplanning.services.CoordinatorService;
+import interviewplanning.services.InterviewerService;
+import interviewplanning.services.UserService;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operations of the benchmark: every finder and update of the repositories and
+ * the service entry points behind the endpoints. Each iteration picks its own
+ * interviewer, candidate or slot of the dataset, spread evenly over it.
+ */
+@Component
+@Profile("bench")
+public class BenchmarkOperations {
+  private static final int SAMPLES = 256;
+  private static final int IN_SIZE = 50;
+  private static final LocalTime FREE_FROM = LocalTime.of(20, 0);
+  private static final LocalTime FREE_TO = LocalTime.of(21, 30);
+
+  private final UserRepository userRepository;
+  private final UserEpochRepository userEpochRepository;
+  private final InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  private final CandidateTimeSlotRepository candidateTimeSlotRepository;
+  private final BookingRepository bookingRepository;
+  private final InterviewerBookingLimitRepository interviewerBookingLimitRepository;
+  private final CoordinatorService coordinatorService;
+  private final InterviewerService interviewerService;
+  private final CandidateService candidateService;
+  private final BookingService bookingService;
+  private final UserService userService;
+  private final ChangeVersions changeVersions;
+
+  /**
+   * Constructor.
+   */
+  @Autowired
+  public BenchmarkOperations(UserRepository userRepository,
+                             UserEpochRepository userEpochRepository,
+                             InterviewerTimeSlotRepository interviewerTimeSlotRepository,
+                             CandidateTimeSlotRepository candidateTimeSlotRepository,
+                             BookingRepository bookingRepository,
+                             InterviewerBookingLimitRepository interviewerBookingLimitRepository,
+                             CoordinatorService coordinatorService,
+                             InterviewerService interviewerService,
+                             CandidateService candidateService,
+                             BookingService bookingService,
+                             UserService userService,
+                             ChangeVersions changeVersions) {
+    this.userRepository = userRepository;
+    this.userEpochRepository = userEpochRepository;
+    this.interviewerTimeSlotRepository = interviewerTimeSlotRepository;
+    this.candidateTimeSlotRepository = candidateTimeSlotRepository;
+    this.bookingRepository = bookingRepository;
+    this.interviewerBookingLimitRepository = interviewerBookingLimitRepository;
+    this.coordinatorService = coordinatorService;
+    this.interviewerService = interviewerService;
+    this.candidateService = candidateService;
+    this.bookingService = bookingService;
+    this.userService = userService;
+    this.changeVersions = changeVersions;
+  }
+
+  /**
+   * Get operations over the dataset. Operations that need booked slots of the
+   * current week or free pairs of slots of the next week are left out when the
+   * dataset has none.
+   *
+   * @param dataset generated dataset
+   * @return operations
+   */
+  public List<Operation> create(Dataset dataset) {
+    String currentWeek = dataset.getCurrentWeek().toString();
+    String nextWeek = dataset.getNextWeek().toString();
+    LocalDate currentMonday = dataset.getCurrentWeek().getMonday();
+    LocalDate nextMonday = dataset.getNextWeek().getMonday();
+    int slots = dataset.getInterviewerSlots();
+    IntFunction<UUID> interviewerId =
+        i -> dataset.userId(pick(i, dataset.getInterviewers()));
+    IntFunction<String> interviewerEmail =
+        i -> dataset.interviewerEmail(pick(i, dataset.getInterviewers()));
+    IntFunction<String> candidateEmail =
+        i -> dataset.candidateEmail(pick(i, dataset.getCandidates()));
+    IntFunction<DayOfWeek> weekday = i -> DayOfWeek.of(pick(i, Dataset.DAYS_PER_WEEK) + 1);
+
+    List<Operation> operations = new ArrayList<>();
+    operations.add(new Operation("UserRepository.findByEmail",
+        i -> userRepository.findByEmail(interviewerEmail.apply(i))));
+    operations.add(new Operation("UserRepository.findByRole",
+        i -> userRepository.findByRole(UserRole.COORDINATOR)));
+    operations.add(new Operation("UserRepository.findAllEmails",
+        i -> userRepository.findAllEmails()));
+    operations.add(new Operation("UserEpochRepository.incrementEpoch",
+        i -> userEpochRepository.incrementEpoch(interviewerEmail.apply(i))));
+
+    operations.add(new Operation("InterviewerTimeSlotRepository.findByInterviewerIdAndWeekNum",
+        i -> interviewerTimeSlotRepository.findByInterviewerIdAndWeekNum(
+            interviewerId.apply(i), currentWeek)));
+    operations.add(new Operation(
+        "InterviewerTimeSlotRepository.findByDayOfWeekAndInterviewerIdAndWeekNum",
+        i -> interviewerTimeSlotRepository.findByDayOfWeekAndInterviewerIdAndWeekNum(
+            weekday.apply(i), interviewerId.apply(i), currentWeek)));
+    operations.add(new Operation("InterviewerTimeSlotRepository.findByWeekNum",
+        i -> interviewerTimeSlotRepository.findByWeekNum(currentWeek)));
+    operations.add(new Operation("InterviewerTimeSlotRepository.findWithBookingsByWeekNum",
+        i -> interviewerTimeSlotRepository.findWithBookingsByWeekNum(currentWeek)));
+    operations.add(new Operation("InterviewerTimeSlotRepository.copySlotsToWeek",
+        i -> interviewerTimeSlotRepository.copySlotsToWeek(
+            interviewerId.apply(i), currentWeek, nextWeek)));
+    operations.add(new Operation("InterviewerTimeSlotRepository.copyAllSlotsToWeek",
+        i -> interviewerTimeSlotRepository.copyAllSlotsToWeek(currentWeek, nextWeek)));
+
+    operations.add(new Operation("CandidateTimeSlotRepository.findByEmail",
+        i -> candidateTimeSlotRepository.findByEmail(candidateEmail.apply(i))));
+    operations.add(new Operation("CandidateTimeSlotRepository.findByEmailAndDate",
+        i -> candidateTimeSlotRepository.findByEmailAndDate(candidateEmail.apply(i),
+            dataset.candidateDate(pick(i, dataset.getCandidates())))));
+    operations.add(new Operation("CandidateTimeSlotRepository.findEmailById",
+        i -> candidateTimeSlotRepository.findEmailById(
+            dataset.candidateSlotId(pick(i, dataset.getCandidates())))));
+    operations.add(new Operation("CandidateTimeSlotRepository.findByDateBetween",
+        i -> candidateTimeSlotRepository.findByDateBetween(currentMonday,
+            currentMonday.plusDays(6))));
+    operations.add(new Operation("CandidateTimeSlotRepository.findWithBookingsByDateBetween",
+        i -> candidateTimeSlotRepository.findWithBookingsByDateBetween(currentMonday,
+            currentMonday.plusDays(6))));
+
+    operations.add(new Operation("BookingRepository.findByInterviewerTimeSlotIdIn",
+        i -> bookingRepository.findByInterviewerTimeSlotIdIn(
+            ids(i, slots, dataset::interviewerSlotId))));
+    operations.add(new Operation("BookingRepository.findByCandidateTimeSlotIdIn",
+        i -> bookingRepository.findByCandidateTimeSlotIdIn(
+            ids(i, dataset.getCandidates(), dataset::candidateSlotId))));
+    operations.add(new Operation("BookingRepository.countByInterviewerIdAndWeekNum",
+        i -> bookingRepository.countByInterviewerIdAndWeekNum(
+            interviewerId.apply(i), currentWeek)));
+
+    operations.add(new Operation("InterviewerBookingLimitRepository.findByInterviewerId",
+        i -> interviewerBookingLimitRepository.findByInterviewerId(interviewerId.apply(i))));
+    operations.add(new Operation("InterviewerBookingLimitRepository.findByInterviewerIdIn",
+        i -> interviewerBookingLimitRepository.findByInterviewerIdIn(
+            ids(i, dataset.getInterviewers(), dataset::userId))));
+    operations.add(new Operation(
+        "InterviewerBookingLimitRepository.findByInterviewerIdAndWeekNum",
+        i -> interviewerBookingLimitRepository.findByInterviewerIdAndWeekNum(
+            interviewerId.apply(i), currentWeek)));
+    operations.add(new Operation(
+        "InterviewerBookingLimitRepository.existsByInterviewerIdAndWeekNum",
+        i -> interviewerBookingLimitRepository.existsByInterviewerIdAndWeekNum(
+            interviewerId.apply(i), currentWeek)));
+    operations.add(new Operation("InterviewerBookingLimitRepository.incrementBookingCount",
+        i -> interviewerBookingLimitRepository.incrementBookingCount(
+            interviewerId.apply(i), currentWeek)));
+    operations.add(new Operation("InterviewerBookingLimitRepository.incrementBookingCountBy",
+        i -> interviewerBookingLimitRepository.incrementBookingCountBy(
+            interviewerId.apply(i), currentWeek, 1)));
+    operations.add(new Operation("InterviewerBookingLimitRepository.decrementBookingCount",
+        i -> interviewerBookingLimitRepository.decrementBookingCount(
+            interviewerId.apply(i), currentWeek)));
+
+    operations.add(new Operation("CoordinatorService.getDashboardSnapshot.hit",
+        i -> coordinatorService.getDashboardSnapshot(currentWeek)));
+    operations.add(new Operation("CoordinatorService.getDashboardSnapshot.miss",
+        i -> changeVersions.weekChanged(currentWeek),
+        i -> coordinatorService.getDashboardSnapshot(currentWeek)));
+    operations.add(new Operation("CoordinatorService.getInterviewers",
+        i -> coordinatorService.getInterviewers()));
+    operations.add(new Operation("InterviewerService.getWeekTimeSlotsByInterviewerId",
+        i -> interviewerService.getWeekTimeSlotsByInterviewerId(interviewerId.apply(i), true)));
+    operations.add(new Operation("InterviewerService.getBookingLimitsByInterviewerId",
+        i -> interviewerService.getBookingLimitsByInterviewerId(interviewerId.apply(i))));
+    operations.add(new Operation("InterviewerService.createSlot",
+        i -> interviewerService.createSlot(InterviewerTimeSlot.builder()
+            .weekNum(nextWeek)
+            .dayOfWeek(weekday.apply(i))
+            .from(FREE_FROM)
+            .to(FREE_TO)
+            .build(), interviewerId.apply(i))));
+    operations.add(new Operation("InterviewerService.copyCurrentWeekSlotsToNextWeek",
+        i -> interviewerService.copyCurrentWeekSlotsToNextWeek(interviewerId.apply(i))));
+    operations.add(new Operation("InterviewerService.setNextWeekInterviewerBookingLimit",
+        i -> interviewerService.setNextWeekInterviewerBookingLimit(
+            InterviewerBookingLimit.builder().weekNum(nextWeek).weekBookingLimit(12).build(),
+            interviewerId.apply(i))));
+    operations.add(new Operation("CandidateService.getSlotsByCandidateEmail",
+        i -> candidateService.getSlotsByCandidateEmail(candidateEmail.apply(i))));
+    operations.add(new Operation("CandidateService.createSlot",
+        i -> candidateService.createSlot(CandidateTimeSlot.builder()
+            .email(candidateEmail.apply(i))
+            .name("Candidate")
+            .date(nextMonday.plusDays(weekday.apply(i).ordinal()))
+            .from(FREE_FROM)
+            .to(FREE_TO)
+            .build())));
+    operations.add(new Operation("UserService.getByEmail",
+        i -> userService.getByEmail(interviewerEmail.apply(i))));
+
+    int[] booked = dataset.pairedCandidatesOfWeek(dataset.getWeeks() - 2, true, SAMPLES);
+    if (booked.length > 0) {
+      IntFunction<Integer> bookedCandidate = i -> booked[pick(i, booked.length)];
+      operations.add(new Operation("BookingRepository.findByCandidateTimeSlotId",
+          i -> bookingRepository.findByCandidateTimeSlotId(
+              dataset.candidateSlotId(bookedCandidate.apply(i)))));
+      operations.add(new Operation("BookingRepository.findByInterviewerTimeSlotId",
+          i -> bookingRepository.findByInterviewerTimeSlotId(
+              dataset.interviewerSlotId(dataset.pairedSlot(bookedCandidate.apply(i))))));
+      operations.add(new Operation("BookingService.deleteBooking",
+          i -> bookingService.deleteBooking(dataset.bookingId(bookedCandidate.apply(i)))));
+    }
+    int[] free = dataset.pairedCandidatesOfWeek(dataset.getWeeks() - 1, false, SAMPLES);
+    if (free.length > 0) {
+      IntFunction<Integer> freeCandidate = i -> free[pick(i, free.length)];
+      operations.add(new Operation("BookingRepository.findValidationView",
+          i -> {
+            int candidate = freeCandidate.apply(i);
+            bookingRepository.findValidationView(new UUID(0, 0),
+                dataset.interviewerSlotId(dataset.pairedSlot(candidate)),
+                dataset.candidateSlotId(candidate),
+                dataset.candidateFrom(candidate), dataset.candidateTo(candidate));
+          }));
+      operations.add(new Operation("BookingService.createBooking",
+          i -> {
+            int candidate = freeCandidate.apply(i);
+            bookingService.createBooking(
+                dataset.interviewerSlotId(dataset.pairedSlot(candidate)),
+                dataset.candidateSlotId(candidate),
+                dataset.candidateFrom(candidate), dataset.candidateTo(candidate),
+                "Interview", "Benchmark booking");
+          }));
+    }
+    return operations;
+  }
+
+  private static List<UUID> ids(int iteration, int bound, IntFunction<UUID> id) {
+    return IntStream.range(0, IN_SIZE)
+        .mapToObj(k -> id.apply(pick(iteration * IN_SIZE + k, bound)))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Spread iterations evenly over the indexes below the bound.
+   */
+  private static int pick(int iteration, int bound) {
+    return Math.floorMod(iteration * 0x9E3779B1, bound);
+  }
+}
@@ -0,0 +1,37 @@
+package interviewplanning.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Results of a benchmark run, written as JSON so runs can be compared.
+ */
+@Getter
+@AllArgsConstructor
+public class BenchmarkReport {
+  private final String startedAt;
+  private final String database;
+  private final Map<String, Object> dataset;
+  private final long generationMillis;
+  private final int warmupIterations;
+  private final int iterations;
+  private final List<Result> results;
+
+  /**
+   * Latency percentiles and queries of an operation.
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class Result {
+    private final String name;
+    private final int calls;
+    private final int errors;
+    private final double p50Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+    private final double queriesPerCall;
+    private final String firstError;
+  }
+}
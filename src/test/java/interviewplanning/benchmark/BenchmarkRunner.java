@@ -0,0 +1,183 @@
+package interviewplanning.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Generates a dataset on startup, measures every operation over it and
+ * writes the report as JSON. Each call runs in its own transaction, which is
+ * rolled back, so calls that write leave the dataset as it was and runs are
+ * repeatable. Queries are counted with Hibernate statistics, so
+ * hibernate.generate_statistics has to be enabled.
+ */
+@Component
+@Profile("bench")
+public class BenchmarkRunner implements ApplicationRunner {
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final DatasetGenerator datasetGenerator;
+  private final BenchmarkOperations benchmarkOperations;
+  private final TransactionTemplate transactionTemplate;
+  private final Statistics statistics;
+  private final DataSource dataSource;
+  private final ObjectMapper objectMapper;
+  private final ConfigurableApplicationContext context;
+  private final int warmupIterations;
+  private final int iterations;
+  private final String output;
+  private final boolean exit;
+
+  /**
+   * Constructor.
+   *
+   * @param datasetGenerator     generator of the dataset
+   * @param benchmarkOperations  operations to measure
+   * @param transactionManager   transaction manager of the rolled back calls
+   * @param entityManagerFactory entity manager factory to count queries of
+   * @param dataSource           data source to name the database of
+   * @param objectMapper         object mapper to write the report with
+   * @param context              application context to close after the run
+   * @param warmupIterations     calls of each operation before it is measured
+   * @param iterations           measured calls of each operation
+   * @param output               path of the JSON report
+   * @param exit                 whether to exit once the report is written
+   */
+  @Autowired
+  public BenchmarkRunner(DatasetGenerator datasetGenerator,
+                         BenchmarkOperations benchmarkOperations,
+                         PlatformTransactionManager transactionManager,
+                         EntityManagerFactory entityManagerFactory,
+                         DataSource dataSource,
+                         ObjectMapper objectMapper,
+                         ConfigurableApplicationContext context,
+                         @Value("${bench.warmup-iterations:20}") int warmupIterations,
+                         @Value("${bench.iterations:200}") int iterations,
+                         @Value("${bench.output:target/bench/results.json}") String output,
+                         @Value("${bench.exit:true}") boolean exit) {
+    this.datasetGenerator = datasetGenerator;
+    this.benchmarkOperations = benchmarkOperations;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    this.dataSource = dataSource;
+    this.objectMapper = objectMapper;
+    this.context = context;
+    this.warmupIterations = warmupIterations;
+    this.iterations = iterations;
+    this.output = output;
+    this.exit = exit;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws IOException, SQLException {
+    String startedAt = Instant.now().toString();
+    long generationStart = System.nanoTime();
+    Dataset dataset = datasetGenerator.generate();
+    long generationMillis = Math.round((System.nanoTime() - generationStart) / NANOS_PER_MILLI);
+
+    List<BenchmarkReport.Result> results = new ArrayList<>();
+    for (Operation operation : benchmarkOperations.create(dataset)) {
+      results.add(measure(operation));
+    }
+
+    Path path = Path.of(output);
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(),
+        new BenchmarkReport(startedAt, getDatabase(), describe(dataset), generationMillis,
+            warmupIterations, iterations, results));
+    if (exit) {
+      System.exit(SpringApplication.exit(context));
+    }
+  }
+
+  private BenchmarkReport.Result measure(Operation operation) {
+    long[] nanos = new long[iterations];
+    long queries = 0;
+    int errors = 0;
+    String firstError = null;
+    for (int i = -warmupIterations; i < iterations; i++) {
+      int iteration = i;
+      operation.getPrepare().accept(iteration);
+      long queriesBefore = statistics.getPrepareStatementCount();
+      long start = System.nanoTime();
+      final RuntimeException error = transactionTemplate.execute(status -> {
+        status.setRollbackOnly();
+        try {
+          operation.getCall().accept(iteration);
+          return null;
+        } catch (RuntimeException e) {
+          return e;
+        }
+      });
+      long elapsed = System.nanoTime() - start;
+      if (i < 0) {
+        continue;
+      }
+      nanos[i] = elapsed;
+      queries += statistics.getPrepareStatementCount() - queriesBefore;
+      if (error != null) {
+        errors++;
+        firstError = firstError == null ? error.toString() : firstError;
+      }
+    }
+    Arrays.sort(nanos);
+    return new BenchmarkReport.Result(operation.getName(), iterations, errors,
+        percentile(nanos, 50), percentile(nanos, 99), percentile(nanos, 100),
+        iterations == 0 ? 0 : (double) queries / iterations, firstError);
+  }
+
+  private static double percentile(long[] sorted, int percent) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1] / NANOS_PER_MILLI;
+  }
+
+  private String getDatabase() throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      DatabaseMetaData metaData = connection.getMetaData();
+      return metaData.getDatabaseProductName() + " " + metaData.getDatabaseProductVersion();
+    }
+  }
+
+  private static Map<String, Object> describe(Dataset dataset) {
+    Map<String, Object> description = new LinkedHashMap<>();
+    description.put("runId", dataset.getRunId());
+    description.put("interviewers", dataset.getInterviewers());
+    description.put("coordinators", dataset.getCoordinators());
+    description.put("candidates", dataset.getCandidates());
+    description.put("weeks", dataset.getWeeks());
+    description.put("slotsPerDay", dataset.getSlotsPerDay());
+    description.put("bookedPercent", dataset.getBookedPercent());
+    description.put("interviewerSlots", dataset.getInterviewerSlots());
+    description.put("currentWeek", dataset.getCurrentWeek().toString());
+    return description;
+  }
+}
@@ -0,0 +1,48 @@
+package interviewplanning.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "spring.datasource.url=jdbc:h2:mem:bench_db",
+    "bench.dataset.interviewers=4",
+    "bench.dataset.coordinators=1",
+    "bench.dataset.candidates=60",
+    "bench.dataset.weeks=3",
+    "bench.warmup-iterations=1",
+    "bench.iterations=5",
+    "bench.output=target/bench-test/results.json",
+    "bench.exit=false"})
+@ActiveProfiles("bench")
+class BenchmarkRunnerTest {
+
+  @Test
+  void givenSmallDataset_whenRun_thenEveryOperationReported() throws IOException {
+    JsonNode report = new ObjectMapper().readTree(new File("target/bench-test/results.json"));
+
+    assertThat(report.get("dataset").get("interviewerSlots").asInt()).isEqualTo(120);
+    Map<String, JsonNode> results = new HashMap<>();
+    report.get("results").forEach(result -> results.put(result.get("name").asText(), result));
+    assertThat(results).hasSize(41);
+    results.values().forEach(result -> {
+      assertThat(result.get("errors").asInt()).as(result.toString()).isZero();
+      assertThat(result.get("p99Millis").asDouble())
+          .isGreaterThanOrEqualTo(result.get("p50Millis").asDouble());
+    });
+    assertThat(results.get("UserRepository.findByEmail").get("queriesPerCall").asDouble())
+        .isEqualTo(1);
+    assertThat(results.get("CoordinatorService.getDashboardSnapshot.hit")
+        .get("queriesPerCall").asDouble()).isZero();
+    assertThat(results.get("CoordinatorService.getDashboardSnapshot.miss")
+        .get("queriesPerCall").asDouble()).isEqualTo(2);
+  }
+}
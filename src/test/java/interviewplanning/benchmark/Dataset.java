@@ -0,0 +1,212 @@
+package interviewplanning.benchmark;
+
+import interviewplanning.utils.WeekId;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Layout of a generated dataset. Every row is derived from its index, so ids,
+ * emails and slot times are computed here instead of being kept in memory.
+ * Interviewers have slotsPerDay slots on each working day of each week, three
+ * hours apart from 8:00. Candidate slots are paired with interviewer slots
+ * spread evenly over the weeks, and bookedPercent of the pairs are booked.
+ * Candidates beyond the number of interviewer slots get an unpaired slot.
+ */
+@Getter
+public class Dataset {
+  static final int DAYS_PER_WEEK = 5;
+  private static final LocalTime FIRST_SLOT_START = LocalTime.of(8, 0);
+  private static final int SLOT_GAP_HOURS = 3;
+  private static final int SLOT_MINUTES = 90;
+  private static final long USER = 1;
+  private static final long INTERVIEWER_SLOT = 2;
+  private static final long CANDIDATE_SLOT = 3;
+  private static final long BOOKING = 4;
+  private static final long LIMIT = 5;
+
+  private final String runId;
+  private final int interviewers;
+  private final int coordinators;
+  private final int candidates;
+  private final int weeks;
+  private final int slotsPerDay;
+  private final int bookedPercent;
+  private final LocalDate firstMonday;
+  @Getter(AccessLevel.NONE)
+  private final long idPrefix;
+  @Getter(AccessLevel.NONE)
+  private final int step;
+  @Getter(AccessLevel.NONE)
+  private final int pairedCandidates;
+
+  /**
+   * Constructor.
+   *
+   * @param runBits       random bits that keep ids and emails of runs apart
+   * @param interviewers  number of interviewers
+   * @param coordinators  number of coordinators
+   * @param candidates    number of candidates, each with one slot
+   * @param weeks         number of weeks, the last two are the current and the next one
+   * @param slotsPerDay   interviewer slots per working day, 1 to 4
+   * @param bookedPercent percent of the paired candidate slots that are booked
+   * @param currentWeek   current week
+   */
+  public Dataset(long runBits, int interviewers, int coordinators, int candidates, int weeks,
+                 int slotsPerDay, int bookedPercent, WeekId currentWeek) {
+    if (interviewers < 1 || candidates < 1 || weeks < 2 || slotsPerDay < 1 || slotsPerDay > 4
+        || bookedPercent < 0 || bookedPercent > 100) {
+      throw new IllegalArgumentException("Invalid dataset volumes");
+    }
+    this.idPrefix = runBits & ~0xFFL;
+    this.runId = Long.toHexString(runBits >>> 40);
+    this.interviewers = interviewers;
+    this.coordinators = coordinators;
+    this.candidates = candidates;
+    this.weeks = weeks;
+    this.slotsPerDay = slotsPerDay;
+    this.bookedPercent = bookedPercent;
+    this.firstMonday = currentWeek.getMonday().minusWeeks(weeks - 2L);
+    this.step = Math.max(1, getInterviewerSlots() / candidates);
+    this.pairedCandidates = Math.min(candidates, getInterviewerSlots() / step);
+  }
+
+  public int getInterviewerSlots() {
+    return interviewers * weeks * DAYS_PER_WEEK * slotsPerDay;
+  }
+
+  public WeekId getCurrentWeek() {
+    return week(weeks - 2);
+  }
+
+  public WeekId getNextWeek() {
+    return week(weeks - 1);
+  }
+
+  public WeekId week(int week) {
+    return WeekId.of(firstMonday.plusWeeks(week));
+  }
+
+  public UUID userId(int user) {
+    return new UUID(idPrefix | USER, user);
+  }
+
+  public String interviewerEmail(int interviewer) {
+    return "bench-" + runId + "-interviewer-" + interviewer + "@bench.test";
+  }
+
+  public String coordinatorEmail(int coordinator) {
+    return "bench-" + runId + "-coordinator-" + coordinator + "@bench.test";
+  }
+
+  public String candidateEmail(int candidate) {
+    return "bench-" + runId + "-candidate-" + candidate + "@bench.test";
+  }
+
+  public UUID limitId(int interviewer, int week) {
+    return new UUID(idPrefix | LIMIT, (long) interviewer * weeks + week);
+  }
+
+  /**
+   * Get index of the interviewer slot. Slots are ordered by week, day,
+   * interviewer and slot of the day.
+   *
+   * @param week        week index
+   * @param day         day index, 0 is Monday
+   * @param interviewer interviewer index
+   * @param slot        slot of the day
+   * @return slot index
+   */
+  public int interviewerSlot(int week, int day, int interviewer, int slot) {
+    return ((week * DAYS_PER_WEEK + day) * interviewers + interviewer) * slotsPerDay + slot;
+  }
+
+  public UUID interviewerSlotId(int slot) {
+    return new UUID(idPrefix | INTERVIEWER_SLOT, slot);
+  }
+
+  public int slotInterviewer(int slot) {
+    return slot / slotsPerDay % interviewers;
+  }
+
+  public int slotWeek(int slot) {
+    return slot / slotsPerDay / interviewers / DAYS_PER_WEEK;
+  }
+
+  public DayOfWeek slotDay(int slot) {
+    return DayOfWeek.of(slot / slotsPerDay / interviewers % DAYS_PER_WEEK + 1);
+  }
+
+  public LocalDate slotDate(int slot) {
+    return firstMonday.plusWeeks(slotWeek(slot)).plusDays(slotDay(slot).ordinal());
+  }
+
+  public LocalTime slotFrom(int slot) {
+    return FIRST_SLOT_START.plusHours((long) SLOT_GAP_HOURS * (slot % slotsPerDay));
+  }
+
+  public LocalTime slotTo(int slot) {
+    return slotFrom(slot).plusMinutes(SLOT_MINUTES);
+  }
+
+  public UUID candidateSlotId(int candidate) {
+    return new UUID(idPrefix | CANDIDATE_SLOT, candidate);
+  }
+
+  public UUID bookingId(int candidate) {
+    return new UUID(idPrefix | BOOKING, candidate);
+  }
+
+  public boolean isPaired(int candidate) {
+    return candidate < pairedCandidates;
+  }
+
+  public boolean isBooked(int candidate) {
+    return isPaired(candidate) && candidate % 100 < bookedPercent;
+  }
+
+  /**
+   * Get interviewer slot paired with the candidate's slot.
+   *
+   * @param candidate paired candidate index
+   * @return interviewer slot index
+   */
+  public int pairedSlot(int candidate) {
+    return candidate * step;
+  }
+
+  public LocalDate candidateDate(int candidate) {
+    return isPaired(candidate) ? slotDate(pairedSlot(candidate))
+        : firstMonday.plusWeeks(candidate % weeks).plusDays(candidate % DAYS_PER_WEEK);
+  }
+
+  public LocalTime candidateFrom(int candidate) {
+    return isPaired(candidate) ? slotFrom(pairedSlot(candidate)) : FIRST_SLOT_START;
+  }
+
+  public LocalTime candidateTo(int candidate) {
+    return candidateFrom(candidate).plusMinutes(SLOT_MINUTES);
+  }
+
+  /**
+   * Get the first paired candidates whose slots are in the week.
+   *
+   * @param week   week index
+   * @param booked whether the pairs are booked
+   * @param max    max number of candidates
+   * @return candidate indexes
+   */
+  public int[] pairedCandidatesOfWeek(int week, boolean booked, int max) {
+    int weekSlots = interviewers * DAYS_PER_WEEK * slotsPerDay;
+    int from = (week * weekSlots + step - 1) / step;
+    int to = Math.min(pairedCandidates, ((week + 1) * weekSlots + step - 1) / step);
+    return IntStream.range(from, to)
+        .filter(candidate -> isBooked(candidate) == booked)
+        .limit(max)
+        .toArray();
+  }
+}
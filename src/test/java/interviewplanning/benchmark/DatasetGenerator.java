@@ -0,0 +1,176 @@
+package interviewplanning.benchmark;
+
+import interviewplanning.models.UserRole;
+import interviewplanning.utils.WeekCalendar;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds the database with a synthetic dataset of the configured volumes.
+ * Rows are inserted with JDBC batches and their ids are generated here, so the
+ * same generator works on PostgreSQL and H2. Rows of every run get their own
+ * ids and emails, so existing data is never touched and runs can be repeated
+ * on the same database.
+ */
+@Component
+@Profile("bench")
+public class DatasetGenerator {
+  private static final String INSERT_USER =
+      "insert into users (id, email, role) values (?, ?, ?)";
+  private static final String INSERT_INTERVIEWER_SLOT = "insert into interviewer_time_slots "
+      + "(id, interviewer_id, week_number, day_of_week, start_time, end_time) "
+      + "values (?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_CANDIDATE_SLOT = "insert into candidate_time_slots "
+      + "(id, email, name, interview_date, start_time, end_time) values (?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_BOOKING = "insert into bookings "
+      + "(id, subject, description, candidate_time_slot_id, interviewer_time_slot_id, "
+      + "start_time, end_time) values (?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_LIMIT = "insert into interviewer_booking_limits "
+      + "(id, interviewer_id, week_number, week_booking_limit, current_booking_count) "
+      + "values (?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final WeekCalendar weekCalendar;
+  private final int interviewers;
+  private final int coordinators;
+  private final int candidates;
+  private final int weeks;
+  private final int slotsPerDay;
+  private final int bookedPercent;
+  private final int weekBookingLimit;
+  private final int batchSize;
+
+  /**
+   * Constructor.
+   *
+   * @param jdbcTemplate     JDBC template to insert rows with
+   * @param weekCalendar     calendar the weeks of the dataset end at
+   * @param interviewers     number of interviewers
+   * @param coordinators     number of coordinators
+   * @param candidates       number of candidates, each with one slot
+   * @param weeks            number of weeks up to the next one
+   * @param slotsPerDay      interviewer slots per working day, 1 to 4
+   * @param bookedPercent    percent of the candidate slots paired with an interviewer
+   *                         slot that are booked
+   * @param weekBookingLimit booking limit of interviewers' weeks
+   * @param batchSize        number of rows per JDBC batch
+   */
+  @Autowired
+  public DatasetGenerator(JdbcTemplate jdbcTemplate, WeekCalendar weekCalendar,
+                          @Value("${bench.dataset.interviewers:5000}") int interviewers,
+                          @Value("${bench.dataset.coordinators:10}") int coordinators,
+                          @Value("${bench.dataset.candidates:200000}") int candidates,
+                          @Value("${bench.dataset.weeks:52}") int weeks,
+                          @Value("${bench.dataset.slots-per-day:2}") int slotsPerDay,
+                          @Value("${bench.dataset.booked-percent:50}") int bookedPercent,
+                          @Value("${bench.dataset.week-booking-limit:10}") int weekBookingLimit,
+                          @Value("${bench.dataset.batch-size:1000}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.weekCalendar = weekCalendar;
+    this.interviewers = interviewers;
+    this.coordinators = coordinators;
+    this.candidates = candidates;
+    this.weeks = weeks;
+    this.slotsPerDay = slotsPerDay;
+    this.bookedPercent = bookedPercent;
+    this.weekBookingLimit = weekBookingLimit;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Generate a dataset ending at the next week.
+   *
+   * @return layout of the generated dataset
+   */
+  public Dataset generate() {
+    Dataset dataset = new Dataset(new Random().nextLong(), interviewers, coordinators,
+        candidates, weeks, slotsPerDay, bookedPercent, weekCalendar.getCurrentWeek());
+
+    insert(INSERT_USER, interviewers + coordinators, (statement, user) -> {
+      boolean interviewer = user < interviewers;
+      statement.setObject(1, dataset.userId(user));
+      statement.setString(2, interviewer ? dataset.interviewerEmail(user)
+          : dataset.coordinatorEmail(user - interviewers));
+      statement.setString(3, (interviewer ? UserRole.INTERVIEWER : UserRole.COORDINATOR).name());
+    });
+
+    insert(INSERT_INTERVIEWER_SLOT, dataset.getInterviewerSlots(), (statement, slot) -> {
+      statement.setObject(1, dataset.interviewerSlotId(slot));
+      statement.setObject(2, dataset.userId(dataset.slotInterviewer(slot)));
+      statement.setString(3, dataset.week(dataset.slotWeek(slot)).toString());
+      statement.setInt(4, dataset.slotDay(slot).ordinal());
+      statement.setObject(5, dataset.slotFrom(slot));
+      statement.setObject(6, dataset.slotTo(slot));
+    });
+
+    insert(INSERT_CANDIDATE_SLOT, candidates, (statement, candidate) -> {
+      statement.setObject(1, dataset.candidateSlotId(candidate));
+      statement.setString(2, dataset.candidateEmail(candidate));
+      statement.setString(3, "Candidate " + candidate);
+      statement.setObject(4, dataset.candidateDate(candidate));
+      statement.setObject(5, dataset.candidateFrom(candidate));
+      statement.setObject(6, dataset.candidateTo(candidate));
+    });
+
+    int[] booked = IntStream.range(0, candidates).filter(dataset::isBooked).toArray();
+    int[] bookingCounts = new int[interviewers * weeks];
+    for (int candidate : booked) {
+      int slot = dataset.pairedSlot(candidate);
+      bookingCounts[dataset.slotInterviewer(slot) * weeks + dataset.slotWeek(slot)]++;
+    }
+    insert(INSERT_BOOKING, booked.length, (statement, i) -> {
+      int slot = dataset.pairedSlot(booked[i]);
+      statement.setObject(1, dataset.bookingId(booked[i]));
+      statement.setString(2, "Interview");
+      statement.setString(3, "Generated booking");
+      statement.setObject(4, dataset.candidateSlotId(booked[i]));
+      statement.setObject(5, dataset.interviewerSlotId(slot));
+      statement.setObject(6, dataset.slotFrom(slot));
+      statement.setObject(7, dataset.slotTo(slot));
+    });
+
+    insert(INSERT_LIMIT, interviewers * weeks, (statement, i) -> {
+      int interviewer = i / weeks;
+      int week = i % weeks;
+      statement.setObject(1, dataset.limitId(interviewer, week));
+      statement.setObject(2, dataset.userId(interviewer));
+      statement.setString(3, dataset.week(week).toString());
+      statement.setInt(4, Math.max(weekBookingLimit, bookingCounts[i] + 1));
+      statement.setInt(5, bookingCounts[i]);
+    });
+    return dataset;
+  }
+
+  private void insert(String sql, int count, RowWriter writer) {
+    for (int from = 0; from < count; from += batchSize) {
+      int first = from;
+      int size = Math.min(batchSize, count - from);
+      jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+        @Override
+        public void setValues(PreparedStatement statement, int i) throws SQLException {
+          writer.write(statement, first + i);
+        }
+
+        @Override
+        public int getBatchSize() {
+          return size;
+        }
+      });
+    }
+  }
+
+  /**
+   * Sets the parameters of the row with the index.
+   */
+  private interface RowWriter {
+    void write(PreparedStatement statement, int row) throws SQLException;
+  }
+}
@@ -0,0 +1,23 @@
+package interviewplanning.benchmark;
+
+import java.util.function.IntConsumer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Measured call of a benchmark. Both the preparation and the call get the
+ * iteration number to pick their sample with, and only the call is measured.
+ */
+@Getter
+@AllArgsConstructor
+public class Operation {
+  private static final IntConsumer NOTHING = iteration -> { };
+
+  private final String name;
+  private final IntConsumer prepare;
+  private final IntConsumer call;
+
+  public Operation(String name, IntConsumer call) {
+    this(name, NOTHING, call);
+  }
+}
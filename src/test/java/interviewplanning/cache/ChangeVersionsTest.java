@@ -0,0 +1,77 @@
+package interviewplanning.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import interviewplanning.utils.WeekId;
+import interviewplanning.utils.WeekRolloverEvent;
+import org.junit.jupiter.api.Test;
+
+class ChangeVersionsTest {
+  private final ChangeVersions changeVersions = new ChangeVersions();
+
+  @Test
+  void givenUnchangedWeeks_whenGetWeekVersion_thenSameVersionReturned() {
+    assertThat(changeVersions.getWeekVersion("202243"))
+        .isEqualTo(changeVersions.getWeekVersion("202244"));
+  }
+
+  @Test
+  void givenChangedWeek_whenGetWeekEtag_thenOnlyThatWeekEtagChanged() {
+    String etag = changeVersions.getWeekEtag("202243");
+    String otherEtag = changeVersions.getWeekEtag("202244");
+
+    changeVersions.weekChanged("202243");
+
+    assertThat(changeVersions.getWeekEtag("202243")).isNotEqualTo(etag);
+    assertThat(changeVersions.getWeekEtag("202244")).isEqualTo(otherEtag);
+  }
+
+  @Test
+  void givenChangedCandidate_whenGetCandidateVersion_thenVersionIncreased() {
+    long version = changeVersions.getCandidateVersion("candidate@gmail.com");
+
+    changeVersions.candidateChanged("candidate@gmail.com");
+    long changedVersion = changeVersions.getCandidateVersion("candidate@gmail.com");
+    changeVersions.candidateChanged("candidate@gmail.com");
+
+    assertThat(changedVersion).isGreaterThan(version);
+    assertThat(changeVersions.getCandidateVersion("candidate@gmail.com"))
+        .isGreaterThan(changedVersion);
+  }
+
+  @Test
+  void givenUnchangedCandidates_whenGetCandidateEtag_thenEtagsDiffer() {
+    assertThat(changeVersions.getCandidateVersion("a@gmail.com"))
+        .isEqualTo(changeVersions.getCandidateVersion("b@gmail.com"));
+    assertThat(changeVersions.getCandidateEtag("a@gmail.com"))
+        .isNotEqualTo(changeVersions.getCandidateEtag("b@gmail.com"))
+        .isEqualTo(changeVersions.getCandidateEtag("a@gmail.com"));
+  }
+
+  @Test
+  void givenTooManyCandidates_whenCandidateChanged_thenVersionsDroppedAndNeverReused() {
+    ChangeVersions bounded = new ChangeVersions(2);
+    String unchangedEtag = bounded.getCandidateEtag("c@gmail.com");
+    bounded.candidateChanged("a@gmail.com");
+    String changedEtag = bounded.getCandidateEtag("a@gmail.com");
+    bounded.candidateChanged("b@gmail.com");
+
+    bounded.candidateChanged("c@gmail.com");
+
+    assertThat(bounded.getCandidateCount()).isEqualTo(1);
+    assertThat(bounded.getCandidateEtag("a@gmail.com")).isNotEqualTo(changedEtag);
+    assertThat(bounded.getCandidateEtag("c@gmail.com")).isNotEqualTo(unchangedEtag);
+  }
+
+  @Test
+  void givenWeekRollover_whenGetCandidateVersion_thenVersionsDropped() {
+    changeVersions.candidateChanged("a@gmail.com");
+    long changedVersion = changeVersions.getCandidateVersion("a@gmail.com");
+
+    changeVersions.onWeekRollover(new WeekRolloverEvent(WeekId.of(2026, 42),
+        WeekId.of(2026, 43), WeekId.of(2026, 44)));
+
+    assertThat(changeVersions.getCandidateCount()).isZero();
+    assertThat(changeVersions.getCandidateVersion("a@gmail.com")).isGreaterThan(changedVersion);
+  }
+}
@@ -0,0 +1,132 @@
+package interviewplanning.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import interviewplanning.services.CoordinatorService.DayInfo;
+import interviewplanning.utils.WeekId;
+import interviewplanning.utils.WeekRolloverEvent;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class DashboardCacheTest {
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private ChangeVersions changeVersions;
+  private DashboardCache dashboardCache;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  public void setup() {
+    changeVersions = new ChangeVersions();
+    dashboardCache = new DashboardCache(changeVersions, objectMapper, 2, true);
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  void givenCachedWeek_whenGet_thenLoaderNotCalled() {
+    DashboardSnapshot first = dashboardCache.get("202243", this::load);
+    DashboardSnapshot second = dashboardCache.get("202243", this::load);
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(dashboardCache.getStats().getHits()).isEqualTo(1);
+    assertThat(dashboardCache.getStats().getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  void givenChangedWeek_whenGet_thenDashboardReloaded() {
+    dashboardCache.get("202243", this::load);
+    dashboardCache.get("202244", this::load);
+
+    changeVersions.weekChanged("202243");
+    dashboardCache.get("202243", this::load);
+    dashboardCache.get("202244", this::load);
+
+    assertThat(loads.get()).isEqualTo(3);
+  }
+
+  @Test
+  void givenWeekRollover_whenOnWeekRollover_thenPastWeeksEvicted() {
+    dashboardCache.get("202243", this::load);
+    dashboardCache.get("202244", this::load);
+
+    dashboardCache.onWeekRollover(new WeekRolloverEvent(
+        WeekId.of(2022, 43), WeekId.of(2022, 44), WeekId.of(2022, 45)));
+
+    dashboardCache.get("202244", this::load);
+    assertThat(loads.get()).isEqualTo(2);
+    assertThat(dashboardCache.getStats().getSize()).isEqualTo(1);
+    assertThat(dashboardCache.getStats().getEvictions()).isEqualTo(1);
+  }
+
+  @Test
+  void givenFullCache_whenGetNewWeek_thenLeastRecentlyUsedWeekEvicted() {
+    dashboardCache.get("202243", this::load);
+    dashboardCache.get("202244", this::load);
+    dashboardCache.get("202243", this::load);
+    dashboardCache.get("202245", this::load);
+
+    dashboardCache.get("202243", this::load);
+    assertThat(loads.get()).isEqualTo(3);
+    dashboardCache.get("202244", this::load);
+    assertThat(loads.get()).isEqualTo(4);
+    assertThat(dashboardCache.getStats().getEvictions()).isEqualTo(2);
+    assertThat(dashboardCache.getStats().getSize()).isEqualTo(2);
+  }
+
+  @Test
+  void givenWeekChangedDuringLoad_whenGet_thenLoadedDashboardNotCached() {
+    dashboardCache.get("202243", () -> {
+      changeVersions.weekChanged("202243");
+      return load();
+    });
+    dashboardCache.get("202243", this::load);
+
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  void givenDashboard_whenGet_thenEncodedAsJsonOnce() throws IOException {
+    DashboardSnapshot snapshot = dashboardCache.get("202243", this::load);
+
+    assertThat(snapshot.getJson()).isEqualTo(objectMapper.writeValueAsBytes(load()));
+    assertThat(new String(snapshot.getJson(), "UTF-8")).contains("\"MONDAY\"");
+    assertThat(dashboardCache.get("202243", this::load).getJson()).isSameAs(snapshot.getJson());
+  }
+
+  @Test
+  void givenGzipEnabled_whenGet_thenGzippedJsonDecompressesToJson() throws IOException {
+    DashboardSnapshot snapshot = dashboardCache.get("202243", this::load);
+
+    try (GZIPInputStream gzip =
+             new GZIPInputStream(new ByteArrayInputStream(snapshot.getGzippedJson()))) {
+      assertThat(gzip.readAllBytes()).isEqualTo(snapshot.getJson());
+    }
+  }
+
+  @Test
+  void givenGzipDisabled_whenGet_thenNoGzippedJson() {
+    dashboardCache = new DashboardCache(changeVersions, objectMapper, 2, false);
+
+    assertThat(dashboardCache.get("202243", this::load).getGzippedJson()).isNull();
+  }
+
+  private Map<String, DayInfo[]> load() {
+    loads.incrementAndGet();
+    DayInfo monday = new DayInfo();
+    monday.setDayOfWeek(DayOfWeek.MONDAY);
+    monday.setDate(LocalDate.of(2022, 10, 24));
+    Map<String, DayInfo[]> dashboard = new LinkedHashMap<>();
+    dashboard.put("days", new DayInfo[] {monday});
+    return dashboard;
+  }
+}
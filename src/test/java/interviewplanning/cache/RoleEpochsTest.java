@@ -0,0 +1,120 @@
+package interviewplanning.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import interviewplanning.models.UserEpoch;
+import interviewplanning.repositories.UserEpochRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// every role change commits in its own transaction, as it does behind the service;
+// concurrent changes take two pooled connections each, one for the first epoch insert
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RoleEpochsTest {
+  private static final String EMAIL = "interviewer@gmail.com";
+
+  @Autowired
+  private UserEpochRepository userEpochRepository;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+  private TransactionTemplate transactionTemplate;
+  private RoleEpochs roleEpochs;
+
+  @BeforeEach
+  public void setup() {
+    userEpochRepository.deleteAll();
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    roleEpochs = new RoleEpochs(userEpochRepository, transactionManager);
+    roleEpochs.load();
+  }
+
+  @Test
+  void givenUnchangedRole_whenGetEpoch_thenZero() {
+    assertThat(roleEpochs.getEpoch(EMAIL)).isZero();
+  }
+
+  @Test
+  void givenRoleChangedTwice_whenGetEpoch_thenEpochIncreasedTwice() {
+    roleChanged(EMAIL);
+    roleChanged(EMAIL);
+
+    assertThat(roleEpochs.getEpoch(EMAIL)).isEqualTo(2);
+    assertThat(roleEpochs.getEpoch("coordinator@gmail.com")).isZero();
+  }
+
+  @Test
+  void givenStoredEpochs_whenLoad_thenEpochsSurviveRestart() {
+    roleChanged(EMAIL);
+
+    RoleEpochs restarted = new RoleEpochs(userEpochRepository, transactionManager);
+    restarted.load();
+
+    assertThat(restarted.getEpoch(EMAIL)).isEqualTo(1);
+  }
+
+  @Test
+  void givenUncommittedRoleChange_whenGetEpoch_thenOldEpochUntilCommit() {
+    transactionTemplate.executeWithoutResult(status -> {
+      roleEpochs.roleChanged(EMAIL);
+
+      assertThat(roleEpochs.getEpoch(EMAIL)).isZero();
+    });
+
+    assertThat(roleEpochs.getEpoch(EMAIL)).isEqualTo(1);
+  }
+
+  @Test
+  void givenRolledBackRoleChange_whenGetEpoch_thenOldEpoch() {
+    roleChanged(EMAIL);
+    transactionTemplate.executeWithoutResult(status -> {
+      roleEpochs.roleChanged(EMAIL);
+      status.setRollbackOnly();
+    });
+
+    assertThat(roleEpochs.getEpoch(EMAIL)).isEqualTo(1);
+  }
+
+  @Test
+  void givenConcurrentFirstChanges_whenRoleChanged_thenEveryChangeIncreasesEpoch()
+      throws Exception {
+    int threads = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> changes = new ArrayList<>();
+    try {
+      for (int i = 0; i < threads; i++) {
+        changes.add(executor.submit(() -> {
+          start.await();
+          roleChanged(EMAIL);
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> change : changes) {
+        change.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(userEpochRepository.findById(EMAIL)).map(UserEpoch::getEpoch).hasValue(4L);
+    assertThat(roleEpochs.getEpoch(EMAIL)).isEqualTo(4);
+  }
+
+  private void roleChanged(String email) {
+    transactionTemplate.executeWithoutResult(status -> roleEpochs.roleChanged(email));
+  }
+}
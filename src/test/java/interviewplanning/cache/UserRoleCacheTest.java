@@ -0,0 +1,119 @@
+package interviewplanning.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import interviewplanning.models.User;
+import interviewplanning.models.UserRole;
+import interviewplanning.repositories.UserRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserRoleCacheTest {
+  private static final String EMAIL = "interviewer@gmail.com";
+
+  @Mock
+  private UserRepository userRepository;
+  private UserRoleCache userRoleCache;
+
+  @BeforeEach
+  public void setup() {
+    userRoleCache = new UserRoleCache(userRepository, 2);
+  }
+
+  @Test
+  void givenCachedUser_whenGetRole_thenRepositoryQueriedOnce() {
+    given(userRepository.findByEmail(EMAIL))
+        .willReturn(Optional.of(new User(EMAIL, UserRole.INTERVIEWER)));
+
+    assertThat(userRoleCache.getRole(EMAIL)).isEqualTo(UserRole.INTERVIEWER);
+    assertThat(userRoleCache.getRole(EMAIL)).isEqualTo(UserRole.INTERVIEWER);
+
+    verify(userRepository, times(1)).findByEmail(EMAIL);
+    assertThat(userRoleCache.getStats().getHits()).isEqualTo(1);
+  }
+
+  @Test
+  void givenUnknownEmail_whenGetRole_thenCandidateCached() {
+    given(userRepository.findByEmail("candidate@gmail.com")).willReturn(Optional.empty());
+
+    assertThat(userRoleCache.getRole("candidate@gmail.com")).isEqualTo(UserRole.CANDIDATE);
+    assertThat(userRoleCache.getRole("candidate@gmail.com")).isEqualTo(UserRole.CANDIDATE);
+
+    verify(userRepository, times(1)).findByEmail("candidate@gmail.com");
+  }
+
+  @Test
+  void givenRevokedRole_whenInvalidate_thenCurrentRoleLoaded() {
+    given(userRepository.findByEmail(EMAIL))
+        .willReturn(Optional.of(new User(EMAIL, UserRole.INTERVIEWER)), Optional.empty());
+    userRoleCache.getRole(EMAIL);
+
+    userRoleCache.invalidate(EMAIL);
+
+    assertThat(userRoleCache.getRole(EMAIL)).isEqualTo(UserRole.CANDIDATE);
+  }
+
+  @Test
+  void givenFullCache_whenGetNewEmail_thenLeastRecentlyUsedEmailEvicted() {
+    given(userRepository.findByEmail(EMAIL)).willReturn(Optional.empty());
+    given(userRepository.findByEmail("a@gmail.com")).willReturn(Optional.empty());
+    given(userRepository.findByEmail("b@gmail.com")).willReturn(Optional.empty());
+
+    userRoleCache.getRole(EMAIL);
+    userRoleCache.getRole("a@gmail.com");
+    userRoleCache.getRole(EMAIL);
+    userRoleCache.getRole("b@gmail.com");
+    userRoleCache.getRole(EMAIL);
+
+    verify(userRepository, times(1)).findByEmail(EMAIL);
+    assertThat(userRoleCache.getStats().getEvictions()).isEqualTo(1);
+    assertThat(userRoleCache.getStats().getSize()).isEqualTo(2);
+  }
+
+  @Test
+  void givenLoadedStaffEmails_whenGetRoleOfCandidate_thenRepositoryNotQueried() {
+    given(userRepository.findAllEmails()).willReturn(List.of(EMAIL));
+    userRoleCache.loadStaffEmails();
+
+    assertThat(userRoleCache.getRole("candidate@gmail.com")).isEqualTo(UserRole.CANDIDATE);
+
+    verify(userRepository, never()).findByEmail("candidate@gmail.com");
+    assertThat(userRoleCache.getStats().getStaffMisses()).isEqualTo(1);
+    assertThat(userRoleCache.getStats().getSize()).isZero();
+  }
+
+  @Test
+  void givenGrantedRole_whenInvalidate_thenEmailCountsAsStaff() {
+    given(userRepository.findAllEmails()).willReturn(List.of(), List.of(EMAIL));
+    given(userRepository.findByEmail(EMAIL))
+        .willReturn(Optional.of(new User(EMAIL, UserRole.INTERVIEWER)));
+    userRoleCache.loadStaffEmails();
+    assertThat(userRoleCache.getRole(EMAIL)).isEqualTo(UserRole.CANDIDATE);
+
+    userRoleCache.invalidate(EMAIL);
+
+    assertThat(userRoleCache.getRole(EMAIL)).isEqualTo(UserRole.INTERVIEWER);
+    assertThat(userRoleCache.getStats().getStaffEmails()).isEqualTo(1);
+  }
+
+  @Test
+  void givenRevokedRole_whenInvalidate_thenStaffEmailsRebuilt() {
+    given(userRepository.findAllEmails()).willReturn(List.of(EMAIL), List.of());
+    userRoleCache.loadStaffEmails();
+
+    userRoleCache.invalidate(EMAIL);
+
+    assertThat(userRoleCache.getRole(EMAIL)).isEqualTo(UserRole.CANDIDATE);
+    verify(userRepository, never()).findByEmail(EMAIL);
+  }
+}
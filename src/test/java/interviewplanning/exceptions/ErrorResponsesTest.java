@@ -0,0 +1,50 @@
+package interviewplanning.exceptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ErrorResponsesTest {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void givenAuthDetail_whenWrite_thenCachedBodyMatchesSerializedException() throws IOException {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    ErrorResponses.write(response, AuthException.INVALID_AUTH_TOKEN);
+
+    assertThat(response.getStatus()).isEqualTo(401);
+    assertThat(response.getContentType()).startsWith("application/json");
+    assertThat(response.getContentAsString()).isEqualTo(objectMapper.writeValueAsString(
+        new AuthException(AuthException.INVALID_AUTH_TOKEN)));
+  }
+
+  @Test
+  void givenAccessDenied_whenWriteTwice_thenSameBodyWritten() throws IOException {
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    MockHttpServletResponse second = new MockHttpServletResponse();
+
+    ErrorResponses.write(first, AuthException.ACCESS_UNAUTHORIZED);
+    ErrorResponses.write(second, new AuthException(AuthException.ACCESS_UNAUTHORIZED));
+
+    assertThat(second.getStatus()).isEqualTo(403);
+    assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+    assertThat(second.getContentLength()).isEqualTo(first.getContentAsByteArray().length);
+  }
+
+  @Test
+  void givenOtherException_whenWrite_thenSerialized() throws IOException {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    InternalErrorException exception =
+        new InternalErrorException(InternalErrorException.IDENTITY_PROVIDER_BUSY);
+
+    ErrorResponses.write(response, exception);
+
+    assertThat(response.getStatus()).isEqualTo(503);
+    assertThat(response.getContentAsString())
+        .isEqualTo(objectMapper.writeValueAsString(exception));
+  }
+}
@@ -1,7 +1,12 @@
 package interviewplanning.integrationTests;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import interviewplanning.cache.RoleEpochs;
 import interviewplanning.models.Booking;
 import interviewplanning.models.CandidateTimeSlot;
 import interviewplanning.models.InterviewerBookingLimit;
@@ -10,10 +15,13 @@ import interviewplanning.models.User;
 import interviewplanning.models.UserRole;
 import interviewplanning.security.FacebookToken;
 import interviewplanning.security.JwtTokenProvider;
+import interviewplanning.utils.WeekCalendar;
 import interviewplanning.utils.WeekUtil;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -21,6 +29,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +43,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 public class IntegrationTests {
@@ -66,6 +76,12 @@ public class IntegrationTests {
   @Autowired
   private FacebookToken facebookToken;
 
+  @Autowired
+  private RoleEpochs roleEpochs;
+
+  @Autowired
+  private WeekCalendar weekCalendar;
+
   @Value("${jwt.token.secret}")
   private String secret;
 
@@ -80,6 +96,7 @@ public class IntegrationTests {
   @BeforeEach
   public void setUp() {
     baseUrl = baseUrl.concat(port + "");
+    bookingRepo.deleteAll();
     interviewerBookingLimitTestRepository.deleteAll();
     interviewerTimeSlotTestRepository.deleteAll();
     userTestRepository.deleteAll();
@@ -90,6 +107,7 @@ public class IntegrationTests {
     Claims claims = Jwts.claims().setSubject(email);
     claims.put("name", "John Doe");
     claims.put("role", role);
+    claims.put("epoch", roleEpochs.getEpoch(email));
     Date now = new Date();
     Date validity = new Date(now.getTime() + expirationTime);
     String token = Jwts.builder()
@@ -149,6 +167,42 @@ public class IntegrationTests {
     assertEquals(HttpStatus.CREATED, response.getStatusCode());
   }
 
+  @Test
+  void testCreateInterviewerTimeSlotsBulkSuccess() {
+    User interviewer = userTestRepository.save(
+        new User("interviewer@gmail.com", UserRole.INTERVIEWER));
+
+    HttpHeaders headers = getHeaders("interviewer@gmail.com", UserRole.INTERVIEWER);
+
+    List<InterviewerTimeSlot> slots = List.of(
+        InterviewerTimeSlot.builder()
+            .from(LocalTime.of(9, 0))
+            .to(LocalTime.of(12, 0))
+            .dayOfWeek(DayOfWeek.MONDAY)
+            .weekNum(WeekUtil.getNextWeekNumber())
+            .build(),
+        InterviewerTimeSlot.builder()
+            .from(LocalTime.of(12, 0))
+            .to(LocalTime.of(17, 0))
+            .dayOfWeek(DayOfWeek.MONDAY)
+            .weekNum(WeekUtil.getNextWeekNumber())
+            .build(),
+        InterviewerTimeSlot.builder()
+            .from(LocalTime.of(9, 0))
+            .to(LocalTime.of(17, 0))
+            .dayOfWeek(DayOfWeek.WEDNESDAY)
+            .weekNum(WeekUtil.getNextWeekNumber())
+            .build());
+
+    ResponseEntity<InterviewerTimeSlot[]> response = restTemplate.exchange(
+        baseUrl + "/interviewers/" + interviewer.getId() + "/slots/bulk", HttpMethod.POST,
+        new HttpEntity<>(slots, headers), InterviewerTimeSlot[].class);
+
+    assertEquals(HttpStatus.CREATED, response.getStatusCode());
+    assertEquals(3, Objects.requireNonNull(response.getBody()).length);
+    assertEquals(3, interviewerTimeSlotTestRepository.findAll().size());
+  }
+
 
   @Test
   void testCreateInterviewerTimeSlotSuccess() {
@@ -424,6 +478,117 @@ public class IntegrationTests {
 
   }
 
+  @Test
+  void testGetDashboardNotModifiedUntilWeekChanged() {
+    User coordinator = new User("existing_coordinator@gmail.com", UserRole.COORDINATOR);
+    userTestRepository.save(coordinator);
+    User interviewer = new User("interviewer@gmail.com", UserRole.INTERVIEWER);
+    userTestRepository.save(interviewer);
+
+    String dashboardUrl = baseUrl + "/weeks/" + WeekUtil.getNextWeekNumber() + "/dashboard";
+    HttpHeaders headers = getHeaders("existing_coordinator@gmail.com", UserRole.COORDINATOR);
+
+    ResponseEntity<String> response = restTemplate.exchange(
+        dashboardUrl, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    String etag = response.getHeaders().getETag();
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+
+    headers.setIfNoneMatch(etag);
+    ResponseEntity<String> notModifiedResponse = restTemplate.exchange(
+        dashboardUrl, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+    assertEquals(HttpStatus.NOT_MODIFIED, notModifiedResponse.getStatusCode());
+    assertEquals(HttpHeaders.ACCEPT_ENCODING,
+        notModifiedResponse.getHeaders().getFirst(HttpHeaders.VARY));
+
+    HttpEntity<InterviewerTimeSlot> slotRequest = new HttpEntity<>(
+        InterviewerTimeSlot.builder()
+            .from(LocalTime.of(15, 30))
+            .to(LocalTime.of(17, 0))
+            .dayOfWeek(DayOfWeek.MONDAY)
+            .weekNum(WeekUtil.getNextWeekNumber())
+            .build(), getHeaders("interviewer@gmail.com", UserRole.INTERVIEWER));
+    restTemplate.exchange(baseUrl + "/interviewers/" + interviewer.getId() + "/slots",
+        HttpMethod.POST, slotRequest, InterviewerTimeSlot.class);
+
+    ResponseEntity<String> modifiedResponse = restTemplate.exchange(
+        dashboardUrl, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+    assertEquals(HttpStatus.OK, modifiedResponse.getStatusCode());
+    assertEquals(1, interviewerTimeSlotTestRepository.findAll().size());
+  }
+
+  @Test
+  void testGetDashboardOfInvalidWeekRejectedBeforeEtagCheck() {
+    User coordinator = new User("existing_coordinator@gmail.com", UserRole.COORDINATOR);
+    userTestRepository.save(coordinator);
+
+    HttpHeaders headers = getHeaders("existing_coordinator@gmail.com", UserRole.COORDINATOR);
+    // matches any tag, so a tag of the path would answer 304
+    headers.setIfNoneMatch("*");
+
+    HttpClientErrorException exception = assertThrows(HttpClientErrorException.class,
+        () -> restTemplate.exchange(baseUrl + "/weeks/not-a-week/dashboard", HttpMethod.GET,
+            new HttpEntity<>(headers), String.class));
+
+    assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    assertTrue(exception.getResponseBodyAsString().contains("invalid_week_number"));
+    assertNull(exception.getResponseHeaders().getETag());
+  }
+
+  @Test
+  void testGetDashboardGzippedWhenAccepted() throws IOException {
+    User coordinator = new User("existing_coordinator@gmail.com", UserRole.COORDINATOR);
+    userTestRepository.save(coordinator);
+
+    String dashboardUrl = baseUrl + "/weeks/" + WeekUtil.getNextWeekNumber() + "/dashboard";
+    HttpHeaders headers = getHeaders("existing_coordinator@gmail.com", UserRole.COORDINATOR);
+
+    ResponseEntity<byte[]> plainResponse = restTemplate.exchange(
+        dashboardUrl, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+
+    headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+    ResponseEntity<byte[]> gzippedResponse = restTemplate.exchange(
+        dashboardUrl, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+
+    assertEquals(HttpStatus.OK, gzippedResponse.getStatusCode());
+    assertEquals(MediaType.APPLICATION_JSON, gzippedResponse.getHeaders().getContentType());
+    assertEquals("gzip", gzippedResponse.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    try (GZIPInputStream gzip = new GZIPInputStream(
+        new ByteArrayInputStream(Objects.requireNonNull(gzippedResponse.getBody())))) {
+      assertArrayEquals(plainResponse.getBody(), gzip.readAllBytes());
+    }
+  }
+
+  @Test
+  void testGetDashboardNotGzippedWhenRefused() {
+    User coordinator = new User("existing_coordinator@gmail.com", UserRole.COORDINATOR);
+    userTestRepository.save(coordinator);
+
+    String dashboardUrl = baseUrl + "/weeks/" + WeekUtil.getNextWeekNumber() + "/dashboard";
+    HttpHeaders headers = getHeaders("existing_coordinator@gmail.com", UserRole.COORDINATOR);
+
+    ResponseEntity<byte[]> plainResponse = restTemplate.exchange(
+        dashboardUrl, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+
+    for (String acceptEncoding : List.of("gzip;q=0, identity", "GZIP; Q=0.0", "br, *;q=0",
+        "*, gzip;q=0", "x-gzip;q=zero")) {
+      headers.set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+      ResponseEntity<byte[]> response = restTemplate.exchange(
+          dashboardUrl, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+
+      assertEquals(HttpStatus.OK, response.getStatusCode());
+      assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING), acceptEncoding);
+      assertArrayEquals(plainResponse.getBody(), response.getBody(), acceptEncoding);
+    }
+
+    headers.set(HttpHeaders.ACCEPT_ENCODING, "br;q=1, gzip;q=0.5");
+    ResponseEntity<byte[]> gzippedResponse = restTemplate.exchange(
+        dashboardUrl, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+    assertEquals("gzip", gzippedResponse.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+  }
+
   @Test
   void testCreateBookingSuccess() {
     User coordinator1 = new User("existing_coordinator@gmail.com", UserRole.COORDINATOR);
@@ -477,6 +642,49 @@ public class IntegrationTests {
 
   }
 
+  @Test
+  void testCreateBookingsBatchBestEffortPartiallySuccess() {
+    User coordinator = new User("existing_coordinator@gmail.com", UserRole.COORDINATOR);
+    userTestRepository.save(coordinator);
+
+    HttpHeaders headers = getHeaders("existing_coordinator@gmail.com", UserRole.COORDINATOR);
+
+    User interviewer = new User("interviewer@gmail.com", UserRole.INTERVIEWER);
+    userTestRepository.save(interviewer);
+
+    InterviewerTimeSlot interviewerTimeSlot = interviewerTimeSlotTestRepository.save(
+        InterviewerTimeSlot.builder()
+            .weekNum(WeekUtil.getNextWeekNumber())
+            .dayOfWeek(LocalDate.now().getDayOfWeek())
+            .from(LocalTime.of(13, 30))
+            .to(LocalTime.of(17, 0))
+            .interviewerId(interviewer.getId())
+            .build());
+
+    CandidateTimeSlot candidateTimeSlot = candidateTimeSlotRepoTest.save(
+        CandidateTimeSlot.builder()
+            .date(LocalDate.now().plusWeeks(1))
+            .from(LocalTime.of(13, 30))
+            .to(LocalTime.of(17, 0))
+            .build());
+
+    Booking booking = Booking.builder()
+        .from(LocalTime.of(15, 30))
+        .to(LocalTime.of(17, 0))
+        .interviewerTimeSlotId(interviewerTimeSlot.getId())
+        .candidateTimeSlotId(candidateTimeSlot.getId())
+        .subject("Subject")
+        .description("Description")
+        .build();
+    HttpEntity<List<Booking>> request = new HttpEntity<>(List.of(booking, booking), headers);
+
+    ResponseEntity<String> response = restTemplate.postForEntity(
+        baseUrl + "/bookings/batch?mode=BEST_EFFORT", request, String.class);
+
+    assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+    assertEquals(1, bookingRepo.findAll().size());
+  }
+
   @Test
   void testCreateCandidateTimeSlotSuccess() {
     HttpHeaders headers = getHeaders("existing_candidate@gmail.com", UserRole.CANDIDATE);
@@ -485,7 +693,7 @@ public class IntegrationTests {
     HttpEntity<CandidateTimeSlot> request = new HttpEntity<>(CandidateTimeSlot.builder()
         .from(LocalTime.of(15, 30))
         .to(LocalTime.of(17, 0))
-        .date(LocalDate.of(2023, 4, 25).plusWeeks(2L))
+        .date(weekCalendar.getNextWeek().getDate(DayOfWeek.TUESDAY))
         .build(), headers);
 
     ResponseEntity<CandidateTimeSlot> response =
@@ -496,6 +704,20 @@ public class IntegrationTests {
 
   }
 
+  @Test
+  void givenCandidate_whenGetSlots_thenResponseIsPrivateToTheCandidate() {
+    HttpHeaders headers = getHeaders("existing_candidate@gmail.com", UserRole.CANDIDATE);
+
+    ResponseEntity<String> response = restTemplate.exchange(
+        baseUrl + "/candidates/current/slots", HttpMethod.GET, new HttpEntity<>(headers),
+        String.class);
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("private", response.getHeaders().getCacheControl());
+    assertTrue(response.getHeaders().getVary().contains(HttpHeaders.AUTHORIZATION));
+    assertTrue(response.getHeaders().getETag().contains("."));
+  }
+
   @Test
   void testUpdateCandidateTimeSlotSuccess() {
     HttpHeaders headers = getHeaders("existing_candidate@gmail.com", UserRole.CANDIDATE);
@@ -505,7 +727,7 @@ public class IntegrationTests {
     HttpEntity<CandidateTimeSlot> requestCreate = new HttpEntity<>(CandidateTimeSlot.builder()
         .from(LocalTime.of(15, 30))
         .to(LocalTime.of(17, 0))
-        .date(LocalDate.of(2023, 4, 25).plusWeeks(2L))
+        .date(weekCalendar.getNextWeek().getDate(DayOfWeek.TUESDAY))
         .build(), headers);
 
     ResponseEntity<CandidateTimeSlot> response =
@@ -521,7 +743,7 @@ public class IntegrationTests {
     HttpEntity<CandidateTimeSlot> requestUpdate = new HttpEntity<>(CandidateTimeSlot.builder()
         .from(LocalTime.of(10, 0))
         .to(LocalTime.of(11, 30))
-        .date(LocalDate.of(2023, 4, 25).plusWeeks(2L))
+        .date(weekCalendar.getNextWeek().getDate(DayOfWeek.TUESDAY))
         .build(), headers);
 
     ResponseEntity<CandidateTimeSlot> responseUpdate = restTemplate.exchange(
@@ -0,0 +1,105 @@
+package interviewplanning.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import interviewplanning.JpaFixtures;
+import interviewplanning.cache.ChangeVersions;
+import interviewplanning.exceptions.ValidationException;
+import interviewplanning.models.Booking;
+import interviewplanning.models.CandidateTimeSlot;
+import interviewplanning.models.InterviewerTimeSlot;
+import interviewplanning.models.User;
+import interviewplanning.services.BookingService;
+import interviewplanning.services.OverlapConstraints;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = JpaFixtures.STATISTICS)
+@Import({BookingService.class, ChangeVersions.class, OverlapConstraints.class})
+class BookingQueryCountTest {
+  @Autowired
+  private TestEntityManager entityManager;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private BookingService bookingService;
+  private JpaFixtures fixtures;
+  private InterviewerTimeSlot interviewerSlot;
+  private CandidateTimeSlot candidateSlot;
+  private Statistics statistics;
+
+  @BeforeEach
+  public void setup() {
+    fixtures = JpaFixtures.of(entityManager);
+    User interviewer = fixtures.interviewer("interviewer@gmail.com");
+    fixtures.bookingLimit(interviewer, 5, 0);
+    interviewerSlot = fixtures.interviewerSlot(interviewer.getId(), DayOfWeek.MONDAY,
+        LocalTime.of(8, 0), LocalTime.of(12, 0));
+    candidateSlot = fixtures.candidateSlot("candidate@gmail.com", DayOfWeek.MONDAY,
+        LocalTime.of(9, 0), LocalTime.of(10, 30));
+    entityManager.flush();
+    entityManager.clear();
+    statistics = JpaFixtures.statistics(entityManagerFactory);
+  }
+
+  @Test
+  void shouldValidateBookingInSingleQuery() {
+    statistics.clear();
+    bookingService.createBooking(interviewerSlot.getId(), candidateSlot.getId(),
+        LocalTime.of(9, 0), LocalTime.of(10, 30), "subject", "description");
+    entityManager.flush();
+
+    // validation select, booking limit update and booking insert
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3L);
+  }
+
+  @Test
+  void givenBooking_whenUpdateBooking_thenBookingUpdated() {
+    Booking booking = bookingService.createBooking(interviewerSlot.getId(),
+        candidateSlot.getId(), LocalTime.of(9, 0), LocalTime.of(10, 30), "subject", "description");
+    entityManager.flush();
+    entityManager.clear();
+
+    bookingService.updateBooking(booking.getId(), new Booking(LocalTime.of(9, 0),
+        LocalTime.of(10, 30), interviewerSlot.getId(), candidateSlot.getId(), "updated",
+        "updated description"));
+    entityManager.flush();
+    entityManager.clear();
+
+    Booking updated = entityManager.find(Booking.class, booking.getId());
+    assertThat(updated.getSubject()).isEqualTo("updated");
+    assertThat(updated.getCandidateTimeSlotId()).isEqualTo(candidateSlot.getId());
+  }
+
+  @Test
+  void givenOccupiedPeriodOfAnotherSlot_whenUpdateBooking_thenThrowsValidationException() {
+    Booking booking = bookingService.createBooking(interviewerSlot.getId(),
+        candidateSlot.getId(), LocalTime.of(9, 0), LocalTime.of(10, 30), "subject", "description");
+    InterviewerTimeSlot otherSlot = fixtures.interviewerSlot(interviewerSlot.getInterviewerId(),
+        DayOfWeek.MONDAY, LocalTime.of(12, 0), LocalTime.of(16, 0));
+    CandidateTimeSlot otherCandidateSlot = fixtures.candidateSlot("other_candidate@gmail.com",
+        DayOfWeek.MONDAY, LocalTime.of(12, 0), LocalTime.of(15, 0));
+    CandidateTimeSlot freeCandidateSlot = fixtures.candidateSlot("free_candidate@gmail.com",
+        DayOfWeek.MONDAY, LocalTime.of(13, 0), LocalTime.of(14, 30));
+    bookingService.createBooking(otherSlot.getId(), otherCandidateSlot.getId(),
+        LocalTime.of(12, 30), LocalTime.of(14, 0), "subject", "description");
+    entityManager.flush();
+    entityManager.clear();
+
+    ValidationException exception = assertThrows(ValidationException.class,
+        () -> bookingService.updateBooking(booking.getId(), new Booking(LocalTime.of(13, 0),
+            LocalTime.of(14, 30), otherSlot.getId(), freeCandidateSlot.getId(), "subject",
+            "description")));
+
+    assertThat(exception.getErrorCode()).isEqualTo("booking_overlap");
+  }
+}
@@ -0,0 +1,90 @@
+package interviewplanning.repositories;
+
+import static interviewplanning.JpaFixtures.WEEK_NUM;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import interviewplanning.JpaFixtures;
+import interviewplanning.cache.ChangeVersions;
+import interviewplanning.cache.DashboardCache;
+import interviewplanning.cache.RoleEpochs;
+import interviewplanning.cache.UserRoleCache;
+import interviewplanning.configuration.ClockConfig;
+import interviewplanning.models.CandidateTimeSlot;
+import interviewplanning.models.InterviewerTimeSlot;
+import interviewplanning.models.User;
+import interviewplanning.services.CoordinatorService;
+import interviewplanning.services.InterviewerService;
+import interviewplanning.services.OverlapConstraints;
+import interviewplanning.utils.WeekCalendar;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = JpaFixtures.STATISTICS)
+@Import({CoordinatorService.class, InterviewerService.class, DashboardCache.class,
+    ChangeVersions.class, OverlapConstraints.class, UserRoleCache.class, RoleEpochs.class,
+    WeekCalendar.class, ClockConfig.class, JacksonAutoConfiguration.class})
+class DashboardQueryCountTest {
+  @Autowired
+  private TestEntityManager entityManager;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private CoordinatorService coordinatorService;
+  @Autowired
+  private ChangeVersions changeVersions;
+  private JpaFixtures fixtures;
+  private User interviewer;
+  private Statistics statistics;
+
+  @BeforeEach
+  public void setup() {
+    fixtures = JpaFixtures.of(entityManager);
+    interviewer = fixtures.interviewer("interviewer@gmail.com");
+    entityManager.flush();
+    statistics = JpaFixtures.statistics(entityManagerFactory);
+  }
+
+  @Test
+  void shouldNotIssueMoreQueriesWhenWeekHasMoreSlots() {
+    addBookedSlots(1);
+    long fewSlotsQueries = countDashboardQueries();
+
+    addBookedSlots(9);
+    long manySlotsQueries = countDashboardQueries();
+
+    assertThat(manySlotsQueries).isEqualTo(fewSlotsQueries);
+    assertThat(manySlotsQueries).isLessThanOrEqualTo(2L);
+  }
+
+  private long countDashboardQueries() {
+    entityManager.clear();
+    changeVersions.weekChanged(WEEK_NUM);
+    statistics.clear();
+    // the snapshot is encoded to JSON, which walks every lazy association of the response
+    coordinatorService.getDashboardSnapshot(WEEK_NUM);
+    return statistics.getPrepareStatementCount();
+  }
+
+  private void addBookedSlots(int count) {
+    for (int i = 0; i < count; i++) {
+      DayOfWeek day = DayOfWeek.of(i % 5 + 1);
+      LocalTime from = LocalTime.of(8, 0).plusMinutes(90L * (i / 5));
+      LocalTime to = from.plusMinutes(90);
+      InterviewerTimeSlot interviewerSlot =
+          fixtures.interviewerSlot(interviewer.getId(), day, from, to);
+      CandidateTimeSlot candidateSlot =
+          fixtures.candidateSlot("candidate" + i + "@gmail.com", day, from, to);
+      fixtures.booking(interviewerSlot, candidateSlot);
+    }
+    entityManager.flush();
+  }
+}
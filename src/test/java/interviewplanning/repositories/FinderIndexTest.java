@@ -0,0 +1,67 @@
+package interviewplanning.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import interviewplanning.models.InterviewerBookingLimit;
+import interviewplanning.models.User;
+import interviewplanning.models.UserRole;
+import java.util.UUID;
+import javax.persistence.PersistenceException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@DataJpaTest
+class FinderIndexTest {
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Test
+  void givenInterviewerAndWeek_whenExplain_thenCompositeIndexUsed() {
+    assertThat(explain("select * from interviewer_time_slots"
+        + " where interviewer_id = '00000000-0000-0000-0000-000000000001' and week_number = '202610' and day_of_week = 3"))
+        .containsIgnoringCase("interviewer_time_slots_interviewer_week_day_idx");
+  }
+
+  @Test
+  void givenEmailAndDate_whenExplain_thenCompositeIndexUsed() {
+    assertThat(explain("select * from candidate_time_slots"
+        + " where email = 'candidate@gmail.com' and interview_date = date '2026-03-03'"))
+        .containsIgnoringCase("candidate_time_slots_email_date_idx");
+  }
+
+  @Test
+  void givenInterviewerTimeSlot_whenExplain_thenBookingIndexUsed() {
+    assertThat(explain("select count(*) from bookings where interviewer_time_slot_id"
+        + " = '00000000-0000-0000-0000-000000000001'"))
+        .containsIgnoringCase("bookings_interviewer_time_slot_id_idx");
+  }
+
+  @Test
+  void givenLimitForWeek_whenPersistAnother_thenRejected() {
+    User interviewer = entityManager.persist(new User("interviewer@gmail.com", UserRole.INTERVIEWER));
+    entityManager.persist(limit(interviewer.getId()));
+
+    assertThrows(PersistenceException.class, () -> {
+      entityManager.persist(limit(interviewer.getId()));
+      entityManager.flush();
+    });
+  }
+
+  private String explain(String sql) {
+    return String.valueOf(entityManager.getEntityManager()
+        .createNativeQuery("explain " + sql)
+        .getSingleResult());
+  }
+
+  private static InterviewerBookingLimit limit(UUID interviewerId) {
+    return InterviewerBookingLimit.builder()
+        .interviewerId(interviewerId)
+        .weekNum("202610")
+        .weekBookingLimit(5)
+        .currentBookingCount(0)
+        .build();
+  }
+}
@@ -0,0 +1,85 @@
+package interviewplanning.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import interviewplanning.JpaFixtures;
+import interviewplanning.models.User;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@DataJpaTest(properties = JpaFixtures.STATISTICS)
+class InterviewerSlotCopyTest {
+  private static final String FROM_WEEK_NUM = JpaFixtures.WEEK_NUM;
+  private static final String TO_WEEK_NUM = "202244";
+  private static final int INTERVIEWERS = 500;
+
+  @Autowired
+  private TestEntityManager entityManager;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  private final List<User> interviewers = new ArrayList<>();
+  private JpaFixtures fixtures;
+  private Statistics statistics;
+
+  @BeforeEach
+  public void setup() {
+    fixtures = JpaFixtures.of(entityManager);
+    for (int i = 0; i < INTERVIEWERS; i++) {
+      User interviewer = fixtures.interviewer("interviewer" + i + "@gmail.com");
+      interviewers.add(interviewer);
+      for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY)) {
+        fixtures.interviewerSlot(interviewer.getId(), day,
+            LocalTime.of(9, 0), LocalTime.of(12, 0));
+        fixtures.interviewerSlot(interviewer.getId(), day,
+            LocalTime.of(14, 0), LocalTime.of(17, 0));
+      }
+    }
+    entityManager.flush();
+    entityManager.clear();
+    statistics = JpaFixtures.statistics(entityManagerFactory);
+  }
+
+  @Test
+  void givenSlotsOfWeek_whenCopySlotsToWeek_thenCopiedExceptOverlapping() {
+    UUID interviewerId = interviewers.get(0).getId();
+    fixtures.interviewerSlot(interviewerId, TO_WEEK_NUM, DayOfWeek.MONDAY,
+        LocalTime.of(10, 30), LocalTime.of(12, 0));
+    entityManager.flush();
+
+    int copiedSlots =
+        interviewerTimeSlotRepository.copySlotsToWeek(interviewerId, FROM_WEEK_NUM, TO_WEEK_NUM);
+
+    assertThat(copiedSlots).isEqualTo(3);
+    assertThat(interviewerTimeSlotRepository.findByInterviewerIdAndWeekNum(
+        interviewerId, TO_WEEK_NUM)).hasSize(4);
+    assertThat(interviewerTimeSlotRepository.findByInterviewerIdAndWeekNum(
+        interviewers.get(1).getId(), TO_WEEK_NUM)).isEmpty();
+  }
+
+  @Test
+  void givenSlotsOfAllInterviewers_whenCopyAllSlotsToWeek_thenCopiedInSingleStatement() {
+    statistics.clear();
+    int copiedSlots = interviewerTimeSlotRepository.copyAllSlotsToWeek(FROM_WEEK_NUM, TO_WEEK_NUM);
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    assertThat(copiedSlots).isEqualTo(INTERVIEWERS * 4);
+    assertThat(interviewerTimeSlotRepository.findByWeekNum(TO_WEEK_NUM))
+        .hasSize(INTERVIEWERS * 4);
+
+    // copying again skips every slot, they'd all overlap the copies
+    assertThat(interviewerTimeSlotRepository.copyAllSlotsToWeek(FROM_WEEK_NUM, TO_WEEK_NUM))
+        .isZero();
+  }
+}
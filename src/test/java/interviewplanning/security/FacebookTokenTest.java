@@ -0,0 +1,246 @@
+package interviewplanning.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import interviewplanning.dto.JwtRequest;
+import interviewplanning.dto.UserInfo;
+import interviewplanning.exceptions.AuthException;
+import interviewplanning.exceptions.InternalErrorException;
+import interviewplanning.security.AuthStageTimings.Stage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs FacebookToken against a local stub server standing in for graph.facebook.com.
+ */
+class FacebookTokenTest {
+  private static final Instant NOW = Instant.parse("2022-10-24T10:00:00Z");
+
+  private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+  private final MutableClock clock = new MutableClock(NOW);
+  private volatile long appTokenExpiresIn = 3600;
+  private volatile long responseDelayMs;
+  private HttpServer server;
+  private FacebookToken facebookToken;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/oauth/access_token", exchange -> respond(exchange, "app",
+        "{\"access_token\":\"app-token-" + (hits("app") + 1) + "\",\"token_type\":\"bearer\","
+            + "\"expires_in\":" + appTokenExpiresIn + "}"));
+    server.createContext("/debug_token", exchange -> {
+      String query = exchange.getRequestURI().getQuery();
+      boolean valid = query.contains("input_token=user-token")
+          || query.contains("input_token=other-app-token");
+      String appId = query.contains("input_token=foreign-app-token") ? "2" : "1";
+      boolean isValid = !query.contains("input_token=invalidated-token");
+      respond(exchange, "debug", valid || !appId.equals("1") || !isValid
+          ? "{\"data\":{\"app_id\":\"" + appId + "\",\"is_valid\":" + isValid
+          + ",\"expires_at\":0,\"user_id\":\"42\",\"issued_at\":1}}"
+          : "{\"error\":{\"message\":\"Invalid OAuth access token.\"}}");
+    });
+    server.createContext("/me", exchange -> respond(exchange, "user",
+        exchange.getRequestURI().getQuery().contains("access_token=other-app-token")
+            ? "{\"name\":\"Jane Doe\",\"email\":\"jane@gmail.com\",\"id\":\"43\"}"
+            : "{\"name\":\"John Doe\",\"email\":\"john@gmail.com\",\"id\":\"42\"}"));
+    server.start();
+    facebookToken = facebookToken(Duration.ofSeconds(2), Duration.ofSeconds(5));
+  }
+
+  @AfterEach
+  public void cleanup() {
+    facebookToken.shutdown();
+    server.stop(0);
+  }
+
+  @Test
+  void givenSameToken_whenGetUserInfoTwice_thenGraphApiCalledOnce() {
+    UserInfo first = facebookToken.getUserInfo(new JwtRequest("user-token"));
+    UserInfo second = facebookToken.getUserInfo(new JwtRequest("user-token"));
+
+    assertThat(first.getEmail()).isEqualTo("john@gmail.com");
+    assertThat(second).isSameAs(first);
+    assertThat(hits("app")).isEqualTo(1);
+    assertThat(hits("debug")).isEqualTo(1);
+    assertThat(hits("user")).isEqualTo(1);
+  }
+
+  @Test
+  void givenDifferentTokens_whenGetUserInfo_thenAppTokenFetchedOnce() {
+    facebookToken.getUserInfo(new JwtRequest("user-token-1"));
+    facebookToken.getUserInfo(new JwtRequest("user-token-2"));
+
+    assertThat(hits("app")).isEqualTo(1);
+    assertThat(hits("debug")).isEqualTo(2);
+    assertThat(hits("user")).isEqualTo(2);
+  }
+
+  @Test
+  void givenUserInfoTtlPassed_whenGetUserInfo_thenTokenInspectedAgain() {
+    facebookToken.getUserInfo(new JwtRequest("user-token"));
+    clock.advance(Duration.ofSeconds(61));
+    facebookToken.getUserInfo(new JwtRequest("user-token"));
+
+    assertThat(hits("debug")).isEqualTo(2);
+    assertThat(hits("user")).isEqualTo(2);
+  }
+
+  @Test
+  void givenAppTokenCloseToExpiry_whenGetAccessToken_thenRefreshedAhead() {
+    appTokenExpiresIn = 600;
+    assertThat(facebookToken.getAccessToken().getToken()).isEqualTo("app-token-1");
+
+    clock.advance(Duration.ofSeconds(200));
+    assertThat(facebookToken.getAccessToken().getToken()).isEqualTo("app-token-1");
+
+    // inside the refresh-ahead window of 5 minutes, but before expiry
+    clock.advance(Duration.ofSeconds(200));
+    assertThat(facebookToken.getAccessToken().getToken()).isEqualTo("app-token-2");
+    assertThat(hits("app")).isEqualTo(2);
+  }
+
+  @Test
+  void givenInvalidToken_whenGetUserInfo_thenThrowsAuthException() {
+    assertThrows(AuthException.class,
+        () -> facebookToken.getUserInfo(new JwtRequest("forged")));
+  }
+
+  @Test
+  void givenTokenOfAnotherUser_whenGetUserInfo_thenThrowsAuthException() {
+    assertThrows(AuthException.class,
+        () -> facebookToken.getUserInfo(new JwtRequest("other-app-token")));
+  }
+
+  @Test
+  void givenTokenOfAnotherApp_whenGetUserInfo_thenThrowsAuthException() {
+    assertThrows(AuthException.class,
+        () -> facebookToken.getUserInfo(new JwtRequest("foreign-app-token")));
+    assertThrows(AuthException.class,
+        () -> facebookToken.getUserInfo(new JwtRequest("foreign-app-token")));
+    assertThat(hits("debug")).isEqualTo(2);
+  }
+
+  @Test
+  void givenInvalidatedToken_whenGetUserInfo_thenThrowsAuthException() {
+    assertThrows(AuthException.class,
+        () -> facebookToken.getUserInfo(new JwtRequest("invalidated-token")));
+  }
+
+  @Test
+  void givenCachedAppToken_whenGetUserInfo_thenInspectionAndUserInfoOverlap() {
+    facebookToken.getAccessToken();
+    responseDelayMs = 500;
+
+    long start = System.nanoTime();
+    facebookToken.getUserInfo(new JwtRequest("user-token"));
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    // sequential calls would take at least 1000ms
+    assertThat(elapsedMs).isLessThan(900);
+    assertThat(facebookToken.getTimings().getStats(Stage.INSPECT_TOKEN).getCount()).isEqualTo(1);
+    assertThat(facebookToken.getTimings().getStats(Stage.USER_INFO).getCount()).isEqualTo(1);
+    assertThat(facebookToken.getTimings().getStats(Stage.TOTAL).getMaxNanos())
+        .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+  }
+
+  @Test
+  void givenSlowGraphApi_whenGetUserInfo_thenReadTimesOut() {
+    facebookToken.shutdown();
+    facebookToken = facebookToken(Duration.ofMillis(200), Duration.ofSeconds(5));
+    responseDelayMs = 2000;
+
+    assertThrows(InternalErrorException.class,
+        () -> facebookToken.getUserInfo(new JwtRequest("user-token")));
+  }
+
+  @Test
+  void givenSlowGraphApi_whenGetUserInfo_thenFailsAtDeadline() {
+    facebookToken.shutdown();
+    facebookToken = facebookToken(Duration.ofSeconds(5), Duration.ofMillis(300));
+    responseDelayMs = 2000;
+
+    long start = System.nanoTime();
+    InternalErrorException exception = assertThrows(InternalErrorException.class,
+        () -> facebookToken.getUserInfo(new JwtRequest("user-token")));
+
+    assertThat(exception.getErrorCode()).isEqualTo("identity_provider_timeout");
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1500);
+  }
+
+  private FacebookToken facebookToken(Duration readTimeout, Duration deadline) {
+    return new FacebookToken("1", "secret",
+        "http://localhost:" + server.getAddress().getPort(), Duration.ofSeconds(1), readTimeout,
+        Duration.ofHours(1), Duration.ofMinutes(5), Duration.ofSeconds(60), 100, 4, 16,
+        deadline, new ObjectMapper(), clock);
+  }
+
+  private int hits(String endpoint) {
+    return hits.computeIfAbsent(endpoint, key -> new AtomicInteger()).get();
+  }
+
+  private void respond(HttpExchange exchange, String endpoint, String body) throws IOException {
+    hits.computeIfAbsent(endpoint, key -> new AtomicInteger()).incrementAndGet();
+    if (responseDelayMs > 0) {
+      try {
+        Thread.sleep(responseDelayMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    int status = body.startsWith("{\"error\"") ? 400 : 200;
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private static class MutableClock extends Clock {
+    private volatile Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package interviewplanning.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JwtKeyRingTest {
+  private static final String SECRET = "a759bdB2hJ+ghFpF";
+  private static final String EMAIL = "interviewer@gmail.com";
+
+  @TempDir
+  Path keyDir;
+
+  @BeforeEach
+  public void setup() throws Exception {
+    KeyPairGenerator rsa = KeyPairGenerator.getInstance("RSA");
+    rsa.initialize(2048);
+    writeKeyPair("rsa-1", rsa.generateKeyPair());
+    KeyPairGenerator ec = KeyPairGenerator.getInstance("EC");
+    ec.initialize(new ECGenParameterSpec("secp256r1"));
+    writeKeyPair("ec-2", ec.generateKeyPair());
+  }
+
+  @Test
+  void givenRsaActiveKey_whenSign_thenRs256WithKid() {
+    JwtKeyRing keyRing = new JwtKeyRing(SECRET, true, keyDir.toString(), "rsa-1");
+
+    String token = keyRing.sign(Jwts.builder().setSubject(EMAIL)).compact();
+
+    assertThat(Jwts.parser().setSigningKeyResolver(keyRing).parseClaimsJws(token).getHeader())
+        .containsEntry("alg", "RS256")
+        .containsEntry("kid", "rsa-1");
+  }
+
+  @Test
+  void givenRotatedKey_whenParseTokenOfRetiredKey_thenVerified() {
+    String oldToken = new JwtKeyRing(SECRET, true, keyDir.toString(), "rsa-1")
+        .sign(Jwts.builder().setSubject(EMAIL)).compact();
+    JwtKeyRing keyRing = new JwtKeyRing(SECRET, true, keyDir.toString(), "ec-2");
+
+    String newToken = keyRing.sign(Jwts.builder().setSubject(EMAIL)).compact();
+
+    assertThat(Jwts.parser().setSigningKeyResolver(keyRing).parseClaimsJws(oldToken)
+        .getBody().getSubject()).isEqualTo(EMAIL);
+    assertThat(Jwts.parser().setSigningKeyResolver(keyRing).parseClaimsJws(newToken)
+        .getHeader().getAlgorithm()).isEqualTo("ES256");
+  }
+
+  @Test
+  void givenUnknownKid_whenParse_thenThrowsSignatureException() {
+    JwtKeyRing keyRing = new JwtKeyRing(SECRET, true, keyDir.toString(), "rsa-1");
+    String token = Jwts.builder().setHeaderParam("kid", "rsa-0").setSubject(EMAIL)
+        .signWith(SignatureAlgorithm.HS256, SECRET).compact();
+
+    assertThrows(SignatureException.class,
+        () -> Jwts.parser().setSigningKeyResolver(keyRing).parseClaimsJws(token));
+  }
+
+  @Test
+  void givenHs256TokenWithRsaKid_whenParse_thenThrowsSignatureException() {
+    JwtKeyRing keyRing = new JwtKeyRing(SECRET, true, keyDir.toString(), "rsa-1");
+    String token = Jwts.builder().setHeaderParam("kid", "rsa-1").setSubject(EMAIL)
+        .signWith(SignatureAlgorithm.HS256, SECRET).compact();
+
+    assertThrows(SignatureException.class,
+        () -> Jwts.parser().setSigningKeyResolver(keyRing).parseClaimsJws(token));
+  }
+
+  @Test
+  void givenLegacyTokensNotAccepted_whenParseHs256Token_thenThrowsSignatureException() {
+    String legacyToken = new JwtKeyRing(SECRET, true, "", "")
+        .sign(Jwts.builder().setSubject(EMAIL)).compact();
+    JwtKeyRing keyRing = new JwtKeyRing(SECRET, false, keyDir.toString(), "rsa-1");
+
+    assertThrows(SignatureException.class,
+        () -> Jwts.parser().setSigningKeyResolver(keyRing).parseClaimsJws(legacyToken));
+  }
+
+  @Test
+  void givenNoActiveKey_whenSign_thenHs256WithoutKid() {
+    JwtKeyRing keyRing = new JwtKeyRing(SECRET, true, "", "");
+
+    String token = keyRing.sign(Jwts.builder().setSubject(EMAIL)).compact();
+
+    assertThat(Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getHeader())
+        .containsEntry("alg", "HS256")
+        .doesNotContainKey("kid");
+    assertThat(keyRing.getJwks()).isEqualTo(Map.of("keys", List.of()));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void givenKeyDir_whenGetJwks_thenPublicKeysOnly() {
+    JwtKeyRing keyRing = new JwtKeyRing(SECRET, true, keyDir.toString(), "rsa-1");
+
+    List<Map<String, Object>> keys = (List<Map<String, Object>>) keyRing.getJwks().get("keys");
+
+    assertThat(keys).extracting(key -> key.get("kid")).containsExactly("ec-2", "rsa-1");
+    assertThat(keys.get(0)).containsEntry("kty", "EC").containsEntry("alg", "ES256")
+        .containsKeys("x", "y");
+    assertThat(keys.get(1)).containsEntry("kty", "RSA").containsEntry("alg", "RS256")
+        .containsEntry("e", "AQAB").doesNotContainKey("d");
+  }
+
+  private void writeKeyPair(String kid, KeyPair keyPair) throws IOException {
+    Files.writeString(keyDir.resolve(kid + ".pub.pem"),
+        pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+    Files.writeString(keyDir.resolve(kid + ".pem"),
+        pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+  }
+
+  private static String pem(String type, byte[] der) {
+    return "-----BEGIN " + type + "-----\n"
+        + Base64.getMimeEncoder(64, new byte[] {'\n'}).encodeToString(der)
+        + "\n-----END " + type + "-----\n";
+  }
+}
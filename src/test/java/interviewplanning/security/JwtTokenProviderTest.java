@@ -0,0 +1,143 @@
+package interviewplanning.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import interviewplanning.cache.RoleEpochs;
+import interviewplanning.cache.UserRoleCache;
+import interviewplanning.dto.JwtRequest;
+import interviewplanning.dto.UserInfo;
+import interviewplanning.exceptions.AuthException;
+import interviewplanning.models.User;
+import interviewplanning.models.UserRole;
+import interviewplanning.repositories.UserEpochRepository;
+import interviewplanning.repositories.UserRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+  private static final String EMAIL = "interviewer@gmail.com";
+
+  @Mock
+  private IdentityProvider identityProvider;
+  @Mock
+  private UserRepository userRepository;
+  @Mock
+  private UserEpochRepository userEpochRepository;
+  private RoleEpochs roleEpochs;
+  private UserRoleCache userRoleCache;
+  private VerifiedTokenCache verifiedTokenCache;
+  private JwtTokenProvider jwtTokenProvider;
+  private String token;
+
+  @BeforeEach
+  public void setup() {
+    userRoleCache = new UserRoleCache(userRepository, 100);
+    verifiedTokenCache = new VerifiedTokenCache(true, 100, Clock.systemUTC());
+    roleEpochs = new RoleEpochs(userEpochRepository, mock(PlatformTransactionManager.class));
+    jwtTokenProvider = new JwtTokenProvider(identityProvider, userRoleCache, verifiedTokenCache,
+        roleEpochs, new JwtKeyRing("a759bdB2hJ+ghFpF", true, "", ""));
+    ReflectionTestUtils.setField(jwtTokenProvider, "validityInMilliseconds", 3600000L);
+
+    given(identityProvider.getUserInfo(any(JwtRequest.class)))
+        .willReturn(new UserInfo("John Doe", EMAIL));
+    given(userRepository.findByEmail(EMAIL))
+        .willReturn(Optional.of(new User(EMAIL, UserRole.INTERVIEWER)));
+    token = jwtTokenProvider.createToken(new JwtRequest("facebook-token"));
+  }
+
+  @Test
+  void givenSameToken_whenAuthenticateTwice_thenVerifiedOnce() {
+    Authentication first = jwtTokenProvider.authenticate(token);
+    Authentication second = jwtTokenProvider.authenticate(token);
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.getAuthorities()).extracting(Object::toString).containsExactly("INTERVIEWER");
+    assertThat(verifiedTokenCache.getStats().getHits()).isEqualTo(1);
+    verify(userRepository, times(1)).findByEmail(EMAIL);
+  }
+
+  @Test
+  void givenForgedPayloadWithCachedSignature_whenAuthenticate_thenThrowsAuthException() {
+    jwtTokenProvider.authenticate(token);
+    String[] parts = token.split("\\.");
+    String payload = new String(Base64.getUrlDecoder().decode(parts[1]))
+        .replace(EMAIL, "coordinator@gmail.com");
+    String forged = parts[0] + "."
+        + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes()) + "."
+        + parts[2];
+
+    assertThrows(AuthException.class, () -> jwtTokenProvider.authenticate(forged));
+  }
+
+  @Test
+  void givenRoleChanged_whenAuthenticateCachedToken_thenThrowsTokenRevoked() {
+    jwtTokenProvider.authenticate(token);
+
+    roleEpochs.roleChanged(EMAIL);
+
+    AuthException exception = assertThrows(AuthException.class,
+        () -> jwtTokenProvider.authenticate(token));
+    assertThat(exception.getErrorCode()).isEqualTo("token_revoked");
+  }
+
+  @Test
+  void givenRoleChanged_whenAuthenticateNewToken_thenAuthenticatedWithNewRole() {
+    given(userRepository.findByEmail(EMAIL)).willReturn(Optional.empty());
+    roleEpochs.roleChanged(EMAIL);
+    userRoleCache.invalidate(EMAIL);
+
+    String newToken = jwtTokenProvider.createToken(new JwtRequest("facebook-token"));
+
+    assertThrows(AuthException.class, () -> jwtTokenProvider.authenticate(token));
+    assertThat(jwtTokenProvider.authenticate(newToken).getAuthorities())
+        .extracting(Object::toString).containsExactly("CANDIDATE");
+  }
+
+  @Test
+  void givenRoleRevokedWhileCreatingToken_whenAuthenticate_thenThrowsTokenRevoked() {
+    userRoleCache.invalidate(EMAIL);
+    // the revoke lands after the epoch and before the role is read
+    given(userRepository.findByEmail(EMAIL)).willAnswer(invocation -> {
+      roleEpochs.roleChanged(EMAIL);
+      return Optional.of(new User(EMAIL, UserRole.INTERVIEWER));
+    });
+
+    String staleToken = jwtTokenProvider.createToken(new JwtRequest("facebook-token"));
+
+    AuthException exception = assertThrows(AuthException.class,
+        () -> jwtTokenProvider.authenticate(staleToken));
+    assertThat(exception.getErrorCode()).isEqualTo("token_revoked");
+  }
+
+  @Test
+  void givenExpiredCachedToken_whenGet_thenMiss() {
+    Authentication authentication = jwtTokenProvider.authenticate(token);
+    VerifiedTokenCache.Entry entry = verifiedTokenCache.get(token);
+    VerifiedTokenCache laterCache = new VerifiedTokenCache(true, 100,
+        Clock.fixed(Instant.ofEpochMilli(entry.getExpiresAt()), ZoneOffset.UTC));
+
+    laterCache.put(token, new Date(entry.getExpiresAt()), EMAIL, entry.getEpoch(),
+        authentication);
+
+    assertThat(laterCache.get(token)).isNull();
+  }
+}
@@ -0,0 +1,37 @@
+package interviewplanning.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import interviewplanning.dto.JwtRequest;
+import interviewplanning.dto.UserInfo;
+import interviewplanning.exceptions.AuthException;
+import org.junit.jupiter.api.Test;
+
+class LocalIdentityProviderTest {
+  private final LocalIdentityProvider identityProvider = new LocalIdentityProvider("local.test");
+
+  @Test
+  void givenEmailToken_whenGetUserInfo_thenTokenIsEmail() {
+    UserInfo userInfo = identityProvider.getUserInfo(
+        new JwtRequest("first_coordinator@gmail.com"));
+
+    assertThat(userInfo.getEmail()).isEqualTo("first_coordinator@gmail.com");
+    assertThat(userInfo.getName()).isEqualTo("first_coordinator");
+  }
+
+  @Test
+  void givenTokenWithoutDomain_whenGetUserInfo_thenDomainAdded() {
+    UserInfo userInfo = identityProvider.getUserInfo(new JwtRequest("candidate42"));
+
+    assertThat(userInfo.getEmail()).isEqualTo("candidate42@local.test");
+    assertThat(userInfo.getName()).isEqualTo("candidate42");
+  }
+
+  @Test
+  void givenBlankOrMalformedToken_whenGetUserInfo_thenThrowsAuthException() {
+    assertThrows(AuthException.class, () -> identityProvider.getUserInfo(new JwtRequest(" ")));
+    assertThrows(AuthException.class,
+        () -> identityProvider.getUserInfo(new JwtRequest("a@b@c.test")));
+  }
+}
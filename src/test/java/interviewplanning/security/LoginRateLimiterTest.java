@@ -0,0 +1,81 @@
+package interviewplanning.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import interviewplanning.exceptions.RateLimitException;
+import interviewplanning.security.LoginRateLimiter.Decision;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class LoginRateLimiterTest {
+  private static final String CLIENT = "10.0.0.1";
+
+  private final AtomicLong nanoTime = new AtomicLong();
+
+  @Test
+  void givenBurstUsedUp_whenAdmit_thenRateLimitedUntilRefilled() {
+    LoginRateLimiter limiter = limiter(3, 1, 10);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(limiter.admit(CLIENT)).isEqualTo(Decision.ADMITTED);
+      limiter.release();
+    }
+    assertThat(limiter.admit(CLIENT)).isEqualTo(Decision.RATE_LIMITED);
+    assertThat(limiter.admit("10.0.0.2")).isEqualTo(Decision.ADMITTED);
+    limiter.release();
+
+    nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    assertThat(limiter.admit(CLIENT)).isEqualTo(Decision.ADMITTED);
+    assertThat(limiter.getStats().getAdmitted()).isEqualTo(5);
+    assertThat(limiter.getStats().getRateLimited()).isEqualTo(1);
+  }
+
+  @Test
+  void givenAllSlotsInProgress_whenAdmit_thenOverloadedUntilReleased() {
+    LoginRateLimiter limiter = limiter(10, 1, 2);
+
+    assertThat(limiter.admit("10.0.0.1")).isEqualTo(Decision.ADMITTED);
+    assertThat(limiter.admit("10.0.0.2")).isEqualTo(Decision.ADMITTED);
+    assertThat(limiter.admit("10.0.0.3")).isEqualTo(Decision.OVERLOADED);
+
+    limiter.release();
+    assertThat(limiter.admit("10.0.0.3")).isEqualTo(Decision.ADMITTED);
+    assertThat(limiter.getStats().getOverloaded()).isEqualTo(1);
+    assertThat(limiter.getStats().getQueued()).isZero();
+  }
+
+  @Test
+  void givenRateLimitedClient_whenFilterLogin_thenRejectedWith429() throws Exception {
+    LoginRateLimiter limiter = limiter(1, 1, 10);
+    LoginRateLimitFilter filter = new LoginRateLimitFilter(limiter, "/authenticate");
+
+    MockHttpServletResponse admitted = filterLogin(filter);
+    MockHttpServletResponse rejected = filterLogin(filter);
+
+    assertThat(admitted.getStatus()).isEqualTo(200);
+    assertThat(rejected.getStatus()).isEqualTo(429);
+    assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+    assertThat(rejected.getContentAsString()).isEqualTo(new ObjectMapper().writeValueAsString(
+        new RateLimitException(RateLimitException.TOO_MANY_LOGINS)));
+    // the slot of the admitted request was released after the chain
+    assertThat(limiter.admit("10.0.0.2")).isEqualTo(Decision.ADMITTED);
+  }
+
+  private LoginRateLimiter limiter(int burst, double perSecond, int maxConcurrent) {
+    return new LoginRateLimiter(burst, perSecond, 100, maxConcurrent, 0, nanoTime::get);
+  }
+
+  private MockHttpServletResponse filterLogin(LoginRateLimitFilter filter) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/authenticate");
+    request.setServletPath("/authenticate");
+    request.setRemoteAddr(CLIENT);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+}
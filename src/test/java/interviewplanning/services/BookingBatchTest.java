@@ -0,0 +1,149 @@
+package interviewplanning.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import interviewplanning.JpaFixtures;
+import interviewplanning.cache.ChangeVersions;
+import interviewplanning.exceptions.ValidationException;
+import interviewplanning.models.Booking;
+import interviewplanning.models.CandidateTimeSlot;
+import interviewplanning.models.InterviewerTimeSlot;
+import interviewplanning.models.User;
+import interviewplanning.services.BookingService.BatchItemResult;
+import interviewplanning.services.BookingService.BatchMode;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = JpaFixtures.STATISTICS)
+@Import({BookingService.class, ChangeVersions.class, OverlapConstraints.class})
+class BookingBatchTest {
+  private static final int SLOTS = 8;
+
+  @Autowired
+  private TestEntityManager entityManager;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private BookingService bookingService;
+  private final List<CandidateTimeSlot> candidateSlots = new ArrayList<>();
+  private JpaFixtures fixtures;
+  private User interviewer;
+  private InterviewerTimeSlot interviewerSlot;
+  private Statistics statistics;
+
+  @BeforeEach
+  public void setup() {
+    fixtures = JpaFixtures.of(entityManager);
+    interviewer = fixtures.interviewer("interviewer@gmail.com");
+    interviewerSlot = fixtures.interviewerSlot(interviewer.getId(), DayOfWeek.MONDAY,
+        LocalTime.of(8, 0), LocalTime.of(22, 0));
+    for (int slot = 0; slot < SLOTS; slot++) {
+      LocalTime from = LocalTime.of(8, 0).plusMinutes(90L * slot);
+      candidateSlots.add(fixtures.candidateSlot("candidate" + slot + "@gmail.com",
+          DayOfWeek.MONDAY, from, from.plusMinutes(90)));
+    }
+    entityManager.flush();
+    entityManager.clear();
+    statistics = JpaFixtures.statistics(entityManagerFactory);
+  }
+
+  @Test
+  void givenValidBatch_whenCreateBookings_thenAllCreatedInFewStatements() {
+    List<Booking> bookings = new ArrayList<>();
+    for (int slot = 0; slot < SLOTS; slot++) {
+      bookings.add(booking(candidateSlots.get(slot)));
+    }
+
+    statistics.clear();
+    List<BatchItemResult> results = bookingService.createBookings(bookings, BatchMode.BEST_EFFORT);
+    entityManager.flush();
+
+    assertThat(results).allMatch(result -> result.getBooking() != null);
+    assertThat(results).extracting(BatchItemResult::getIndex)
+        .containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+    // slots, candidate slots, bookings of both, limits and one batched insert
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(6L);
+    assertThat(countBookings()).isEqualTo(SLOTS);
+  }
+
+  @Test
+  void givenInvalidBookings_whenCreateBookingsBestEffort_thenValidOnesCreated() {
+    List<Booking> bookings = List.of(
+        booking(candidateSlots.get(0)),
+        booking(candidateSlots.get(0)),
+        booking(UUID.randomUUID(), LocalTime.of(9, 30), LocalTime.of(11, 0)),
+        booking(candidateSlots.get(2)));
+
+    List<BatchItemResult> results = bookingService.createBookings(bookings, BatchMode.BEST_EFFORT);
+
+    assertThat(results).extracting(BatchItemResult::getErrorCode)
+        .containsExactly(null, "candidate_slot_booked", "candidate_slot_not_found", null);
+    assertThat(countBookings()).isEqualTo(2);
+  }
+
+  @Test
+  void givenInvalidBooking_whenCreateBookingsAllOrNothing_thenNoneCreated() {
+    List<Booking> bookings = List.of(
+        booking(candidateSlots.get(0)),
+        booking(candidateSlots.get(1).getId(), LocalTime.of(9, 30), LocalTime.of(9, 0)));
+
+    List<BatchItemResult> results =
+        bookingService.createBookings(bookings, BatchMode.ALL_OR_NOTHING);
+
+    assertThat(results).allMatch(result -> result.getBooking() == null);
+    assertThat(results.get(0).getErrorCode()).isEqualTo("batch_rejected");
+    assertThat(countBookings()).isZero();
+  }
+
+  @Test
+  void givenBookingLimit_whenCreateBookingsBestEffort_thenBookingsOverLimitFail() {
+    fixtures.bookingLimit(interviewer, 3, 1);
+    List<Booking> bookings = new ArrayList<>();
+    for (int slot = 0; slot < 4; slot++) {
+      bookings.add(booking(candidateSlots.get(slot)));
+    }
+
+    List<BatchItemResult> results = bookingService.createBookings(bookings, BatchMode.BEST_EFFORT);
+    entityManager.flush();
+    entityManager.clear();
+
+    assertThat(results).filteredOn(result -> result.getBooking() != null).hasSize(2);
+    assertThat(results.get(3).getErrorMessage()).isEqualTo(new ValidationException(
+        ValidationException.INTERVIEWER_BOOKING_LIMIT_EXCEEDED).getErrorMessage());
+    assertThat(entityManager.getEntityManager()
+        .createQuery("select l.currentBookingCount from InterviewerBookingLimit l", Integer.class)
+        .getSingleResult()).isEqualTo(3);
+  }
+
+  private Booking booking(CandidateTimeSlot candidateSlot) {
+    return booking(candidateSlot.getId(), candidateSlot.getFrom(), candidateSlot.getTo());
+  }
+
+  private Booking booking(UUID candidateSlotId, LocalTime from, LocalTime to) {
+    return Booking.builder()
+        .interviewerTimeSlotId(interviewerSlot.getId())
+        .candidateTimeSlotId(candidateSlotId)
+        .from(from)
+        .to(to)
+        .subject("subject")
+        .description("description")
+        .build();
+  }
+
+  private long countBookings() {
+    return entityManager.getEntityManager()
+        .createQuery("select count(b) from Booking b", Long.class)
+        .getSingleResult();
+  }
+}
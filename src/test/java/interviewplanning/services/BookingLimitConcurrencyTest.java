@@ -0,0 +1,138 @@
+package interviewplanning.services;
+
+import static interviewplanning.JpaFixtures.WEEK_NUM;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import interviewplanning.JpaFixtures;
+import interviewplanning.cache.ChangeVersions;
+import interviewplanning.exceptions.ValidationException;
+import interviewplanning.models.CandidateTimeSlot;
+import interviewplanning.models.InterviewerTimeSlot;
+import interviewplanning.models.User;
+import interviewplanning.repositories.BookingRepository;
+import interviewplanning.repositories.CandidateTimeSlotRepository;
+import interviewplanning.repositories.InterviewerBookingLimitRepository;
+import interviewplanning.repositories.InterviewerTimeSlotRepository;
+import interviewplanning.repositories.UserRepository;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BookingService.class, ChangeVersions.class, OverlapConstraints.class})
+class BookingLimitConcurrencyTest {
+  private static final int BOOKING_LIMIT = 10;
+  private static final int SLOTS_PER_DAY = 9;
+  private static final int DAYS = 5;
+  private static final int CALLS = 300;
+  private static final int THREADS = 32;
+
+  @Autowired
+  private TestEntityManager entityManager;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+  @Autowired
+  private BookingService bookingService;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  @Autowired
+  private CandidateTimeSlotRepository candidateTimeSlotRepository;
+  @Autowired
+  private InterviewerBookingLimitRepository interviewerBookingLimitRepository;
+  @Autowired
+  private BookingRepository bookingRepository;
+  private final List<InterviewerTimeSlot> interviewerSlots = new ArrayList<>();
+  private final List<CandidateTimeSlot> candidateSlots = new ArrayList<>();
+  private User interviewer;
+
+  @BeforeEach
+  public void setup() {
+    JpaFixtures fixtures = JpaFixtures.committed(entityManager, transactionManager);
+    interviewer = fixtures.interviewer("interviewer@gmail.com");
+    fixtures.bookingLimit(interviewer, BOOKING_LIMIT, 0);
+
+    for (int day = 0; day < DAYS; day++) {
+      interviewerSlots.add(fixtures.interviewerSlot(interviewer.getId(), DayOfWeek.of(day + 1),
+          LocalTime.of(8, 0), LocalTime.of(22, 0)));
+      for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+        LocalTime from = LocalTime.of(8, 0).plusMinutes(90L * slot);
+        candidateSlots.add(fixtures.candidateSlot("candidate" + day + slot + "@gmail.com",
+            DayOfWeek.of(day + 1), from, from.plusMinutes(90)));
+      }
+    }
+  }
+
+  @AfterEach
+  public void cleanup() {
+    bookingRepository.deleteAll();
+    candidateTimeSlotRepository.deleteAll();
+    interviewerTimeSlotRepository.deleteAll();
+    interviewerBookingLimitRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void givenHundredsOfConcurrentBookings_whenCreateBooking_thenLimitHoldsExactly()
+      throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Boolean>> results = new ArrayList<>();
+    for (int i = 0; i < CALLS; i++) {
+      results.add(executor.submit(bookingCall(i, start)));
+    }
+    start.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+    int created = 0;
+    for (Future<Boolean> result : results) {
+      try {
+        if (result.get()) {
+          created++;
+        }
+      } catch (ExecutionException e) {
+        // every rejected booking is a validation failure, not a lock or database error
+        assertThat(e.getCause()).isInstanceOf(ValidationException.class);
+      }
+    }
+
+    assertThat(created).isEqualTo(BOOKING_LIMIT);
+    assertThat(bookingRepository.count()).isEqualTo(BOOKING_LIMIT);
+    assertThat(interviewerBookingLimitRepository
+        .findByInterviewerIdAndWeekNum(interviewer.getId(), WEEK_NUM)
+        .getCurrentBookingCount()).isEqualTo(BOOKING_LIMIT);
+  }
+
+  private Callable<Boolean> bookingCall(int call, CountDownLatch start) {
+    CandidateTimeSlot candidateSlot = candidateSlots.get(call % candidateSlots.size());
+    InterviewerTimeSlot interviewerSlot = interviewerSlots.get(
+        call % candidateSlots.size() / SLOTS_PER_DAY);
+    return () -> {
+      start.await();
+      bookingService.createBooking(interviewerSlot.getId(), candidateSlot.getId(),
+          candidateSlot.getFrom(), candidateSlot.getTo(), "subject", "description");
+      return true;
+    };
+  }
+}
@@ -4,17 +4,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import interviewplanning.cache.ChangeVersions;
+import interviewplanning.dto.BookingValidationView;
 import interviewplanning.exceptions.NotFoundException;
 import interviewplanning.exceptions.ValidationException;
 import interviewplanning.models.Booking;
 import interviewplanning.models.CandidateTimeSlot;
-import interviewplanning.models.InterviewerBookingLimit;
 import interviewplanning.models.InterviewerTimeSlot;
 import interviewplanning.models.User;
 import interviewplanning.models.UserRole;
@@ -22,13 +24,10 @@ import interviewplanning.repositories.BookingRepository;
 import interviewplanning.repositories.CandidateTimeSlotRepository;
 import interviewplanning.repositories.InterviewerBookingLimitRepository;
 import interviewplanning.repositories.InterviewerTimeSlotRepository;
-import interviewplanning.utils.WeekUtil;
 import interviewplanning.services.BookingService;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +52,12 @@ class BookingServiceTest {
   @Mock
   private CandidateTimeSlotRepository candidateTimeSlotRepository;
 
+  @Spy
+  private ChangeVersions changeVersions = new ChangeVersions();
+
+  @Spy
+  private OverlapConstraints overlapConstraints = new OverlapConstraints(false);
+
   @InjectMocks
   private BookingService bookingService;
 
@@ -62,7 +68,6 @@ class BookingServiceTest {
   private User candidate;
   private InterviewerTimeSlot interviewerTimeSlot;
   private CandidateTimeSlot candidateTimeSlot;
-  private List<InterviewerBookingLimit> interviewerBookingLimits = new ArrayList<>();
   private UUID interviewerSlotUUID = UUID.fromString("34da35e0-59e4-44bd-a0d0-b0988b93ac88");
   private UUID candidateSlotUUID = UUID.fromString("34da35e0-59e4-44bd-a0d0-b0988b93ac88");
 
@@ -102,67 +107,44 @@ class BookingServiceTest {
         .date(LocalDate.of(2022, 12, 9))
         .build();
 
-    interviewerBookingLimits.add(InterviewerBookingLimit.builder()
-        .id(UUID.fromString("3b9c3275-4a2c-4eca-a9e7-be57b5959c79"))
-        .weekBookingLimit(5)
-        .currentBookingCount(0)
-        .interviewerId(UUID.fromString("b73e7eab-1cdb-4cd1-a57b-6d5ec3d8a4ce"))
-        .weekNum(WeekUtil.getCurrentWeekNumber()) //Assigned current week
-        .build());
-
   }
 
   @Test
   void givenValidBookingData_whenCreateBooking_thenReturnBooking() {
-    given(interviewerTimeSlotRepository.findById(interviewerSlotUUID))
-        .willReturn(Optional.of(interviewerTimeSlot));
+    givenValidationView(0L, 0L);
 
-    given(interviewerBookingLimitRepository.findByInterviewerId(
-        interviewerTimeSlot.getInterviewerId()))
-        .willReturn(interviewerBookingLimits);
-
-    given(candidateTimeSlotRepository.existsById(candidateSlotUUID))
-        .willReturn(true);
-
-    given(candidateTimeSlotRepository.findById(candidateSlotUUID))
-        .willReturn(Optional.of(candidateTimeSlot));
+    given(interviewerBookingLimitRepository.incrementBookingCount(
+        interviewer.getId(), "202249")).willReturn(1);
 
     Booking booking = bookingService.createBooking(interviewerSlotUUID, candidateSlotUUID,
         from, to, "Subject1", "Desc1");
 
     assertThat(booking).isNotNull();
-
+    verify(bookingRepository, times(1)).saveAndFlush(booking);
   }
 
   @Test
   void givenInterviewerWithNoSpaceForNewBooking_whenCreateBooking_thenThrowsInterviewerLimitException() {
-    interviewerBookingLimits.get(0).setCurrentBookingCount(5);
+    givenValidationView(0L, 0L);
 
-    given(interviewerTimeSlotRepository.findById(interviewerSlotUUID))
-        .willReturn(Optional.of(interviewerTimeSlot));
+    given(interviewerBookingLimitRepository.incrementBookingCount(
+        interviewer.getId(), "202249")).willReturn(0);
 
-    given(interviewerBookingLimitRepository.findByInterviewerId(
-        interviewerTimeSlot.getInterviewerId()))
-        .willReturn(interviewerBookingLimits);
+    given(interviewerBookingLimitRepository.existsByInterviewerIdAndWeekNum(
+        interviewer.getId(), "202249")).willReturn(true);
 
     assertThrows(ValidationException.class,
         () -> bookingService.createBooking(interviewerSlotUUID, candidateSlotUUID,
             from, to, "Subject1", "Desc1"));
+
+    verify(bookingRepository, never()).save(any(Booking.class));
   }
 
   @Test
   void givenInvalidBookingDuration_whenCreateBooking_thenThrowsValidationException() {
     from = LocalTime.of(10, 0);
 
-    given(interviewerTimeSlotRepository.findById(interviewerSlotUUID))
-        .willReturn(Optional.of(interviewerTimeSlot));
-
-    given(interviewerBookingLimitRepository.findByInterviewerId(
-        interviewerTimeSlot.getInterviewerId()))
-        .willReturn(interviewerBookingLimits);
-
-    given(candidateTimeSlotRepository.existsById(candidateSlotUUID))
-        .willReturn(true);
+    givenValidationView(0L, 0L);
 
     assertThrows(ValidationException.class,
         () -> bookingService.createBooking(interviewerSlotUUID, candidateSlotUUID,
@@ -171,63 +153,92 @@ class BookingServiceTest {
 
   @Test
   void givenNoBookingLimits_whenCreateBooking_thenBookingCreatedSuccessfully() {
-    interviewerBookingLimits.clear();
 
-    given(interviewerTimeSlotRepository.findById(interviewerSlotUUID))
-        .willReturn(Optional.of(interviewerTimeSlot));
+    givenValidationView(0L, 0L);
+
+    given(interviewerBookingLimitRepository.existsByInterviewerIdAndWeekNum(
+        interviewer.getId(), "202249")).willReturn(false);
+
+    Booking booking = bookingService.createBooking(interviewerSlotUUID, candidateSlotUUID,
+        from, to, "Subject1", "Desc1");
+
+    assertThat(booking).isNotNull();
+  }
 
-    given(interviewerBookingLimitRepository.findByInterviewerId(
-        interviewerTimeSlot.getInterviewerId()))
-        .willReturn(interviewerBookingLimits);
+  @Test
+  void givenNonExistingCandidateSlot_whenCreateBooking_thenThrowsNotFoundException() {
+    given(bookingRepository.findValidationView(any(), eq(interviewerSlotUUID),
+        eq(candidateSlotUUID), eq(from), eq(to)))
+        .willReturn(Optional.empty());
 
-    given(candidateTimeSlotRepository.existsById(candidateSlotUUID))
+    given(interviewerTimeSlotRepository.existsById(interviewerSlotUUID))
         .willReturn(true);
 
-    given(candidateTimeSlotRepository.findById(candidateSlotUUID))
-        .willReturn(Optional.of(candidateTimeSlot));
+    NotFoundException exception = assertThrows(NotFoundException.class,
+        () -> bookingService.createBooking(interviewerSlotUUID, candidateSlotUUID,
+            from, to, "Subject1", "Desc1"));
 
+    assertEquals("candidate_slot_not_found", exception.getErrorCode());
+  }
 
+  @Test
+  void givenBookedCandidateSlot_whenCreateBooking_thenThrowsValidationException() {
+    givenValidationView(1L, 0L);
 
-    Booking booking = bookingService.createBooking(interviewerSlotUUID, candidateSlotUUID,
-        from, to, "Subject1", "Desc1");
+    ValidationException exception = assertThrows(ValidationException.class,
+        () -> bookingService.createBooking(interviewerSlotUUID, candidateSlotUUID,
+            from, to, "Subject1", "Desc1"));
 
-    assertThat(booking).isNotNull();
+    assertEquals("candidate_slot_booked", exception.getErrorCode());
+    verify(bookingRepository, never()).save(any(Booking.class));
   }
 
   @Test
-  void givenNextWeekBookingLimit_whenCreateBooking_thenNextWeekLimitSkipped() {
+  void givenOverlappingBooking_whenCreateBooking_thenThrowsValidationException() {
+    givenValidationView(0L, 1L);
 
-    InterviewerBookingLimit nextWeekLimit = InterviewerBookingLimit.builder()
-        .id(UUID.fromString("3b9c3275-4a2c-4eca-a9e7-be57b5959c79"))
-        .weekBookingLimit(5)
-        .currentBookingCount(5)
-        .interviewerId(UUID.fromString("b73e7eab-1cdb-4cd1-a57b-6d5ec3d8a4ce"))
-        .weekNum(WeekUtil.getNextWeekNumber()) //Assigned next week
-        .build();
+    ValidationException exception = assertThrows(ValidationException.class,
+        () -> bookingService.createBooking(interviewerSlotUUID, candidateSlotUUID,
+            from, to, "Subject1", "Desc1"));
 
-    interviewerBookingLimits.add(nextWeekLimit);
+    assertEquals("booking_overlap", exception.getErrorCode());
+    verify(interviewerBookingLimitRepository, never()).incrementBookingCount(any(), any());
+  }
 
-    given(interviewerBookingLimitRepository.findByInterviewerIdAndWeekNum(
-        interviewer.getId(),
-        WeekUtil.getNextWeekNumber())).willReturn(nextWeekLimit);
+  @Test
+  void givenBookingMovedToAnotherWeek_whenUpdateBooking_thenBookingCountMoved() {
+    Booking curBooking = new Booking(from, to, interviewerSlotUUID,
+        candidateSlotUUID, "Subject1", "Desc1");
 
-    given(interviewerTimeSlotRepository.findById(interviewerSlotUUID))
-        .willReturn(Optional.of(interviewerTimeSlot));
+    InterviewerTimeSlot previousWeekSlot = InterviewerTimeSlot.builder()
+        .id(UUID.fromString("5c1a9d3e-2f4b-4c6d-8e7f-9a0b1c2d3e4f"))
+        .interviewerId(interviewer.getId())
+        .from(from)
+        .to(to)
+        .weekNum("202248")
+        .dayOfWeek(DayOfWeek.FRIDAY)
+        .build();
+    curBooking.setInterviewerTimeSlotId(previousWeekSlot.getId());
 
-    given(interviewerBookingLimitRepository.findByInterviewerId(
-        interviewerTimeSlot.getInterviewerId()))
-        .willReturn(interviewerBookingLimits);
+    Booking updatedBooking = new Booking(from, to, interviewerSlotUUID,
+        candidateSlotUUID, "Subject2", "Desc2");
 
-    given(candidateTimeSlotRepository.existsById(candidateSlotUUID))
-        .willReturn(true);
+    given(bookingRepository.findById(curBooking.getId()))
+        .willReturn(Optional.of(curBooking));
 
-    given(candidateTimeSlotRepository.findById(candidateSlotUUID))
-        .willReturn(Optional.of(candidateTimeSlot));
+    given(interviewerTimeSlotRepository.findById(previousWeekSlot.getId()))
+        .willReturn(Optional.of(previousWeekSlot));
 
-    Booking booking = bookingService.createBooking(interviewerSlotUUID, candidateSlotUUID,
-        from, to, "Subject1", "Desc1");
+    givenValidationView(0L, 0L);
 
-    assertThat(booking).isNotNull();
+    given(interviewerBookingLimitRepository.incrementBookingCount(
+        interviewer.getId(), "202249")).willReturn(1);
+
+    bookingService.updateBooking(curBooking.getId(), updatedBooking);
+
+    verify(interviewerBookingLimitRepository, times(1))
+        .decrementBookingCount(interviewer.getId(), "202248");
+    assertEquals(interviewerSlotUUID, curBooking.getInterviewerTimeSlotId());
   }
 
   @Test
@@ -247,18 +258,12 @@ class BookingServiceTest {
     given(interviewerTimeSlotRepository.findById(interviewerSlotUUID))
         .willReturn(Optional.of(interviewerTimeSlot));
 
-    given(interviewerBookingLimitRepository.findByInterviewerId(
-        interviewerTimeSlot.getInterviewerId()))
-        .willReturn(interviewerBookingLimits);
-
-    given(candidateTimeSlotRepository.existsById(candidateSlotUUID))
-        .willReturn(true);
-
-    given(candidateTimeSlotRepository.findById(candidateSlotUUID))
-        .willReturn(Optional.of(candidateTimeSlot));
+    givenValidationView(0L, 0L);
 
     bookingService.updateBooking(curBooking.getId(), updatedBooking);
 
+    verify(interviewerBookingLimitRepository, never()).incrementBookingCount(any(), any());
+    verify(interviewerBookingLimitRepository, never()).decrementBookingCount(any(), any());
     assertEquals(updatedBooking.getSubject(), curBooking.getSubject());
     assertEquals(updatedBooking.getDescription(), curBooking.getDescription());
     assertEquals(updatedBooking.getInterviewerTimeSlotId(), curBooking.getInterviewerTimeSlotId());
@@ -281,23 +286,31 @@ class BookingServiceTest {
     given(bookingRepository.findById(curBooking.getId()))
         .willReturn(Optional.of(curBooking));
 
-    given(interviewerTimeSlotRepository.findById(interviewerSlotUUID))
-        .willReturn(Optional.of(interviewerTimeSlot));
+    givenValidationView(0L, 0L);
 
-    given(interviewerBookingLimitRepository.findByInterviewerId(
-        interviewerTimeSlot.getInterviewerId()))
-        .willReturn(interviewerBookingLimits);
+    assertThrows(ValidationException.class,
+        () -> bookingService.updateBooking(curBooking.getId(), updatedBooking));
 
-    given(candidateTimeSlotRepository.existsById(candidateSlotUUID))
-        .willReturn(true);
+    verify(bookingRepository, never()).save(any(Booking.class));
+  }
 
-    given(candidateTimeSlotRepository.findById(candidateSlotUUID))
-        .willReturn(Optional.of(candidateTimeSlot));
+  @Test
+  void givenOverlappingBooking_whenUpdateBooking_thenThrowsValidationException() {
+    Booking curBooking = new Booking(from, to, interviewerSlotUUID,
+        candidateSlotUUID, "Subject1", "Desc1");
+    Booking updatedBooking = new Booking(from, to, interviewerSlotUUID,
+        candidateSlotUUID, "Subject2", "Desc2");
 
-    assertThrows(ValidationException.class,
+    given(bookingRepository.findById(curBooking.getId()))
+        .willReturn(Optional.of(curBooking));
+
+    givenValidationView(0L, 1L);
+
+    ValidationException exception = assertThrows(ValidationException.class,
         () -> bookingService.updateBooking(curBooking.getId(), updatedBooking));
 
-    verify(bookingRepository, never()).save(any(Booking.class));
+    assertEquals("booking_overlap", exception.getErrorCode());
+    assertEquals("Subject1", curBooking.getSubject());
   }
 
   @Test
@@ -327,15 +340,21 @@ class BookingServiceTest {
         .to(LocalTime.of(11, 0))
         .subject("Subject")
         .description("Description")
+        .interviewerTimeSlotId(interviewerSlotUUID)
         .build();
     given(bookingRepository.findById(booking.getId())).willReturn(
         Optional.of(booking));
 
+    given(interviewerTimeSlotRepository.findById(interviewerSlotUUID))
+        .willReturn(Optional.of(interviewerTimeSlot));
+
     willDoNothing().given(bookingRepository).delete(booking);
 
     bookingService.deleteBooking(booking.getId());
 
     verify(bookingRepository, times(1)).delete(booking);
+    verify(interviewerBookingLimitRepository, times(1))
+        .decrementBookingCount(interviewer.getId(), "202249");
   }
 
   @Test
@@ -357,4 +376,11 @@ class BookingServiceTest {
 
     verify(bookingRepository, times(0)).delete(booking);
   }
+
+  private void givenValidationView(long candidateSlotBookings, long overlappingBookings) {
+    given(bookingRepository.findValidationView(any(), eq(interviewerSlotUUID),
+        eq(candidateSlotUUID), eq(from), eq(to)))
+        .willReturn(Optional.of(new BookingValidationView(interviewerTimeSlot, candidateTimeSlot,
+            candidateSlotBookings, overlappingBookings)));
+  }
 }
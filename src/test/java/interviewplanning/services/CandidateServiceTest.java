@@ -8,6 +8,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import interviewplanning.cache.ChangeVersions;
 import interviewplanning.exceptions.NotFoundException;
 import interviewplanning.exceptions.ValidationException;
 import interviewplanning.models.Booking;
@@ -15,8 +16,12 @@ import interviewplanning.models.CandidateTimeSlot;
 import interviewplanning.repositories.BookingRepository;
 import interviewplanning.repositories.CandidateTimeSlotRepository;
 import interviewplanning.services.CandidateService;
+import interviewplanning.utils.WeekCalendar;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +42,16 @@ class CandidateServiceTest {
   @Mock
   private BookingRepository bookingRepository;
 
+  @Spy
+  private ChangeVersions changeVersions = new ChangeVersions();
+
+  @Spy
+  private OverlapConstraints overlapConstraints = new OverlapConstraints(false);
+
+  @Spy
+  private WeekCalendar weekCalendar =
+      new WeekCalendar(Clock.fixed(Instant.parse("2023-04-25T12:00:00Z"), ZoneOffset.UTC));
+
   @InjectMocks
   private CandidateService candidateService;
 
@@ -10,6 +10,10 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import interviewplanning.cache.ChangeVersions;
+import interviewplanning.cache.DashboardCache;
+import interviewplanning.cache.RoleEpochs;
+import interviewplanning.cache.UserRoleCache;
 import interviewplanning.exceptions.AuthException;
 import interviewplanning.exceptions.NotFoundException;
 import interviewplanning.exceptions.ValidationException;
@@ -25,8 +29,10 @@ import interviewplanning.repositories.UserRepository;
 import interviewplanning.services.BookingService;
 import interviewplanning.services.CoordinatorService;
 import interviewplanning.services.CoordinatorService.DayInfo;
+import interviewplanning.utils.WeekCalendar;
 import interviewplanning.utils.WeekUtil;
 import interviewplanning.services.InterviewerService;
+import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -39,7 +45,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 @ExtendWith(MockitoExtension.class)
 class CoordinatorServiceTest {
@@ -54,6 +62,22 @@ class CoordinatorServiceTest {
   @Mock
   private BookingRepository bookingRepository;
 
+  @Spy
+  private ChangeVersions changeVersions = new ChangeVersions();
+
+  @Spy
+  private DashboardCache dashboardCache = new DashboardCache(changeVersions,
+      Jackson2ObjectMapperBuilder.json().build(), 8, true);
+
+  @Mock
+  private UserRoleCache userRoleCache;
+
+  @Mock
+  private RoleEpochs roleEpochs;
+
+  @Spy
+  private WeekCalendar weekCalendar = new WeekCalendar(Clock.systemDefaultZone());
+
   @InjectMocks
   private CoordinatorService coordinatorService;
 
@@ -122,6 +146,8 @@ class CoordinatorServiceTest {
     given(userRepository.save(coordinator)).willReturn(coordinator);
     User user = coordinatorService.grantCoordinatorRole(coordinator);
     assertEquals(UserRole.COORDINATOR, user.getRole());
+    verify(userRoleCache).invalidate("coordinator@gmail.com");
+    verify(roleEpochs).roleChanged("coordinator@gmail.com");
   }
 
   @Test
@@ -142,6 +168,8 @@ class CoordinatorServiceTest {
     given(userRepository.save(interviewer)).willReturn(interviewer);
     User user = coordinatorService.grantInterviewerRole(interviewer);
     assertEquals(UserRole.INTERVIEWER, user.getRole());
+    verify(userRoleCache).invalidate("interviewer@gmail.com");
+    verify(roleEpochs).roleChanged("interviewer@gmail.com");
   }
 
   @Test
@@ -241,7 +269,7 @@ class CoordinatorServiceTest {
     Map<DayOfWeek, List<InterviewerTimeSlot>> interviewerSlotsByDayOfWeek =
         Map.of(interviewerSlot.getDayOfWeek(), List.of(interviewerSlot));
 
-    given(interviewerTimeSlotRepository.findByWeekNum(
+    given(interviewerTimeSlotRepository.findWithBookingsByWeekNum(
         interviewerSlot.getWeekNum())).willReturn(List.of(interviewerSlot));
 
     assertThat(
@@ -251,7 +279,7 @@ class CoordinatorServiceTest {
     Map<LocalDate, List<CandidateTimeSlot>> candidateSlotsByDate =
         Map.of(candidateSlot.getDate(), List.of(candidateSlot));
 
-    given(candidateTimeSlotRepository.findByDateBetween(
+    given(candidateTimeSlotRepository.findWithBookingsByDateBetween(
         LocalDate.of(2022, 10, 27),
         LocalDate.of(2022, 10, 27).plusDays(4L))).willReturn(List.of(candidateSlot));
 
@@ -286,6 +314,22 @@ class CoordinatorServiceTest {
     assertThat(expected[3].getDate()).isEqualTo(daysInfo[3].getDate());
   }
 
+  @Test
+  void givenUnchangedWeek_whenGetSlotsAndBookingsTwice_thenRepositoriesQueriedOnce() {
+    String weekNum = "202243";
+
+    given(interviewerTimeSlotRepository.findWithBookingsByWeekNum(weekNum))
+        .willReturn(List.of(interviewerSlot));
+
+    Map<String, DayInfo[]> first = coordinatorService.getAllSlotsAndBookingsGroupedByDay(weekNum);
+    Map<String, DayInfo[]> second = coordinatorService.getAllSlotsAndBookingsGroupedByDay(weekNum);
+
+    assertThat(second).isSameAs(first);
+    verify(interviewerTimeSlotRepository, times(1)).findWithBookingsByWeekNum(weekNum);
+    verify(candidateTimeSlotRepository, times(1)).findWithBookingsByDateBetween(
+        LocalDate.of(2022, 10, 24), LocalDate.of(2022, 10, 28));
+  }
+
   @Test
   void givenCoordinatorId_whenRevokeCoordinatorRole_thenNothing() {
     given(userRepository.findById(
@@ -294,6 +338,8 @@ class CoordinatorServiceTest {
 
     coordinatorService.revokeCoordinatorRole(coordinator.getId(), "test@gmail.com");
     verify(userRepository, times(1)).deleteById(coordinator.getId());
+    verify(userRoleCache).invalidate(coordinator.getEmail());
+    verify(roleEpochs).roleChanged(coordinator.getEmail());
   }
 
   @Test
@@ -355,6 +401,8 @@ class CoordinatorServiceTest {
 
     coordinatorService.revokeInterviewerRole(interviewer.getId());
     verify(userRepository, times(1)).deleteById(interviewer.getId());
+    verify(userRoleCache).invalidate(interviewer.getEmail());
+    verify(roleEpochs).roleChanged(interviewer.getEmail());
   }
 
   @Test
@@ -8,6 +8,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import interviewplanning.cache.ChangeVersions;
 import interviewplanning.exceptions.NotFoundException;
 import interviewplanning.exceptions.ValidationException;
 import interviewplanning.models.Booking;
@@ -19,8 +20,11 @@ import interviewplanning.repositories.BookingRepository;
 import interviewplanning.repositories.InterviewerBookingLimitRepository;
 import interviewplanning.repositories.InterviewerTimeSlotRepository;
 import interviewplanning.repositories.UserRepository;
+import interviewplanning.utils.WeekCalendar;
 import interviewplanning.utils.WeekUtil;
 import interviewplanning.services.InterviewerService;
+import java.sql.SQLException;
+import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.List;
@@ -31,7 +35,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @ExtendWith(MockitoExtension.class)
 class InterviewerServiceTest {
@@ -48,6 +54,15 @@ class InterviewerServiceTest {
   @Mock
   private BookingRepository bookingRepository;
 
+  @Spy
+  private ChangeVersions changeVersions = new ChangeVersions();
+
+  @Spy
+  private OverlapConstraints overlapConstraints = new OverlapConstraints(false);
+
+  @Spy
+  private WeekCalendar weekCalendar = new WeekCalendar(Clock.systemDefaultZone());
+
   @InjectMocks
   private InterviewerService interviewerService;
 
@@ -88,6 +103,29 @@ class InterviewerServiceTest {
 
   }
 
+  @Test
+  void givenOverlapEnforcedByDatabase_whenCreateInterviewerSlot_thenExistingSlotsNotLoaded() {
+    InterviewerTimeSlot interviewerTimeSlot = InterviewerTimeSlot.builder()
+        .from(startTime)
+        .to(endTime)
+        .dayOfWeek(DayOfWeek.MONDAY)
+        .weekNum(WeekUtil.getNextWeekNumber())
+        .build();
+    given(overlapConstraints.isEnforcedByDatabase()).willReturn(true);
+    given(userRepository.findById(interviewer.getId())).willReturn(Optional.of(interviewer));
+    given(interviewerTimeSlotRepository.save(interviewerTimeSlot)).willThrow(
+        new DataIntegrityViolationException("could not execute statement",
+            new SQLException("conflicting key value violates exclusion constraint "
+                + "\"interviewer_time_slots_no_overlap\"", "23P01")));
+
+    ValidationException exception = assertThrows(ValidationException.class,
+        () -> interviewerService.createSlot(interviewerTimeSlot, interviewer.getId()));
+
+    assertEquals("slot_is_overlapping", exception.getErrorCode());
+    verify(interviewerTimeSlotRepository, never())
+        .findByDayOfWeekAndInterviewerIdAndWeekNum(any(), any(), any());
+  }
+
   @Test
   void givenNonExistPeriodIdAndInterviewerId_whenCreateInterviewerSlot_thenThrowsException() {
     InterviewerTimeSlot interviewerTimeSlot = InterviewerTimeSlot.builder()
@@ -393,6 +431,70 @@ class InterviewerServiceTest {
         exception.getErrorMessage());
   }
 
+  @Test
+  void givenWeekOfSlots_whenCreateInterviewerSlots_thenSavedInOneBatch() {
+    List<InterviewerTimeSlot> slots = List.of(
+        nextWeekSlot(DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)),
+        nextWeekSlot(DayOfWeek.MONDAY, LocalTime.of(12, 0), LocalTime.of(15, 0)),
+        nextWeekSlot(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)));
+    given(userRepository.findById(interviewer.getId())).willReturn(Optional.of(interviewer));
+    given(interviewerTimeSlotRepository.findByInterviewerIdAndWeekNum(
+        interviewer.getId(), WeekUtil.getNextWeekNumber())).willReturn(List.of(
+        nextWeekSlot(DayOfWeek.MONDAY, LocalTime.of(15, 0), LocalTime.of(18, 0))));
+    given(interviewerTimeSlotRepository.saveAllAndFlush(slots)).willReturn(slots);
+
+    List<InterviewerTimeSlot> savedSlots =
+        interviewerService.createSlots(slots, interviewer.getId());
+
+    assertThat(savedSlots).hasSize(3).allMatch(
+        slot -> interviewer.getId().equals(slot.getInterviewerId()));
+    verify(interviewerTimeSlotRepository, never())
+        .findByDayOfWeekAndInterviewerIdAndWeekNum(any(), any(), any());
+  }
+
+  @Test
+  void givenOverlappingSlotsOfBulk_whenCreateInterviewerSlots_thenThrowsException() {
+    List<InterviewerTimeSlot> slots = List.of(
+        nextWeekSlot(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(18, 0)),
+        nextWeekSlot(DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)),
+        nextWeekSlot(DayOfWeek.MONDAY, LocalTime.of(12, 0), LocalTime.of(15, 0)));
+    given(userRepository.findById(interviewer.getId())).willReturn(Optional.of(interviewer));
+
+    ValidationException exception = assertThrows(ValidationException.class,
+        () -> interviewerService.createSlots(slots, interviewer.getId()));
+
+    assertEquals("slot_is_overlapping", exception.getErrorCode());
+    verify(interviewerTimeSlotRepository, never()).saveAllAndFlush(any());
+  }
+
+  @Test
+  void givenSlotOverlappingExistingOne_whenCreateInterviewerSlots_thenThrowsException() {
+    List<InterviewerTimeSlot> slots = List.of(
+        nextWeekSlot(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)));
+    given(userRepository.findById(interviewer.getId())).willReturn(Optional.of(interviewer));
+    given(interviewerTimeSlotRepository.findByInterviewerIdAndWeekNum(
+        interviewer.getId(), WeekUtil.getNextWeekNumber())).willReturn(List.of(
+        nextWeekSlot(DayOfWeek.MONDAY, LocalTime.of(10, 30), LocalTime.of(12, 0))));
+
+    assertThrows(ValidationException.class,
+        () -> interviewerService.createSlots(slots, interviewer.getId()));
+    verify(interviewerTimeSlotRepository, never()).saveAllAndFlush(any());
+  }
+
+  @Test
+  void givenInterviewerId_whenCopyCurrentWeekSlotsToNextWeek_thenCopiedWithSingleStatement() {
+    given(userRepository.findById(interviewer.getId())).willReturn(Optional.of(interviewer));
+    given(interviewerTimeSlotRepository.copySlotsToWeek(interviewer.getId(),
+        WeekUtil.getCurrentWeekNumber(), WeekUtil.getNextWeekNumber())).willReturn(4);
+    long weekVersion = changeVersions.getWeekVersion(WeekUtil.getNextWeekNumber());
+
+    int copiedSlots = interviewerService.copyCurrentWeekSlotsToNextWeek(interviewer.getId());
+
+    assertEquals(4, copiedSlots);
+    assertThat(changeVersions.getWeekVersion(WeekUtil.getNextWeekNumber()))
+        .isGreaterThan(weekVersion);
+  }
+
   @Test
   void givenInterviewerBookingLimit_whenSetMaximumBookingsLimit_thenReturnInterviewerBookingLimit() {
     InterviewerBookingLimit interviewerBookingLimit = InterviewerBookingLimit.builder()
@@ -588,5 +690,12 @@ class InterviewerServiceTest {
         () -> interviewerService.getWeekTimeSlotsByInterviewerId(UUID.randomUUID(), true));
   }
 
-
+  private InterviewerTimeSlot nextWeekSlot(DayOfWeek dayOfWeek, LocalTime from, LocalTime to) {
+    return InterviewerTimeSlot.builder()
+        .from(from)
+        .to(to)
+        .dayOfWeek(dayOfWeek)
+        .weekNum(WeekUtil.getNextWeekNumber())
+        .build();
+  }
 }
@@ -0,0 +1,65 @@
+package interviewplanning.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import interviewplanning.exceptions.ValidationException;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class OverlapConstraintsTest {
+  private final OverlapConstraints overlapConstraints = new OverlapConstraints(true);
+
+  @Test
+  void givenExclusionViolation_whenTranslateViolations_thenThrowsValidationException() {
+    DataIntegrityViolationException violation = new DataIntegrityViolationException(
+        "could not execute statement", new SQLException(
+        "ERROR: conflicting key value violates exclusion constraint \"bookings_no_overlap\"",
+        "23P01"));
+
+    ValidationException exception = assertThrows(ValidationException.class,
+        () -> overlapConstraints.translateViolations(() -> {
+          throw violation;
+        }));
+
+    assertEquals("booking_overlap", exception.getErrorCode());
+  }
+
+  @Test
+  void givenUniqueViolation_whenTranslateViolations_thenThrowsValidationException() {
+    DataIntegrityViolationException violation = new DataIntegrityViolationException(
+        "could not execute statement", new SQLException(
+        "Unique index or primary key violation: \"PUBLIC.BOOKINGS_CANDIDATE_TIME_SLOT_KEY\"",
+        "23505"));
+
+    ValidationException exception = assertThrows(ValidationException.class,
+        () -> overlapConstraints.translateViolations(() -> {
+          throw violation;
+        }));
+
+    assertEquals("candidate_slot_booked", exception.getErrorCode());
+  }
+
+  @Test
+  void givenOtherViolation_whenTranslateViolations_thenRethrowsViolation() {
+    DataIntegrityViolationException violation = new DataIntegrityViolationException(
+        "could not execute statement", new SQLException(
+        "ERROR: null value in column \"subject\" violates not-null constraint", "23502"));
+
+    DataIntegrityViolationException exception = assertThrows(
+        DataIntegrityViolationException.class,
+        () -> overlapConstraints.translateViolations(() -> {
+          throw violation;
+        }));
+
+    assertSame(violation, exception);
+  }
+
+  @Test
+  void givenNoViolation_whenTranslateViolations_thenReturnsResult() {
+    assertThat(overlapConstraints.translateViolations(() -> "saved")).isEqualTo("saved");
+  }
+}
@@ -0,0 +1,108 @@
+package interviewplanning.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import interviewplanning.exceptions.ValidationException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WeekCalendarTest {
+  // Sunday of the last ISO week of 2026
+  private static final Instant LAST_SUNDAY_OF_2026 = Instant.parse("2027-01-03T23:59:00Z");
+
+  private MutableClock clock;
+  private List<Object> events;
+  private WeekCalendar weekCalendar;
+
+  @BeforeEach
+  public void setup() {
+    clock = new MutableClock(LAST_SUNDAY_OF_2026);
+    events = new ArrayList<>();
+    weekCalendar = new WeekCalendar(clock, events::add);
+  }
+
+  @Test
+  void givenLastWeekOfYear_whenGetWeeks_thenNextWeekInNextYear() {
+    assertThat(weekCalendar.getCurrentWeek().toString()).isEqualTo("202653");
+    assertThat(weekCalendar.getNextWeek().toString()).isEqualTo("20271");
+    assertThat(weekCalendar.getMonday(weekCalendar.getNextWeek()))
+        .isEqualTo(LocalDate.of(2027, 1, 4));
+    assertThat(weekCalendar.getToday()).isEqualTo(LocalDate.of(2027, 1, 3));
+  }
+
+  @Test
+  void givenClockPassesEndOfWeek_whenTick_thenRolloverPublished() {
+    weekCalendar.tick();
+    clock.advance(Duration.ofMinutes(1));
+
+    weekCalendar.tick();
+
+    assertThat(events).hasSize(1);
+    WeekRolloverEvent event = (WeekRolloverEvent) events.get(0);
+    assertThat(event.getPreviousWeek()).isEqualTo(WeekId.of(2026, 53));
+    assertThat(event.getCurrentWeek()).isEqualTo(WeekId.of(2027, 1));
+    assertThat(event.getNextWeek()).isEqualTo(WeekId.of(2027, 2));
+    assertThat(weekCalendar.getCurrentWeek()).isEqualTo(WeekId.of(2027, 1));
+  }
+
+  @Test
+  void givenClockWithinWeek_whenTick_thenNoRollover() {
+    weekCalendar.tick();
+    clock.advance(Duration.ofSeconds(59));
+
+    weekCalendar.tick();
+
+    assertThat(events).isEmpty();
+  }
+
+  @Test
+  void givenWeekNumbers_whenValidate_thenOnlyCurrentOrNextAccepted() {
+    weekCalendar.validateIsCurrentOrNextWeekNumber("202653");
+    weekCalendar.validateIsCurrentOrNextWeekNumber("20271");
+    weekCalendar.validateIsNextWeekNumber("20271");
+
+    assertThrows(ValidationException.class,
+        () -> weekCalendar.validateIsCurrentOrNextWeekNumber("202654"));
+    assertThrows(ValidationException.class,
+        () -> weekCalendar.validateIsNextWeekNumber("202653"));
+  }
+
+  /**
+   * Clock that tests move forward.
+   */
+  private static class MutableClock extends Clock {
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
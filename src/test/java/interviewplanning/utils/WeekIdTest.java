@@ -0,0 +1,55 @@
+package interviewplanning.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import interviewplanning.exceptions.ValidationException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class WeekIdTest {
+
+  @Test
+  void givenLastWeekOfYear_whenNext_thenFirstWeekOfNextYear() {
+    assertThat(WeekId.of(2026, 53).next()).isEqualTo(WeekId.of(2027, 1));
+    assertThat(WeekId.of(2027, 52).next().toString()).isEqualTo("20281");
+  }
+
+  @Test
+  void givenSingleDigitWeek_whenNext_thenNextWeekOfSameYear() {
+    assertThat(WeekId.of(2026, 9).next().toString()).isEqualTo("202610");
+  }
+
+  @Test
+  void givenDateInIsoWeekOfPreviousYear_whenOf_thenWeekOfWeekBasedYear() {
+    assertThat(WeekId.of(LocalDate.of(2027, 1, 1)).toString()).isEqualTo("202653");
+    assertThat(WeekId.of(LocalDate.of(2024, 12, 30)).toString()).isEqualTo("20251");
+  }
+
+  @Test
+  void givenWeekNumber_whenParse_thenSameWeek() {
+    WeekId weekId = WeekId.parse("20269");
+
+    assertThat(weekId.getYear()).isEqualTo(2026);
+    assertThat(weekId.getWeek()).isEqualTo(9);
+    assertThat(weekId.toInt()).isEqualTo(202609);
+    assertThat(weekId.matches("20269")).isTrue();
+    assertThat(weekId.getMonday()).isEqualTo(LocalDate.of(2026, 2, 23));
+    assertThat(weekId.getDate(DayOfWeek.FRIDAY)).isEqualTo(LocalDate.of(2026, 2, 27));
+  }
+
+  @Test
+  void givenMalformedWeekNumber_whenParse_thenThrowsValidationException() {
+    assertThrows(ValidationException.class, () -> WeekId.parse("202601"));
+    assertThrows(ValidationException.class, () -> WeekId.parse("2026"));
+    assertThrows(ValidationException.class, () -> WeekId.parse("2026x1"));
+    assertThrows(ValidationException.class, () -> WeekId.parse("202753"));
+  }
+
+  @Test
+  void givenWeeks_whenCompare_thenChronologicalOrder() {
+    assertThat(WeekId.of(2026, 53)).isLessThan(WeekId.of(2027, 1));
+    assertThat(WeekId.of(2026, 9)).isLessThan(WeekId.of(2026, 10));
+  }
+}
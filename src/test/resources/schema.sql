@@ -0,0 +1,2 @@
+-- uuid_generate_v4() of the uuid-ossp extension used by native inserts
+CREATE ALIAS IF NOT EXISTS uuid_generate_v4 FOR "java.util.UUID.randomUUID";